@@ -0,0 +1,107 @@
+package com.taskflow.taskflow.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Working days of one location: Monday to Friday minus its holidays. A prefix sum over epoch days
+ * ({@code workingBefore[i]} = working days in {@code [firstDay, firstDay + i)}) answers the
+ * business-day count of any range inside the precomputed years with two array reads. Immutable.
+ */
+public final class BusinessDayCalendar {
+
+    private final String location;
+    private final Set<LocalDate> holidays;
+    private final long firstDay;
+    private final int[] workingBefore;
+
+    private BusinessDayCalendar(String location, Set<LocalDate> holidays, long firstDay, int[] workingBefore) {
+        this.location = location;
+        this.holidays = holidays;
+        this.firstDay = firstDay;
+        this.workingBefore = workingBefore;
+    }
+
+    public static BusinessDayCalendar build(String location, Collection<LocalDate> holidays, int firstYear, int lastYear) {
+        Set<LocalDate> holidaySet = Set.copyOf(holidays);
+        LocalDate first = LocalDate.of(firstYear, 1, 1);
+        int days = (int) (LocalDate.of(lastYear, 12, 31).toEpochDay() - first.toEpochDay() + 1);
+
+        int[] workingBefore = new int[days + 1];
+        LocalDate day = first;
+        for (int i = 0; i < days; i++) {
+            workingBefore[i + 1] = workingBefore[i] + (isWorkingDay(day, holidaySet) ? 1 : 0);
+            day = day.plusDays(1);
+        }
+        return new BusinessDayCalendar(location, holidaySet, first.toEpochDay(), workingBefore);
+    }
+
+    public String location() {
+        return location;
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return isWorkingDay(date, holidays);
+    }
+
+    /**
+     * Working days in the inclusive range {@code [startDate, endDate]}; 0 when it is empty.
+     */
+    public int businessDays(LocalDate startDate, LocalDate endDate) {
+        long from = startDate.toEpochDay() - firstDay;
+        long to = endDate.toEpochDay() + 1 - firstDay;
+        if (to <= from) {
+            return 0;
+        }
+        if (from >= 0 && to < workingBefore.length) {
+            return workingBefore[(int) to] - workingBefore[(int) from];
+        }
+
+        // outside the precomputed years: count day by day
+        int count = 0;
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            if (isWorkingDay(day)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Working days of an inclusive range split by calendar year, in year order. Years without a
+     * working day in the range are still listed, with 0.
+     */
+    public Map<Integer, Integer> businessDaysPerYear(LocalDate startDate, LocalDate endDate) {
+        Map<Integer, Integer> perYear = new LinkedHashMap<>();
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            LocalDate from = year == startDate.getYear() ? startDate : LocalDate.of(year, 1, 1);
+            LocalDate to = year == endDate.getYear() ? endDate : LocalDate.of(year, 12, 31);
+            perYear.put(year, businessDays(from, to));
+        }
+        return perYear;
+    }
+
+    /**
+     * Working days of an inclusive range split by calendar month, in month order, every month of
+     * the range listed.
+     */
+    public Map<YearMonth, Integer> businessDaysPerMonth(LocalDate startDate, LocalDate endDate) {
+        Map<YearMonth, Integer> perMonth = new LinkedHashMap<>();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            LocalDate from = month.equals(YearMonth.from(startDate)) ? startDate : month.atDay(1);
+            LocalDate to = month.equals(YearMonth.from(endDate)) ? endDate : month.atEndOfMonth();
+            perMonth.put(month, businessDays(from, to));
+        }
+        return perMonth;
+    }
+
+    private static boolean isWorkingDay(LocalDate date, Set<LocalDate> holidays) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY && !holidays.contains(date);
+    }
+}
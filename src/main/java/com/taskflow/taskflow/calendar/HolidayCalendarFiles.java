@@ -0,0 +1,93 @@
+package com.taskflow.taskflow.calendar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads holiday dates from the two formats calendars are exported in:
+ * <ul>
+ *   <li>CSV: one holiday per line, the first column an ISO date ({@code 2025-04-18,Sexta-feira Santa});
+ *       blank lines, {@code #} comments and a header line are skipped.</li>
+ *   <li>ICS: the {@code DTSTART} date of every {@code VEVENT}; events with {@code RRULE:FREQ=YEARLY}
+ *       repeat on the same day every year from their start through {@code lastYear}.</li>
+ * </ul>
+ */
+public final class HolidayCalendarFiles {
+
+    private static final DateTimeFormatter ICS_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private HolidayCalendarFiles() {}
+
+    public static List<LocalDate> readCsv(Reader source) throws IOException {
+        List<LocalDate> dates = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                int comma = trimmed.indexOf(',');
+                String date = (comma < 0 ? trimmed : trimmed.substring(0, comma)).trim();
+                try {
+                    dates.add(LocalDate.parse(date));
+                } catch (DateTimeParseException ex) {
+                    // header or malformed line
+                }
+            }
+        }
+        return dates;
+    }
+
+    public static List<LocalDate> readIcs(Reader source, int lastYear) throws IOException {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate start = null;
+        boolean yearly = false;
+        for (String line : unfold(source)) {
+            String upper = line.toUpperCase();
+            if (upper.equals("BEGIN:VEVENT")) {
+                start = null;
+                yearly = false;
+            } else if (upper.startsWith("DTSTART")) {
+                String value = line.substring(line.lastIndexOf(':') + 1).trim();
+                start = value.length() >= 8 ? LocalDate.parse(value.substring(0, 8), ICS_DATE) : null;
+            } else if (upper.startsWith("RRULE") && upper.contains("FREQ=YEARLY")) {
+                yearly = true;
+            } else if (upper.equals("END:VEVENT") && start != null) {
+                dates.add(start);
+                for (int year = start.getYear() + 1; yearly && year <= lastYear; year++) {
+                    try {
+                        dates.add(LocalDate.of(year, start.getMonth(), start.getDayOfMonth()));
+                    } catch (DateTimeException ex) {
+                        // 29 February outside leap years
+                    }
+                }
+            }
+        }
+        return dates;
+    }
+
+    // RFC 5545 folds long lines; a continuation line starts with a space or tab
+    private static List<String> unfold(Reader source) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!lines.isEmpty() && (line.startsWith(" ") || line.startsWith("\t"))) {
+                    int last = lines.size() - 1;
+                    lines.set(last, lines.get(last) + line.substring(1));
+                } else {
+                    lines.add(line.trim());
+                }
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskflow.taskflow.calendar;
+
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Business-day calendars per location, built once at startup from the {@code .ics} and {@code .csv}
+ * files under {@code app.calendars.path}. The file name is the location code ({@code BR.ics},
+ * {@code BR.csv}); files sharing a name are merged. Employees without a location, or with one that
+ * has no calendar, use {@code app.calendars.default-location}.
+ */
+@Component
+public class HolidayCalendars {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayCalendars.class);
+
+    static final int YEARS_BEFORE = 5;
+    static final int YEARS_AFTER = 10;
+
+    private final EmployeeRepository employeeRepository;
+    private final Map<String, BusinessDayCalendar> calendars;
+    private final BusinessDayCalendar defaultCalendar;
+
+    public HolidayCalendars(EmployeeRepository employeeRepository,
+                            ResourcePatternResolver resourceResolver,
+                            @Value("${app.calendars.path:classpath:calendars/}") String path,
+                            @Value("${app.calendars.default-location:BR}") String defaultLocation) throws IOException {
+        this.employeeRepository = employeeRepository;
+
+        int firstYear = LocalDate.now().getYear() - YEARS_BEFORE;
+        int lastYear = LocalDate.now().getYear() + YEARS_AFTER;
+        String base = path.endsWith("/") ? path : path + "/";
+
+        Map<String, List<LocalDate>> holidays = new HashMap<>();
+        for (Resource resource : resourceResolver.getResources(base + "*.ics")) {
+            try (Reader reader = open(resource)) {
+                holidays.computeIfAbsent(locationOf(resource), l -> new ArrayList<>())
+                        .addAll(HolidayCalendarFiles.readIcs(reader, lastYear));
+            }
+        }
+        for (Resource resource : resourceResolver.getResources(base + "*.csv")) {
+            try (Reader reader = open(resource)) {
+                holidays.computeIfAbsent(locationOf(resource), l -> new ArrayList<>())
+                        .addAll(HolidayCalendarFiles.readCsv(reader));
+            }
+        }
+
+        Map<String, BusinessDayCalendar> built = new HashMap<>();
+        holidays.forEach((location, dates) ->
+                built.put(location, BusinessDayCalendar.build(location, dates, firstYear, lastYear)));
+        this.calendars = Map.copyOf(built);
+
+        String defaultKey = normalize(defaultLocation);
+        BusinessDayCalendar fallback = calendars.get(defaultKey);
+        if (fallback == null) {
+            log.warn("No holiday calendar for default location {}; only weekends are non-working days", defaultKey);
+            fallback = BusinessDayCalendar.build(defaultKey, List.of(), firstYear, lastYear);
+        }
+        this.defaultCalendar = fallback;
+        log.info("Loaded holiday calendars for {}", calendars.keySet());
+    }
+
+    public BusinessDayCalendar forLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return defaultCalendar;
+        }
+        return calendars.getOrDefault(normalize(location), defaultCalendar);
+    }
+
+    public BusinessDayCalendar forEmployee(UUID employeeId) {
+        return employeeRepository.findLocationById(employeeId)
+                .map(this::forLocation)
+                .orElse(defaultCalendar);
+    }
+
+    private static Reader open(Resource resource) throws IOException {
+        return new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
+    }
+
+    private static String locationOf(Resource resource) {
+        String name = resource.getFilename();
+        int dot = name.lastIndexOf('.');
+        return normalize(dot < 0 ? name : name.substring(0, dot));
+    }
+
+    private static String normalize(String location) {
+        return location.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -1,9 +1,13 @@
 package com.taskflow.taskflow.controller;
 
 import com.taskflow.taskflow.dto.ApiResponse;
+import com.taskflow.taskflow.dto.BatchIdsInput;
+import com.taskflow.taskflow.dto.BatchLookupResponse;
 import com.taskflow.taskflow.dto.EmployeeInput;
 import com.taskflow.taskflow.dto.EmployeeManagerResponse;
+import com.taskflow.taskflow.dto.EmployeeResponse;
 import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.service.EmployeeHistoryService;
 import com.taskflow.taskflow.service.EmployeeService;
 import com.taskflow.taskflow.util.EmployeeMapper;
 import com.taskflow.taskflow.util.PagingResponseBuilder;
@@ -14,6 +18,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,9 +36,11 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class EmployeeController {
     private final EmployeeService employeeService;
+    private final EmployeeHistoryService employeeHistoryService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeHistoryService employeeHistoryService) {
         this.employeeService = employeeService;
+        this.employeeHistoryService = employeeHistoryService;
     }
 
     @PreAuthorize("@authorizationService.isAdmin()")
@@ -120,6 +128,30 @@ public class EmployeeController {
         return ApiResponse.ok("Managers fetched successfully", managers);
     }
 
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @GetMapping("/history")
+    @Operation(
+            summary = "Get Org Chart as of Date",
+            description = "Fetches every employee (name, role, manager) as recorded at the end of the given date (Admin only)"
+    )
+    public ApiResponse getOrgChartAsOf(
+            @Parameter(description = "Data de referência (yyyy-MM-dd)")
+            @RequestParam("asOf") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return ApiResponse.ok("Employee history fetched successfully",
+                employeeHistoryService.findOrgChartAsOf(asOf).stream().map(EmployeeMapper::toHistoryResponse).toList());
+    }
+
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @GetMapping("/{id}/history")
+    @Operation(
+            summary = "Get Employee History",
+            description = "Fetches every recorded version of an employee with its validity range (Admin only)"
+    )
+    public ApiResponse getHistory(@PathVariable UUID id) {
+        return ApiResponse.ok("Employee history fetched successfully",
+                employeeHistoryService.findHistory(id).stream().map(EmployeeMapper::toHistoryResponse).toList());
+    }
+
     @GetMapping("/me")
     @Operation(
             summary = "Get Current User",
@@ -140,6 +172,16 @@ public class EmployeeController {
         return ApiResponse.ok("Employee fetched successfully", EmployeeMapper.toResponse(e));
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Get Employees by IDs",
+            description = "Fetches up to " + BatchIdsInput.MAX_IDS + " employees by ID in a single request"
+    )
+    public ApiResponse getBatch(@Valid @RequestBody BatchIdsInput input) {
+        BatchLookupResponse<EmployeeResponse> result = employeeService.findAllByIds(input.getIds());
+        return ApiResponse.ok("Employees fetched successfully", result);
+    }
+
     @PreAuthorize("@authorizationService.isAdmin()")
     @PostMapping
     @Operation(
@@ -0,0 +1,96 @@
+package com.taskflow.taskflow.controller;
+
+import com.taskflow.taskflow.dto.ApiResponse;
+import com.taskflow.taskflow.dto.FeedTokenInput;
+import com.taskflow.taskflow.dto.FeedTokenResponse;
+import com.taskflow.taskflow.service.FeedTokenService;
+import com.taskflow.taskflow.service.VacationFeedService;
+import com.taskflow.taskflow.service.VacationFeedService.FeedKey;
+import com.taskflow.taskflow.service.VacationFeedService.RenderedFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/feeds")
+@Tag(name = "Feeds", description = "iCalendar feeds of approved vacations")
+public class FeedController {
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final FeedTokenService feedTokenService;
+    private final VacationFeedService vacationFeedService;
+
+    public FeedController(FeedTokenService feedTokenService, VacationFeedService vacationFeedService) {
+        this.feedTokenService = feedTokenService;
+        this.vacationFeedService = vacationFeedService;
+    }
+
+    @PostMapping("/tokens")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+        summary = "Create Feed Token",
+        description = "Issues a feed URL for the caller's own vacations (PERSONAL) or their direct reports' (TEAM, managers only). The token is only shown once"
+    )
+    public ResponseEntity<ApiResponse> createToken(@Valid @RequestBody FeedTokenInput input) {
+        FeedTokenResponse created = feedTokenService.create(input.getScope());
+        ApiResponse body = ApiResponse.of(HttpStatus.CREATED.value(), "Feed token created", created);
+        return ResponseEntity.status(HttpStatus.CREATED).body(body);
+    }
+
+    @GetMapping("/tokens")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+        summary = "List Feed Tokens",
+        description = "Lists the caller's active feed tokens, without their secrets"
+    )
+    public ApiResponse getTokens() {
+        List<FeedTokenResponse> tokens = feedTokenService.findMine();
+        return ApiResponse.ok("Feed tokens fetched successfully", tokens);
+    }
+
+    @DeleteMapping("/tokens/{id}")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+        summary = "Revoke Feed Token",
+        description = "Turns a feed URL off (Owner or Admin only)"
+    )
+    public ApiResponse revokeToken(@PathVariable UUID id) {
+        feedTokenService.revoke(id);
+        return ApiResponse.ok("Feed token revoked");
+    }
+
+    @GetMapping("/{token}.ics")
+    @Operation(
+        summary = "Vacation Feed",
+        description = "iCalendar feed of approved vacations, authenticated by the token in the URL. Supports If-None-Match"
+    )
+    public ResponseEntity<byte[]> getFeed(
+        @Parameter(description = "Token do feed")
+        @PathVariable String token,
+        WebRequest request) {
+        FeedKey key = feedTokenService.resolve(token)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Feed not found"));
+        RenderedFeed feed = vacationFeedService.render(key);
+        if (request.checkNotModified(feed.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(feed.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(feed.body());
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.taskflow.controller;
+
+import com.taskflow.taskflow.dto.ApiResponse;
+import com.taskflow.taskflow.dto.VacationPolicyInput;
+import com.taskflow.taskflow.dto.VacationPolicyResponse;
+import com.taskflow.taskflow.service.VacationPolicyService;
+import com.taskflow.taskflow.util.UriUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/policies")
+@Tag(name = "Policies", description = "Scheduling rules checked when vacations are requested")
+@SecurityRequirement(name = "bearerAuth")
+public class PolicyController {
+
+    private final VacationPolicyService vacationPolicyService;
+
+    public PolicyController(VacationPolicyService vacationPolicyService) {
+        this.vacationPolicyService = vacationPolicyService;
+    }
+
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @GetMapping
+    @Operation(
+            summary = "List Policies",
+            description = "Lists every vacation policy, enabled or not (Admin only)"
+    )
+    public ApiResponse getPolicies() {
+        return ApiResponse.ok("Policies fetched successfully", vacationPolicyService.findAll());
+    }
+
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @PostMapping
+    @Operation(
+            summary = "Create Policy",
+            description = "Creates a blackout, quarter-end blackout, team limit or lead time policy; it applies to requests made once it is saved (Admin only)"
+    )
+    public ResponseEntity<ApiResponse> create(@Valid @RequestBody VacationPolicyInput input) {
+        VacationPolicyResponse created = vacationPolicyService.create(input);
+        URI location = UriUtils.locationForCurrentRequest(created.getId());
+
+        ApiResponse body = ApiResponse.of(HttpStatus.CREATED.value(), "Policy created successfully", created);
+        return ResponseEntity.created(location).body(body);
+    }
+
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @PutMapping("/{id}")
+    @Operation(
+            summary = "Update Policy",
+            description = "Replaces a policy (Admin only)"
+    )
+    public ApiResponse update(@PathVariable UUID id, @Valid @RequestBody VacationPolicyInput input) {
+        return ApiResponse.ok("Policy updated successfully", vacationPolicyService.update(id, input));
+    }
+
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @DeleteMapping("/{id}")
+    @Operation(
+            summary = "Delete Policy",
+            description = "Deletes a policy (Admin only)"
+    )
+    public ApiResponse delete(@PathVariable UUID id) {
+        vacationPolicyService.delete(id);
+        return ApiResponse.ok("Policy deleted successfully");
+    }
+}
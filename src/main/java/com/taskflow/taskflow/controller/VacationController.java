@@ -1,11 +1,36 @@
 package com.taskflow.taskflow.controller;
 
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.AnalyticsQueryInput;
 import com.taskflow.taskflow.dto.ApiResponse;
+import com.taskflow.taskflow.dto.BatchIdsInput;
+import com.taskflow.taskflow.dto.BatchLookupResponse;
+import com.taskflow.taskflow.dto.BulkDecisionInput;
+import com.taskflow.taskflow.dto.BulkDecisionResult;
+import com.taskflow.taskflow.dto.CommonAvailabilityInput;
+import com.taskflow.taskflow.dto.CommonAvailabilityResponse;
+import com.taskflow.taskflow.dto.ScheduleOptimizationInput;
+import com.taskflow.taskflow.dto.TeamCoverageResponse;
 import com.taskflow.taskflow.dto.VacationDecisionInput;
+import com.taskflow.taskflow.dto.VacationFilter;
 import com.taskflow.taskflow.dto.VacationInput;
 import com.taskflow.taskflow.dto.VacationResponse;
+import com.taskflow.taskflow.dto.VacationSuggestionResponse;
+import com.taskflow.taskflow.index.FactQuery;
 import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.service.AbsenceRollupService;
+import com.taskflow.taskflow.service.ApprovalInboxService;
+import com.taskflow.taskflow.service.CommonAvailabilityService;
+import com.taskflow.taskflow.service.ScheduleOptimizerService;
+import com.taskflow.taskflow.service.TeamCoverageService;
+import com.taskflow.taskflow.service.VacationAnalyticsService;
+import com.taskflow.taskflow.service.VacationArchiveService;
+import com.taskflow.taskflow.service.VacationBalanceService;
 import com.taskflow.taskflow.service.VacationService;
+import com.taskflow.taskflow.service.VacationSubmissionService;
+import com.taskflow.taskflow.service.WhosOutService;
+import com.taskflow.taskflow.service.YearViewService;
+import com.taskflow.taskflow.service.YearViewService.RenderedYearView;
 import com.taskflow.taskflow.util.PagingResponseBuilder;
 import com.taskflow.taskflow.util.VacationMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,13 +39,20 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.taskflow.taskflow.util.VacationMapper.toResponse;
 
@@ -31,9 +63,42 @@ import static com.taskflow.taskflow.util.VacationMapper.toResponse;
 public class VacationController {
 
     private final VacationService vacationService;
+    private final VacationSubmissionService vacationSubmissionService;
+    private final TeamCoverageService teamCoverageService;
+    private final CommonAvailabilityService commonAvailabilityService;
+    private final WhosOutService whosOutService;
+    private final VacationBalanceService vacationBalanceService;
+    private final AbsenceRollupService absenceRollupService;
+    private final VacationAnalyticsService vacationAnalyticsService;
+    private final ApprovalInboxService approvalInboxService;
+    private final VacationArchiveService vacationArchiveService;
+    private final ScheduleOptimizerService scheduleOptimizerService;
+    private final YearViewService yearViewService;
 
-    public VacationController(VacationService vacationService) {
+    public VacationController(VacationService vacationService,
+                              VacationSubmissionService vacationSubmissionService,
+                              TeamCoverageService teamCoverageService,
+                              CommonAvailabilityService commonAvailabilityService,
+                              WhosOutService whosOutService,
+                              VacationBalanceService vacationBalanceService,
+                              AbsenceRollupService absenceRollupService,
+                              VacationAnalyticsService vacationAnalyticsService,
+                              ApprovalInboxService approvalInboxService,
+                              VacationArchiveService vacationArchiveService,
+                              ScheduleOptimizerService scheduleOptimizerService,
+                              YearViewService yearViewService) {
         this.vacationService = vacationService;
+        this.vacationSubmissionService = vacationSubmissionService;
+        this.teamCoverageService = teamCoverageService;
+        this.commonAvailabilityService = commonAvailabilityService;
+        this.whosOutService = whosOutService;
+        this.vacationBalanceService = vacationBalanceService;
+        this.absenceRollupService = absenceRollupService;
+        this.vacationAnalyticsService = vacationAnalyticsService;
+        this.approvalInboxService = approvalInboxService;
+        this.vacationArchiveService = vacationArchiveService;
+        this.scheduleOptimizerService = scheduleOptimizerService;
+        this.yearViewService = yearViewService;
     }
 
     @PostMapping
@@ -42,7 +107,7 @@ public class VacationController {
         description = "Creates a new vacation request for the current user"
     )
     public ResponseEntity<ApiResponse> create(@Valid @RequestBody VacationInput vacationInput) {
-        Vacation created = vacationService.create(vacationInput);
+        Vacation created = vacationSubmissionService.create(vacationInput);
         VacationResponse resp = toResponse(created);
         ApiResponse body = ApiResponse.of(HttpStatus.CREATED.value(), "Vacation request created", resp);
         return ResponseEntity.status(HttpStatus.CREATED).body(body);
@@ -55,16 +120,239 @@ public class VacationController {
     )
     public ApiResponse getVacations(
         @Parameter(description = "Número da página (0-based)")
-        @RequestParam(value = "page", required = false) Integer page) {
+        @RequestParam(value = "page", required = false) Integer page,
+        @Parameter(description = "Para gerentes, incluir subordinados indiretos")
+        @RequestParam(value = "transitive", defaultValue = "false") boolean transitive) {
         int pageIndex = page == null ? 0 : page;
         if (pageIndex < 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page index must be >= 0");
         }
 
-        Page<Vacation> pageResult = vacationService.findAll(pageIndex);
+        Page<Vacation> pageResult = vacationService.findAll(pageIndex, transitive);
         return PagingResponseBuilder.build(pageResult, VacationMapper::toResponse, "Vacations fetched successfully");
     }
 
+    @GetMapping("/search")
+    @Operation(
+        summary = "Search Vacations",
+        description = "Lists the vacations visible to the caller, filtered and ordered by start date then id, one keyset page at a time"
+    )
+    public ApiResponse searchVacations(
+        @Parameter(description = "Status da solicitação")
+        @RequestParam(value = "status", required = false) VacationStatus status,
+        @Parameter(description = "Início do período (yyyy-MM-dd); férias que terminam nesta data ou depois")
+        @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "Fim do período (yyyy-MM-dd); férias que começam nesta data ou antes")
+        @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(description = "ID do solicitante")
+        @RequestParam(value = "requesterId", required = false) UUID requesterId,
+        @Parameter(description = "ID de quem decidiu")
+        @RequestParam(value = "decidedBy", required = false) UUID decidedBy,
+        @Parameter(description = "Somente solicitações pendentes dos meus subordinados")
+        @RequestParam(value = "pendingForMe", defaultValue = "false") boolean pendingForMe,
+        @Parameter(description = "Cursor retornado pela página anterior")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Tamanho da página (1-" + VacationService.MAX_SEARCH_SIZE + ")")
+        @RequestParam(value = "size", required = false) Integer size) {
+        VacationFilter filter = new VacationFilter(status, from, to, requesterId, decidedBy, pendingForMe);
+        return ApiResponse.ok("Vacations fetched successfully", vacationService.search(filter, cursor, size));
+    }
+
+    @GetMapping("/inbox")
+    @PreAuthorize("@authorizationService.isAdminOrManagerOfTeam()")
+    @Operation(
+        summary = "Approval Inbox",
+        description = "Lists the pending requests of the caller's direct reports, soonest start first, one keyset page at a time"
+    )
+    public ApiResponse getInbox(
+        @Parameter(description = "Cursor retornado pela página anterior")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Tamanho da página (1-" + VacationService.MAX_SEARCH_SIZE + ")")
+        @RequestParam(value = "size", required = false) Integer size) {
+        return ApiResponse.ok("Inbox fetched successfully", approvalInboxService.inbox(cursor, size));
+    }
+
+    @GetMapping("/inbox/count")
+    @Operation(
+        summary = "Approval Inbox Count",
+        description = "Returns how many requests await the caller's decision, from in-memory counters; zero for callers without reports"
+    )
+    public ApiResponse getInboxCount() {
+        return ApiResponse.ok("Inbox count fetched successfully", approvalInboxService.count());
+    }
+
+    @GetMapping("/suggestions")
+    @Operation(
+        summary = "Suggest Vacation Windows",
+        description = "Suggests free windows with the same length as the requested dates, nearest first in either direction, for the current user"
+    )
+    public ApiResponse getSuggestions(
+        @Parameter(description = "Data de início desejada (yyyy-MM-dd)")
+        @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @Parameter(description = "Data de término desejada (yyyy-MM-dd)")
+        @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @Parameter(description = "Número máximo de sugestões (1-" + VacationService.MAX_SUGGESTIONS + ")")
+        @RequestParam(value = "limit", required = false) Integer limit) {
+        List<VacationSuggestionResponse> suggestions = vacationService.suggest(startDate, endDate, limit).stream()
+                .map(s -> VacationMapper.toSuggestionResponse(s, startDate))
+                .toList();
+        return ApiResponse.ok("Vacation suggestions fetched successfully", suggestions);
+    }
+
+    @PreAuthorize("@authorizationService.isAdminOrManagerOfTeam()")
+    @PostMapping("/availability/common")
+    @Operation(
+        summary = "Common Availability",
+        description = "Date windows within a range in which none of the given employees, or nobody in a manager's reporting tree, has a pending or approved vacation (Admin/Manager only)"
+    )
+    public ApiResponse getCommonAvailability(@Valid @RequestBody CommonAvailabilityInput req) {
+        CommonAvailabilityResponse availability = commonAvailabilityService.findCommonAvailability(req);
+        return ApiResponse.ok("Common availability fetched successfully", availability);
+    }
+
+    @PreAuthorize("@authorizationService.isAdminOrManagerOfTeam()")
+    @GetMapping("/year-view")
+    @Operation(
+        summary = "Year View",
+        description = "Run-length-encoded pending and approved days of one year per employee, for calendar grids: the whole organization (Admin, without managerId) or a manager's reporting tree. Supports If-None-Match (Admin/Manager only)"
+    )
+    public ResponseEntity<ApiResponse> getYearView(
+        @Parameter(description = "Ano (yyyy)")
+        @RequestParam("year") int year,
+        @Parameter(description = "ID do gestor cuja hierarquia será exibida (Admin: padrão é toda a organização; Gestor: padrão é o usuário atual)")
+        @RequestParam(value = "managerId", required = false) UUID managerId,
+        WebRequest request) {
+        RenderedYearView rendered = yearViewService.find(managerId, year);
+        if (request.checkNotModified(rendered.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(rendered.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.ok("Year view fetched successfully", rendered.view()));
+    }
+
+    @PreAuthorize("@authorizationService.isAdminOrManagerOfTeam()")
+    @GetMapping("/coverage")
+    @Operation(
+        summary = "Team Coverage",
+        description = "Per-day count of team members on leave or pending, flagging days below the minimum staffing (Admin/Manager only)"
+    )
+    public ApiResponse getCoverage(
+        @Parameter(description = "Data inicial (yyyy-MM-dd)")
+        @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "Data final (yyyy-MM-dd)")
+        @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(description = "ID do gestor (apenas Admin; padrão: usuário atual)")
+        @RequestParam(value = "managerId", required = false) UUID managerId,
+        @Parameter(description = "Incluir toda a hierarquia abaixo do gestor")
+        @RequestParam(value = "transitive", defaultValue = "false") boolean transitive,
+        @Parameter(description = "Número mínimo de pessoas disponíveis por dia")
+        @RequestParam(value = "minStaffing", required = false) Integer minStaffing) {
+        TeamCoverageResponse coverage = teamCoverageService.findCoverage(managerId, from, to, transitive, minStaffing);
+        return ApiResponse.ok("Team coverage fetched successfully", coverage);
+    }
+
+    @PreAuthorize("@authorizationService.isAdminOrManagerOfTeam()")
+    @GetMapping("/absences")
+    @Operation(
+        summary = "Monthly Absence Report",
+        description = "Business days off per month, manager and status, read from the precomputed rollups; defaults to the last " + AbsenceRollupService.MAX_REPORT_MONTHS + " months (Admin/Manager only)"
+    )
+    public ApiResponse getAbsenceReport(
+        @Parameter(description = "ID do gestor (apenas Admin; padrão: usuário atual, ou todos para Admin)")
+        @RequestParam(value = "managerId", required = false) UUID managerId,
+        @Parameter(description = "Mês inicial (yyyy-MM)")
+        @RequestParam(value = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+        @Parameter(description = "Mês final (yyyy-MM, padrão: mês atual)")
+        @RequestParam(value = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ApiResponse.ok("Absence report fetched successfully", absenceRollupService.findReport(managerId, from, to));
+    }
+
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @PostMapping("/absences/rebuild")
+    @Operation(
+        summary = "Rebuild Monthly Absence Rollups",
+        description = "Recomputes the rollups of a month range from the vacations, for backfills; vacation changes wait while it runs (Admin only)"
+    )
+    public ApiResponse rebuildAbsences(
+        @Parameter(description = "Mês inicial (yyyy-MM)")
+        @RequestParam(value = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+        @Parameter(description = "Mês final (yyyy-MM, padrão: mês atual)")
+        @RequestParam(value = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ApiResponse.ok("Absence rollups rebuilt", absenceRollupService.rebuild(from, to));
+    }
+
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @PostMapping("/archive")
+    @Operation(
+        summary = "Archive Closed Years",
+        description = "Moves vacations that ended before the years kept live into the year-partitioned archive (Admin only)"
+    )
+    public ApiResponse archive() {
+        return ApiResponse.ok("Vacations archived", vacationArchiveService.archive());
+    }
+
+    @GetMapping("/history")
+    @Operation(
+        summary = "Archived Vacations",
+        description = "Lists the archived vacations that started in the given year; defaults to the current user"
+    )
+    public ApiResponse getHistory(
+        @Parameter(description = "ID do colaborador (somente Admin para outros colaboradores)")
+        @RequestParam(value = "employeeId", required = false) UUID employeeId,
+        @Parameter(description = "Ano de início das férias arquivadas")
+        @RequestParam("year") Integer year) {
+        return ApiResponse.ok("Archived vacations fetched successfully", vacationArchiveService.findHistory(employeeId, year));
+    }
+
+    @PreAuthorize("@authorizationService.isAdmin()")
+    @PostMapping("/analytics")
+    @Operation(
+        summary = "Vacation Analytics",
+        description = "Counts vacations, or sums, averages and ranks a per-vacation metric, grouped by up to " + FactQuery.MAX_GROUP_BY + " dimensions, from the in-memory column store (Admin only)"
+    )
+    public ApiResponse analytics(@Valid @RequestBody AnalyticsQueryInput req) {
+        return ApiResponse.ok("Vacation analytics computed", vacationAnalyticsService.query(req));
+    }
+
+    @GetMapping("/balance")
+    @Operation(
+        summary = "Vacation Balance",
+        description = "Shows accrued, reserved (pending), used and available days for a year; defaults to the current user and year"
+    )
+    public ApiResponse getBalance(
+        @Parameter(description = "ID do colaborador (somente Admin para outros colaboradores)")
+        @RequestParam(value = "employeeId", required = false) UUID employeeId,
+        @Parameter(description = "Ano (padrão: ano atual)")
+        @RequestParam(value = "year", required = false) Integer year) {
+        return ApiResponse.ok("Vacation balance fetched successfully", vacationBalanceService.findBalance(employeeId, year));
+    }
+
+    @GetMapping("/whos-out")
+    @Operation(
+        summary = "Who's Out",
+        description = "Lists everyone on approved (and optionally pending) leave on any day of the range; defaults to today"
+    )
+    public ApiResponse getWhosOut(
+        @Parameter(description = "Data inicial (yyyy-MM-dd, padrão: hoje)")
+        @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "Data final (yyyy-MM-dd, padrão: data inicial)")
+        @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(description = "Incluir solicitações pendentes")
+        @RequestParam(value = "includePending", defaultValue = "false") boolean includePending) {
+        return ApiResponse.ok("Who's out fetched successfully", whosOutService.findWhosOut(from, to, includePending));
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Get Vacation Requests by IDs",
+        description = "Fetches up to " + BatchIdsInput.MAX_IDS + " vacation requests by ID in a single request (Admin or Owner per item)"
+    )
+    public ApiResponse getBatch(@Valid @RequestBody BatchIdsInput input) {
+        BatchLookupResponse<VacationResponse> result = vacationService.findAllByIds(input.getIds());
+        return ApiResponse.ok("Vacations fetched successfully", result);
+    }
 
     @PreAuthorize("@authorizationService.isAdminOrOwner(#id)")
     @DeleteMapping("/{id}")
@@ -102,4 +390,26 @@ public class VacationController {
         Vacation updated = vacationService.decide(id, req.getApproved(), req.getComment());
         return ApiResponse.ok("Vacation decision applied", VacationMapper.toResponse(updated));
     }
+
+    @PreAuthorize("@authorizationService.isAdminOrManagerOfTeam()")
+    @PostMapping("/decisions")
+    @Operation(
+        summary = "Decide on Vacation Requests in Bulk",
+        description = "Approves or rejects many pending vacation requests in one transaction and reports the outcome of each (Manager only)"
+    )
+    public ApiResponse decideAll(@Valid @RequestBody BulkDecisionInput req) {
+        List<BulkDecisionResult> results = vacationService.decideAll(req.getDecisions());
+        return ApiResponse.ok("Vacation decisions applied", results);
+    }
+
+    @PreAuthorize("@authorizationService.isAdminOrManagerOfTeam()")
+    @PostMapping("/decisions/optimize")
+    @Operation(
+        summary = "Optimize Contested Requests",
+        description = "Proposes which pending requests of a team to approve for a period so no day drops below the minimum staffing, maximizing granted days or a fairness-weighted score. Nothing is decided; the proposal can be sent to the bulk decision endpoint (Admin/Manager only)"
+    )
+    public CompletableFuture<ApiResponse> optimizeDecisions(@Valid @RequestBody ScheduleOptimizationInput req) {
+        return scheduleOptimizerService.optimize(req)
+                .thenApply(result -> ApiResponse.ok("Schedule optimized", result));
+    }
 }
@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.data;
+
+public enum DecisionOutcome {
+    APPROVED,
+    REJECTED,
+    NOT_FOUND,
+    FORBIDDEN,
+    NOT_PENDING,
+    DUPLICATE
+}
@@ -0,0 +1,6 @@
+package com.taskflow.taskflow.data;
+
+public enum FeedScope {
+    PERSONAL,
+    TEAM
+}
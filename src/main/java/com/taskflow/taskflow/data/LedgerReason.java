@@ -0,0 +1,9 @@
+package com.taskflow.taskflow.data;
+
+public enum LedgerReason {
+    ACCRUAL,
+    OPENING,
+    CREATED,
+    DECIDED,
+    DELETED
+}
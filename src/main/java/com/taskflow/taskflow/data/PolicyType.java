@@ -0,0 +1,12 @@
+package com.taskflow.taskflow.data;
+
+public enum PolicyType {
+    /** No vacation may touch [periodStart, periodEnd]. */
+    BLACKOUT,
+    /** No vacation may touch the last {@code days} days of any fiscal quarter. */
+    QUARTER_END_BLACKOUT,
+    /** At most {@code maxPercent}% of a team (the manager's direct reports) out on the same day. */
+    MAX_CONCURRENT_PERCENT,
+    /** Vacations of at least {@code minVacationDays} days are requested {@code days} days ahead. */
+    LEAD_TIME
+}
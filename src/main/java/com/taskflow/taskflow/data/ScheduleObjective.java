@@ -0,0 +1,8 @@
+package com.taskflow.taskflow.data;
+
+public enum ScheduleObjective {
+    /** Approve as many vacation days as possible. */
+    GRANTED_DAYS,
+    /** Weigh each request's days by how little of the year's allowance its requester has used. */
+    FAIRNESS
+}
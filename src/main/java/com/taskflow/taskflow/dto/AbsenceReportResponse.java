@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbsenceReportResponse {
+    private YearMonth from;
+    private YearMonth to;
+    private UUID managerId;
+    private List<MonthlyAbsenceEntry> months;
+}
@@ -0,0 +1,42 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.index.FactDimension;
+import com.taskflow.taskflow.index.FactMetric;
+import com.taskflow.taskflow.index.FactQuery;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsQueryInput {
+
+    public static final int MAX_PERCENTILES = 10;
+
+    @Size(max = FactQuery.MAX_GROUP_BY, message = "At most " + FactQuery.MAX_GROUP_BY + " group-by dimensions are allowed")
+    private List<@NotNull FactDimension> groupBy;
+
+    // without a metric, groups are only counted
+    private FactMetric metric;
+
+    @Size(max = MAX_PERCENTILES, message = "At most " + MAX_PERCENTILES + " percentiles are allowed")
+    private List<@NotNull @DecimalMin(value = "0", message = "Percentiles must be between 0 and 100")
+            @DecimalMax(value = "100", message = "Percentiles must be between 0 and 100") Double> percentiles;
+
+    private Set<VacationStatus> statuses;
+    private Role role;
+    // vacations starting within [startFrom, startTo]; either bound may be open
+    private LocalDate startFrom;
+    private LocalDate startTo;
+}
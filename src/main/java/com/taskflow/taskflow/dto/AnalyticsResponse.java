@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.index.FactGroup;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsResponse {
+    private int vacations;
+    private List<FactGroup> groups;
+}
@@ -0,0 +1,18 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveRunResponse {
+    // vacations that ended before this date were archived
+    private LocalDate cutoff;
+    private List<Integer> years;
+    private int vacations;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLookupResponse<T> {
+    private List<T> items;
+    private List<UUID> notFound;
+    private List<UUID> forbidden;
+}
@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.dto;
+
+/**
+ * What one vacation holds in one balance year: the sum of its own ledger entries per bucket.
+ */
+public record BookedDays(int year, long pendingDays, long usedDays) {
+
+    public long total() {
+        return pendingDays + usedDays;
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.taskflow.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionInput {
+
+    public static final int MAX_DECISIONS = 500;
+
+    @NotEmpty(message = "At least one decision is required")
+    @Size(max = MAX_DECISIONS, message = "At most " + MAX_DECISIONS + " decisions can be applied at once")
+    private List<@Valid @NotNull BulkDecisionItem> decisions;
+}
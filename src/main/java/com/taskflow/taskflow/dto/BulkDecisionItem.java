@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionItem {
+    @NotNull
+    private UUID id;
+    @NotNull
+    private Boolean approved;
+    private String comment;
+}
@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.DecisionOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionResult {
+    private UUID id;
+    private DecisionOutcome outcome;
+}
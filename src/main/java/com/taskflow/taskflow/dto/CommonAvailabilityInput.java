@@ -0,0 +1,36 @@
+package com.taskflow.taskflow.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommonAvailabilityInput {
+
+    public static final int MAX_EMPLOYEES = 1000;
+
+    @NotNull(message = "From date is required")
+    private LocalDate from;
+
+    @NotNull(message = "To date is required")
+    private LocalDate to;
+
+    // either the group itself, or a manager whose whole reporting tree (the manager included) is the group
+    @Size(max = MAX_EMPLOYEES, message = "At most " + MAX_EMPLOYEES + " employees can be checked at once")
+    private List<@NotNull UUID> employeeIds;
+
+    private UUID managerId;
+
+    // shortest window worth returning, in days; defaults to 1
+    @Min(value = 1, message = "Minimum length must be at least 1 day")
+    private Integer minLength;
+}
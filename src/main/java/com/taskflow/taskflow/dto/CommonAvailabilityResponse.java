@@ -0,0 +1,18 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommonAvailabilityResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private int employees;
+    private List<FreeWindow> windows;
+}
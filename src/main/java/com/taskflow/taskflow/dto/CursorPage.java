@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    // pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+}
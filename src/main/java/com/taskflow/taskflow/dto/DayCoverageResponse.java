@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DayCoverageResponse {
+    private LocalDate date;
+    private int onLeave;
+    private int pending;
+    private int available;
+    private boolean belowMinimum;
+    private boolean belowMinimumIfPendingApproved;
+}
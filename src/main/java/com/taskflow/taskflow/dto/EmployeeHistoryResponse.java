@@ -0,0 +1,23 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistoryResponse {
+    private UUID employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private Role role;
+    private UUID managerId;
+    private Instant validFrom;
+    private Instant validTo;
+}
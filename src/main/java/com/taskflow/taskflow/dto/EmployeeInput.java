@@ -37,4 +37,7 @@ public class EmployeeInput {
 
     @NotNull(message = "Manager is required")
     private UUID managerId;
+
+    @Size(max = 32, message = "Location must be at most 32 characters")
+    private String location;
 }
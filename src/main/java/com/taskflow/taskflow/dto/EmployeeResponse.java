@@ -17,4 +17,5 @@ public class EmployeeResponse {
     private String email;
     private Role role;
     private UUID managerId;
+    private String location;
 }
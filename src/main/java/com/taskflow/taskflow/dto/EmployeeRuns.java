@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeRuns {
+    private UUID employeeId;
+    // flat triples (start epoch day, length in days, index into YearViewResponse.statuses), by start
+    private int[] runs;
+}
@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * An approved vacation as it appears in a calendar feed.
+ */
+public record FeedEntry(UUID vacationId, String firstName, String lastName,
+                        LocalDate startDate, LocalDate endDate, LocalDate decidedAt) {
+}
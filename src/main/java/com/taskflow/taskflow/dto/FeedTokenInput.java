@@ -0,0 +1,15 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.FeedScope;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedTokenInput {
+    @NotNull(message = "Scope is required")
+    private FeedScope scope;
+}
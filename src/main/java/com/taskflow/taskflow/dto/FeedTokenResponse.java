@@ -0,0 +1,21 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.FeedScope;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedTokenResponse {
+    private UUID id;
+    private FeedScope scope;
+    private Instant createdAt;
+    // the secret and its feed path are only returned when the token is created
+    private String token;
+    private String feedPath;
+}
@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeWindow {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int days;
+}
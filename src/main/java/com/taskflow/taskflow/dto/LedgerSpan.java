@@ -0,0 +1,13 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.VacationStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One held vacation as a balance year is opened with it, keeping the id so that the opening entry
+ * can be booked against the vacation.
+ */
+public record LedgerSpan(UUID vacationId, LocalDate startDate, LocalDate endDate, VacationStatus status) {
+}
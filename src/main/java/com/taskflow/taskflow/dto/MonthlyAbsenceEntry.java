@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyAbsenceEntry {
+    private YearMonth month;
+    private UUID managerId;
+    private VacationStatus status;
+    private int days;
+}
@@ -0,0 +1,10 @@
+package com.taskflow.taskflow.dto;
+
+import java.util.UUID;
+
+/**
+ * A PENDING vacation and who is to decide it, identified by the login (email) of the
+ * requester's manager.
+ */
+public record PendingApproval(UUID vacationId, UUID employeeId, String approver) {
+}
@@ -0,0 +1,17 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupRebuildResponse {
+    private YearMonth from;
+    private YearMonth to;
+    private int vacations;
+    private int rows;
+}
@@ -0,0 +1,14 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.VacationStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One vacation as the absence rollups count it: the requester's current manager and holiday
+ * calendar location, its dates and status.
+ */
+public record RollupSpan(UUID managerId, String location, LocalDate startDate, LocalDate endDate,
+                         VacationStatus status) {
+}
@@ -0,0 +1,38 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.ScheduleObjective;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleOptimizationInput {
+    @NotNull(message = "From date is required")
+    private LocalDate from;
+
+    @NotNull(message = "To date is required")
+    private LocalDate to;
+
+    // admin only; defaults to the caller's own team
+    private UUID managerId;
+
+    // defaults to every PENDING vacation of the team overlapping [from, to]
+    @Size(max = BulkDecisionInput.MAX_DECISIONS, message = "At most " + BulkDecisionInput.MAX_DECISIONS + " vacations can be optimized at once")
+    private List<@NotNull UUID> vacationIds;
+
+    @Min(value = 0, message = "Minimum staffing must be >= 0")
+    private Integer minStaffing;
+
+    private ScheduleObjective objective;
+
+    private Long timeBudgetMs;
+}
@@ -0,0 +1,27 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.ScheduleObjective;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleOptimizationResponse {
+    private UUID managerId;
+    private ScheduleObjective objective;
+    private int teamSize;
+    private int minStaffing;
+    // both lists can be sent to the bulk decision endpoint as they are
+    private List<UUID> approve;
+    private List<UUID> reject;
+    private int grantedDays;
+    private double score;
+    // true when the time budget, not a lack of better moves, ended the search
+    private boolean budgetExhausted;
+    private long elapsedMs;
+}
@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamCoverageResponse {
+    private UUID managerId;
+    private boolean transitive;
+    private int teamSize;
+    private int minStaffing;
+    private List<DayCoverageResponse> days;
+}
@@ -0,0 +1,19 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacationBalanceResponse {
+    private UUID employeeId;
+    private int year;
+    private int accruedDays;
+    private int pendingDays;
+    private int usedDays;
+    private int availableDays;
+}
@@ -0,0 +1,14 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.VacationStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * What deciding a vacation needs to know about it: who may decide (the requester's manager),
+ * whether it is still open, and the dates to report to the in-memory indexes.
+ */
+public record VacationDecisionTarget(UUID vacationId, UUID employeeId, UUID managerId,
+                                     LocalDate startDate, LocalDate endDate, VacationStatus status) {
+}
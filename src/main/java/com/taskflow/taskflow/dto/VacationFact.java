@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * The columns of one vacation the analytics store keeps, with the requester's role and manager
+ * as they are when the row is read.
+ */
+public record VacationFact(UUID vacationId, UUID employeeId, UUID managerId, Role role, VacationStatus status,
+                           LocalDate createdAt, LocalDate startDate, LocalDate endDate,
+                           LocalDate decidedAt, UUID decidedBy) {
+}
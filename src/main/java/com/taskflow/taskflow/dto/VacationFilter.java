@@ -0,0 +1,23 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacationFilter {
+    private VacationStatus status;
+    // vacations sharing at least one day with [from, to]; either bound may be open
+    private LocalDate from;
+    private LocalDate to;
+    private UUID requesterId;
+    private UUID decidedBy;
+    // pending requests of the caller's direct reports
+    private boolean pendingForMe;
+}
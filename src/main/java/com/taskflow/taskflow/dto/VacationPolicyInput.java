@@ -0,0 +1,32 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.PolicyType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacationPolicyInput {
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must be at most 100 characters")
+    private String name;
+
+    @NotNull(message = "Type is required")
+    private PolicyType type;
+
+    // defaults to true
+    private Boolean enabled;
+
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Integer days;
+    private Integer minVacationDays;
+    private Integer maxPercent;
+}
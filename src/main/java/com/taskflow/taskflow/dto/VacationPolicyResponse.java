@@ -0,0 +1,24 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.PolicyType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacationPolicyResponse {
+    private UUID id;
+    private String name;
+    private PolicyType type;
+    private boolean enabled;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Integer days;
+    private Integer minVacationDays;
+    private Integer maxPercent;
+}
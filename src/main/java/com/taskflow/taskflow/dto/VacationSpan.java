@@ -0,0 +1,13 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.VacationStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Date range of one vacation without the rest of the entity, for queries that only need to know
+ * who is away when.
+ */
+public record VacationSpan(UUID employeeId, LocalDate startDate, LocalDate endDate, VacationStatus status) {
+}
@@ -0,0 +1,17 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacationSuggestionResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    // days from the requested start; negative when the suggestion is earlier
+    private long offsetDays;
+}
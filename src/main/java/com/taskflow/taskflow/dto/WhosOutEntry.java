@@ -0,0 +1,18 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhosOutEntry {
+    private UUID employeeId;
+    private String firstName;
+    private String lastName;
+    private VacationStatus status;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhosOutResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private List<WhosOutEntry> employees;
+}
@@ -0,0 +1,21 @@
+package com.taskflow.taskflow.dto;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class YearViewResponse {
+    private int year;
+    // null for the whole organization
+    private UUID managerId;
+    private List<VacationStatus> statuses;
+    // only employees with at least one run
+    private List<EmployeeRuns> employees;
+}
@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.event;
+
+import java.util.UUID;
+
+/**
+ * Published by {@code EmployeeService} when an employee's manager is changed or cleared, so
+ * anything keyed by approver can move the employee's pending requests to the new one. A manager id
+ * is null when the employee had, or now has, no manager.
+ */
+public record EmployeeManagerChangedEvent(UUID employeeId, UUID previousManagerId, UUID managerId) {
+}
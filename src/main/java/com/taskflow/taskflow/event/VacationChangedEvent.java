@@ -0,0 +1,49 @@
+package com.taskflow.taskflow.event;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.model.Vacation;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Published by {@code VacationService} whenever a vacation is created, decided or deleted.
+ * In-memory indexes listen for it after commit to stay in sync with the database.
+ * {@code previousStatus} is null on creation and {@code status} is null on deletion.
+ */
+public record VacationChangedEvent(
+        UUID vacationId,
+        UUID employeeId,
+        LocalDate startDate,
+        LocalDate endDate,
+        VacationStatus previousStatus,
+        VacationStatus status
+) {
+
+    public static VacationChangedEvent created(Vacation v) {
+        return of(v, null, v.getStatus());
+    }
+
+    public static VacationChangedEvent decided(Vacation v, VacationStatus previousStatus) {
+        return of(v, previousStatus, v.getStatus());
+    }
+
+    public static VacationChangedEvent deleted(Vacation v) {
+        return of(v, v.getStatus(), null);
+    }
+
+    public boolean isDeletion() {
+        return status == null;
+    }
+
+    private static VacationChangedEvent of(Vacation v, VacationStatus previousStatus, VacationStatus status) {
+        return new VacationChangedEvent(
+                v.getId(),
+                v.getRequester().getId(),
+                v.getStartDate(),
+                v.getEndDate(),
+                previousStatus,
+                status
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskflow.taskflow.event;
+
+/**
+ * Published by {@code VacationPolicyService} when a policy is created, changed or removed; the
+ * policy engine recompiles once the change has committed.
+ */
+public record VacationPoliciesChangedEvent() {
+}
@@ -0,0 +1,11 @@
+package com.taskflow.taskflow.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published by {@code VacationArchiveService} after vacations ending before {@code cutoff} were
+ * moved out of the live table. Moved rows publish no {@link VacationChangedEvent}s (balances and
+ * rollups must keep them), so in-memory indexes rebuild instead.
+ */
+public record VacationsArchivedEvent(LocalDate cutoff, int vacations) {
+}
@@ -0,0 +1,13 @@
+package com.taskflow.taskflow.index;
+
+/**
+ * Columns of {@link VacationFactStore} a query can group by.
+ */
+public enum FactDimension {
+    STATUS,
+    ROLE,
+    EMPLOYEE,
+    MANAGER,
+    DECIDER,
+    START_MONTH
+}
@@ -0,0 +1,15 @@
+package com.taskflow.taskflow.index;
+
+import java.util.Map;
+
+/**
+ * One group of a {@link FactQuery} result. {@code key} holds the group's value per dimension
+ * ({@code null} where a vacation has none, e.g. no decider yet). Without a metric only
+ * {@code count} is set; {@code percentiles} are keyed like {@code "p90"}.
+ */
+public record FactGroup(Map<FactDimension, String> key,
+                        long count,
+                        Long sum,
+                        Double average,
+                        Map<String, Integer> percentiles) {
+}
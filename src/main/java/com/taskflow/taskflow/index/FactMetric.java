@@ -0,0 +1,14 @@
+package com.taskflow.taskflow.index;
+
+/**
+ * Per-vacation values a query can sum, average and rank, in calendar days. Vacations without the
+ * value (e.g. {@link #DECISION_DAYS} of an undecided one) are left out of a query on it.
+ */
+public enum FactMetric {
+    /** endDate - startDate + 1 */
+    DURATION_DAYS,
+    /** startDate - createdAt */
+    LEAD_TIME_DAYS,
+    /** decidedAt - createdAt */
+    DECISION_DAYS
+}
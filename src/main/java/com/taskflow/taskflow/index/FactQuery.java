@@ -0,0 +1,40 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One aggregation over {@link VacationFactStore}: keep the vacations matching every non-null
+ * filter, group them by up to {@link #MAX_GROUP_BY} dimensions, and count them or aggregate a
+ * metric. {@code percentiles} (0-100) need a metric.
+ */
+public record FactQuery(List<FactDimension> groupBy,
+                        FactMetric metric,
+                        List<Double> percentiles,
+                        Set<VacationStatus> statuses,
+                        Role role,
+                        LocalDate startFrom,
+                        LocalDate startTo) {
+
+    public static final int MAX_GROUP_BY = 2;
+
+    public FactQuery {
+        groupBy = groupBy == null ? List.of() : List.copyOf(groupBy);
+        percentiles = percentiles == null ? List.of() : List.copyOf(percentiles);
+        if (groupBy.size() > MAX_GROUP_BY) {
+            throw new IllegalArgumentException("At most " + MAX_GROUP_BY + " group-by dimensions");
+        }
+        if (!percentiles.isEmpty() && metric == null) {
+            throw new IllegalArgumentException("Percentiles need a metric");
+        }
+        for (double p : percentiles) {
+            if (p < 0 || p > 100) {
+                throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+            }
+        }
+    }
+}
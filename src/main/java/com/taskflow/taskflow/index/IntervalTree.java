@@ -0,0 +1,173 @@
+package com.taskflow.taskflow.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-interval tree over epoch days: a treap ordered by (start, id) where every node also
+ * tracks the largest end in its subtree. Insert, remove and "does anything overlap" are
+ * O(log n) expected; listing the k overlapping intervals is O(log n + k).
+ * Not thread-safe; callers synchronize.
+ */
+public final class IntervalTree {
+
+    public record Interval(UUID id, int start, int end) {
+    }
+
+    private static final Comparator<Interval> ORDER = Comparator
+            .comparingInt(Interval::start)
+            .thenComparing(Interval::id);
+
+    private static final class Node {
+        final Interval interval;
+        final int priority;
+        Node left;
+        Node right;
+        int maxEnd;
+
+        Node(Interval interval, int priority) {
+            this.interval = interval;
+            this.priority = priority;
+            this.maxEnd = interval.end();
+        }
+    }
+
+    private final Map<UUID, Interval> byId = new HashMap<>();
+    private Node root;
+
+    public void put(UUID id, int start, int end) {
+        if (end < start) {
+            throw new IllegalArgumentException("Interval end " + end + " is before start " + start);
+        }
+        remove(id);
+        Interval interval = new Interval(id, start, end);
+        root = insert(root, new Node(interval, ThreadLocalRandom.current().nextInt()));
+        byId.put(id, interval);
+    }
+
+    public boolean remove(UUID id) {
+        Interval interval = byId.remove(id);
+        if (interval == null) {
+            return false;
+        }
+        root = delete(root, interval);
+        return true;
+    }
+
+    public boolean overlaps(int start, int end) {
+        Node n = root;
+        while (n != null) {
+            if (intersects(n.interval, start, end)) {
+                return true;
+            }
+            // if the left subtree reaches start but holds no overlap, everything to the right starts after end
+            n = (n.left != null && n.left.maxEnd >= start) ? n.left : n.right;
+        }
+        return false;
+    }
+
+    public List<Interval> findOverlapping(int start, int end) {
+        List<Interval> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private static void collect(Node n, int start, int end, List<Interval> out) {
+        if (n == null || n.maxEnd < start) {
+            return;
+        }
+        collect(n.left, start, end, out);
+        if (intersects(n.interval, start, end)) {
+            out.add(n.interval);
+        }
+        if (n.interval.start() <= end) {
+            collect(n.right, start, end, out);
+        }
+    }
+
+    private static boolean intersects(Interval interval, int start, int end) {
+        return interval.start() <= end && interval.end() >= start;
+    }
+
+    private static Node insert(Node n, Node x) {
+        if (n == null) {
+            return x;
+        }
+        if (ORDER.compare(x.interval, n.interval) < 0) {
+            n.left = insert(n.left, x);
+            if (n.left.priority > n.priority) {
+                n = rotateRight(n);
+            }
+        } else {
+            n.right = insert(n.right, x);
+            if (n.right.priority > n.priority) {
+                n = rotateLeft(n);
+            }
+        }
+        update(n);
+        return n;
+    }
+
+    private static Node delete(Node n, Interval interval) {
+        if (n == null) {
+            return null;
+        }
+        int cmp = ORDER.compare(interval, n.interval);
+        if (cmp < 0) {
+            n.left = delete(n.left, interval);
+        } else if (cmp > 0) {
+            n.right = delete(n.right, interval);
+        } else {
+            return merge(n.left, n.right);
+        }
+        update(n);
+        return n;
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static Node rotateRight(Node n) {
+        Node l = n.left;
+        n.left = l.right;
+        l.right = n;
+        update(n);
+        update(l);
+        return l;
+    }
+
+    private static Node rotateLeft(Node n) {
+        Node r = n.right;
+        n.right = r.left;
+        r.left = n;
+        update(n);
+        update(r);
+        return r;
+    }
+
+    private static void update(Node n) {
+        int max = n.interval.end();
+        if (n.left != null) max = Math.max(max, n.left.maxEnd);
+        if (n.right != null) max = Math.max(max, n.right.maxEnd);
+        n.maxEnd = max;
+    }
+}
@@ -0,0 +1,216 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.PendingApproval;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.event.VacationsArchivedEvent;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Live count of PENDING vacations per approver, for the manager inbox badge. Each approver has a
+ * {@link LongAdder}, so concurrent creates and decisions for the same manager never contend on a
+ * single counter, and a read is a lock-free sum.
+ * <p>
+ * Approvers are keyed by login (email), which is what the authenticated principal carries, so a
+ * badge read needs no lookup. The set of tracked PENDING vacations is kept next to the counters:
+ * a vacation is counted once however often its event is applied, which makes replaying events
+ * after a rebuild safe. Rebuilt from the database at startup and kept current from
+ * {@link VacationChangedEvent}s and {@link EmployeeManagerChangedEvent}s; rebuilt again after an
+ * archive run.
+ */
+@Component
+public class PendingApprovalCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingApprovalCounters.class);
+
+    // employees without a manager; their requests are tracked but no badge shows them
+    static final String NO_APPROVER = "";
+
+    private final VacationRepository vacationRepository;
+    private final EmployeeRepository employeeRepository;
+    // counter updates share the read lock; rebuild and reassignment move many counts at once
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile Counters counters = new Counters();
+    // changes that commit while a rebuild is loading; replayed onto the new counters
+    private Queue<Object> pendingReplay;
+
+    public PendingApprovalCounters(VacationRepository vacationRepository, EmployeeRepository employeeRepository) {
+        this.vacationRepository = vacationRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingReplay = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<PendingApproval> approvals;
+        try {
+            approvals = vacationRepository.findPendingApprovals();
+        } catch (RuntimeException ex) {
+            // keep serving the previous counters
+            lock.writeLock().lock();
+            try {
+                pendingReplay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Counters rebuilt = new Counters();
+            for (PendingApproval approval : approvals) {
+                rebuilt.approverOf.put(approval.employeeId(), approval.approver());
+                rebuilt.track(approval.vacationId(), approval.employeeId(), approval.approver());
+            }
+            for (Object change : pendingReplay) {
+                if (change instanceof VacationChange vacationChange) {
+                    apply(rebuilt, vacationChange);
+                } else if (change instanceof Reassignment reassignment) {
+                    rebuilt.reassign(reassignment.employeeId(), reassignment.approver());
+                }
+            }
+            counters = rebuilt;
+            pendingReplay = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Pending approval counters built from {} vacations", approvals.size());
+    }
+
+    // archived vacations leave the table without a change event
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationsArchived(VacationsArchivedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationChanged(VacationChangedEvent event) {
+        boolean wasPending = event.previousStatus() == VacationStatus.PENDING;
+        boolean isPending = event.status() == VacationStatus.PENDING;
+        if (wasPending == isPending) {
+            return;
+        }
+        // resolved outside the lock, and carried along so a replay onto rebuilt counters has it too
+        String approver = isPending ? resolveApprover(event.employeeId()) : null;
+        VacationChange change = new VacationChange(event.vacationId(), event.employeeId(), isPending, approver);
+
+        lock.readLock().lock();
+        try {
+            if (pendingReplay != null) {
+                pendingReplay.add(change);
+            }
+            apply(counters, change);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onManagerChanged(EmployeeManagerChangedEvent event) {
+        String approver = employeeRepository.findManagerEmailById(event.employeeId()).orElse(NO_APPROVER);
+        Reassignment reassignment = new Reassignment(event.employeeId(), approver);
+
+        lock.writeLock().lock();
+        try {
+            if (pendingReplay != null) {
+                pendingReplay.add(reassignment);
+            }
+            counters.reassign(reassignment.employeeId(), reassignment.approver());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * PENDING vacations awaiting a decision from the given approver (login).
+     */
+    public long count(String approver) {
+        LongAdder adder = counters.byApprover.get(approver);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private String resolveApprover(UUID employeeId) {
+        String cached = counters.approverOf.get(employeeId);
+        return cached != null ? cached : employeeRepository.findManagerEmailById(employeeId).orElse(NO_APPROVER);
+    }
+
+    private static void apply(Counters target, VacationChange change) {
+        if (change.pending()) {
+            // a known approver wins, since reassignments keep it current
+            String approver = target.approverOf.computeIfAbsent(change.employeeId(), id -> change.approver());
+            target.track(change.vacationId(), change.employeeId(), approver);
+        } else {
+            target.untrack(change.vacationId());
+        }
+    }
+
+    private record VacationChange(UUID vacationId, UUID employeeId, boolean pending, String approver) {
+    }
+
+    private record Reassignment(UUID employeeId, String approver) {
+    }
+
+    private record Tracked(UUID employeeId, String approver) {
+    }
+
+    private static final class Counters {
+        private final Map<UUID, Tracked> pending = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> byApprover = new ConcurrentHashMap<>();
+        private final Map<UUID, String> approverOf = new ConcurrentHashMap<>();
+
+        private void track(UUID vacationId, UUID employeeId, String approver) {
+            if (pending.putIfAbsent(vacationId, new Tracked(employeeId, approver)) == null) {
+                adder(approver).increment();
+            }
+        }
+
+        private void untrack(UUID vacationId) {
+            Tracked tracked = pending.remove(vacationId);
+            if (tracked != null) {
+                adder(tracked.approver()).decrement();
+            }
+        }
+
+        // caller holds the write lock, so no track/untrack runs concurrently
+        private void reassign(UUID employeeId, String approver) {
+            approverOf.put(employeeId, approver);
+            pending.replaceAll((vacationId, tracked) -> {
+                if (!tracked.employeeId().equals(employeeId) || tracked.approver().equals(approver)) {
+                    return tracked;
+                }
+                adder(tracked.approver()).decrement();
+                adder(approver).increment();
+                return new Tracked(employeeId, approver);
+            });
+        }
+
+        private LongAdder adder(String approver) {
+            return byApprover.computeIfAbsent(approver, key -> new LongAdder());
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.VacationFact;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.repository.VacationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Column store of vacation facts for ad-hoc aggregations: one primitive array per attribute
+ * (dates as epoch days, status and role as ordinals, people as dense ids), so a query is a tight
+ * scan over a few arrays. Rows are split into chunks scanned in parallel on the common pool, each
+ * building partial groups that are merged at the end. Loaded at startup and kept current from
+ * {@link VacationChangedEvent}s by re-reading the changed vacation after commit.
+ */
+@Component
+public class VacationFactStore {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationFactStore.class);
+
+    static final int CHUNK_ROWS = 1 << 14;
+    private static final int NONE = -1;
+    private static final int NO_DAY = Integer.MIN_VALUE;
+    private static final VacationStatus[] STATUSES = VacationStatus.values();
+    private static final Role[] ROLES = Role.values();
+
+    private final VacationRepository vacationRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // one dictionary for the employee, manager and decider columns
+    private final Map<UUID, Integer> denseIds = new HashMap<>();
+    private final List<UUID> employeeIds = new ArrayList<>();
+    private Columns columns = new Columns();
+    // changes that commit while a rebuild is loading; replayed onto the new columns
+    private List<Change> pendingReplay;
+
+    public VacationFactStore(VacationRepository vacationRepository) {
+        this.vacationRepository = vacationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingReplay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<VacationFact> facts;
+        try {
+            // archived rows never change, so they only need loading here
+            facts = new ArrayList<>(vacationRepository.findAllArchivedFacts());
+            facts.addAll(vacationRepository.findAllFacts());
+        } catch (RuntimeException ex) {
+            // keep serving the previous columns
+            lock.writeLock().lock();
+            try {
+                pendingReplay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Columns rebuilt = new Columns();
+            for (VacationFact fact : facts) {
+                rebuilt.upsert(fact, this::denseId);
+            }
+            for (Change change : pendingReplay) {
+                apply(rebuilt, change);
+            }
+            columns = rebuilt;
+            pendingReplay = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Vacation fact store built from {} vacations", facts.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationChanged(VacationChangedEvent event) {
+        // the event carries no decision or creation dates; the committed row has them
+        VacationFact fact = event.isDeletion() ? null : vacationRepository.findFact(event.vacationId()).orElse(null);
+        Change change = new Change(event.vacationId(), fact);
+
+        lock.writeLock().lock();
+        try {
+            if (pendingReplay != null) {
+                pendingReplay.add(change);
+            }
+            apply(columns, change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.rowByVacation.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs one aggregation; groups come back largest first. The read lock is held for the scan,
+     * so changes wait for it rather than the other way round.
+     */
+    public List<FactGroup> query(FactQuery query) {
+        Filter filter = new Filter(query);
+        boolean keepValues = !query.percentiles().isEmpty();
+
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            int chunks = (c.size + CHUNK_ROWS - 1) / CHUNK_ROWS;
+            Map<Long, Accumulator> groups = IntStream.range(0, chunks).parallel()
+                    .mapToObj(chunk -> scan(c, query, filter, keepValues,
+                            chunk * CHUNK_ROWS, Math.min(c.size, (chunk + 1) * CHUNK_ROWS)))
+                    .reduce(VacationFactStore::merge)
+                    .orElseGet(HashMap::new);
+
+            return groups.entrySet().stream()
+                    .map(e -> toGroup(query, e.getKey(), e.getValue()))
+                    .sorted(Comparator.comparingLong(FactGroup::count).reversed())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<Long, Accumulator> scan(Columns c, FactQuery query, Filter filter, boolean keepValues,
+                                               int from, int to) {
+        Map<Long, Accumulator> groups = new HashMap<>();
+        for (int row = from; row < to; row++) {
+            int status = c.status[row];
+            if (status == NONE || (filter.statusMask & (1 << status)) == 0) continue;
+            if (filter.role != NONE && c.role[row] != filter.role) continue;
+            if (c.startDay[row] < filter.startFrom || c.startDay[row] > filter.startTo) continue;
+
+            int value = 0;
+            if (query.metric() != null) {
+                value = metric(c, query.metric(), row);
+                if (value == NO_DAY) continue;
+            }
+
+            long key = 0;
+            for (FactDimension dimension : query.groupBy()) {
+                key = (key << 32) | (dimension(c, dimension, row) & 0xffffffffL);
+            }
+            groups.computeIfAbsent(key, k -> new Accumulator()).add(value, keepValues);
+        }
+        return groups;
+    }
+
+    private static Map<Long, Accumulator> merge(Map<Long, Accumulator> into, Map<Long, Accumulator> from) {
+        from.forEach((key, acc) -> into.merge(key, acc, Accumulator::merge));
+        return into;
+    }
+
+    private static int metric(Columns c, FactMetric metric, int row) {
+        int end = switch (metric) {
+            case DURATION_DAYS -> c.endDay[row] == NO_DAY ? NO_DAY : c.endDay[row] + 1;
+            case LEAD_TIME_DAYS -> c.startDay[row];
+            case DECISION_DAYS -> c.decidedDay[row];
+        };
+        int start = metric == FactMetric.DURATION_DAYS ? c.startDay[row] : c.createdDay[row];
+        return end == NO_DAY || start == NO_DAY ? NO_DAY : end - start;
+    }
+
+    private static int dimension(Columns c, FactDimension dimension, int row) {
+        return switch (dimension) {
+            case STATUS -> c.status[row];
+            case ROLE -> c.role[row];
+            case EMPLOYEE -> c.employee[row];
+            case MANAGER -> c.manager[row];
+            case DECIDER -> c.decider[row];
+            case START_MONTH -> c.startMonth[row];
+        };
+    }
+
+    private FactGroup toGroup(FactQuery query, long key, Accumulator acc) {
+        Map<FactDimension, String> labels = new LinkedHashMap<>();
+        List<FactDimension> groupBy = query.groupBy();
+        for (int i = 0; i < groupBy.size(); i++) {
+            int value = (int) (key >>> (32 * (groupBy.size() - 1 - i)));
+            labels.put(groupBy.get(i), label(groupBy.get(i), value));
+        }
+        if (query.metric() == null) {
+            return new FactGroup(labels, acc.count, null, null, Map.of());
+        }
+
+        Map<String, Integer> percentiles = new LinkedHashMap<>();
+        if (!query.percentiles().isEmpty()) {
+            int[] sorted = Arrays.copyOf(acc.values, (int) acc.count);
+            Arrays.sort(sorted);
+            for (double p : query.percentiles()) {
+                // nearest rank
+                int rank = (int) Math.ceil(p / 100 * sorted.length);
+                percentiles.put("p" + BigDecimal.valueOf(p).stripTrailingZeros().toPlainString(),
+                        sorted[Math.max(0, rank - 1)]);
+            }
+        }
+        return new FactGroup(labels, acc.count, acc.sum, (double) acc.sum / acc.count, percentiles);
+    }
+
+    private String label(FactDimension dimension, int value) {
+        if (value == NONE) {
+            return null;
+        }
+        return switch (dimension) {
+            case STATUS -> STATUSES[value].name();
+            case ROLE -> ROLES[value].name();
+            case EMPLOYEE, MANAGER, DECIDER -> employeeIds.get(value).toString();
+            case START_MONTH -> YearMonth.of(value / 12, value % 12 + 1).toString();
+        };
+    }
+
+    private void apply(Columns target, Change change) {
+        if (change.fact() == null) {
+            target.remove(change.vacationId());
+        } else {
+            target.upsert(change.fact(), this::denseId);
+        }
+    }
+
+    private int denseId(UUID id) {
+        if (id == null) {
+            return NONE;
+        }
+        return denseIds.computeIfAbsent(id, key -> {
+            employeeIds.add(key);
+            return employeeIds.size() - 1;
+        });
+    }
+
+    private record Change(UUID vacationId, VacationFact fact) {
+    }
+
+    private static final class Filter {
+        final int statusMask;
+        final int role;
+        final int startFrom;
+        final int startTo;
+
+        Filter(FactQuery query) {
+            int mask = 0;
+            if (query.statuses() == null || query.statuses().isEmpty()) {
+                mask = (1 << STATUSES.length) - 1;
+            } else {
+                for (VacationStatus status : query.statuses()) {
+                    mask |= 1 << status.ordinal();
+                }
+            }
+            statusMask = mask;
+            role = query.role() == null ? NONE : query.role().ordinal();
+            startFrom = query.startFrom() == null ? Integer.MIN_VALUE : (int) query.startFrom().toEpochDay();
+            startTo = query.startTo() == null ? Integer.MAX_VALUE : (int) query.startTo().toEpochDay();
+        }
+    }
+
+    private static final class Accumulator {
+        long count;
+        long sum;
+        int[] values;
+
+        void add(int value, boolean keepValue) {
+            if (keepValue) {
+                if (values == null) {
+                    values = new int[16];
+                } else if (count == values.length) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                values[(int) count] = value;
+            }
+            count++;
+            sum += value;
+        }
+
+        Accumulator merge(Accumulator other) {
+            if (other.values != null) {
+                int[] joined = values == null ? new int[(int) other.count] : Arrays.copyOf(values, (int) (count + other.count));
+                System.arraycopy(other.values, 0, joined, (int) count, (int) other.count);
+                values = joined;
+            }
+            count += other.count;
+            sum += other.sum;
+            return this;
+        }
+    }
+
+    /**
+     * Parallel arrays indexed by row. Removed vacations leave a row with status {@link #NONE}
+     * until the next rebuild compacts them away.
+     */
+    private static final class Columns {
+        final Map<UUID, Integer> rowByVacation = new HashMap<>();
+        int size;
+        int[] startDay = new int[0];
+        int[] endDay = new int[0];
+        int[] createdDay = new int[0];
+        int[] decidedDay = new int[0];
+        int[] startMonth = new int[0];
+        int[] employee = new int[0];
+        int[] manager = new int[0];
+        int[] decider = new int[0];
+        byte[] status = new byte[0];
+        byte[] role = new byte[0];
+
+        void upsert(VacationFact fact, ToIntFunction<UUID> denseId) {
+            Integer existing = rowByVacation.get(fact.vacationId());
+            // decisions are final: a late re-read of the PENDING row must not undo one
+            if (existing != null && status[existing] != VacationStatus.PENDING.ordinal()
+                    && fact.status() == VacationStatus.PENDING) {
+                return;
+            }
+            int row = existing != null ? existing : append(fact.vacationId());
+            startDay[row] = day(fact.startDate());
+            endDay[row] = day(fact.endDate());
+            createdDay[row] = day(fact.createdAt());
+            decidedDay[row] = day(fact.decidedAt());
+            startMonth[row] = fact.startDate().getYear() * 12 + fact.startDate().getMonthValue() - 1;
+            employee[row] = denseId.applyAsInt(fact.employeeId());
+            manager[row] = denseId.applyAsInt(fact.managerId());
+            decider[row] = denseId.applyAsInt(fact.decidedBy());
+            status[row] = (byte) (fact.status() == null ? NONE : fact.status().ordinal());
+            role[row] = (byte) (fact.role() == null ? NONE : fact.role().ordinal());
+        }
+
+        void remove(UUID vacationId) {
+            Integer row = rowByVacation.remove(vacationId);
+            if (row != null) {
+                status[row] = NONE;
+            }
+        }
+
+        private int append(UUID vacationId) {
+            if (size == status.length) {
+                int capacity = Math.max(1024, size * 2);
+                startDay = Arrays.copyOf(startDay, capacity);
+                endDay = Arrays.copyOf(endDay, capacity);
+                createdDay = Arrays.copyOf(createdDay, capacity);
+                decidedDay = Arrays.copyOf(decidedDay, capacity);
+                startMonth = Arrays.copyOf(startMonth, capacity);
+                employee = Arrays.copyOf(employee, capacity);
+                manager = Arrays.copyOf(manager, capacity);
+                decider = Arrays.copyOf(decider, capacity);
+                status = Arrays.copyOf(status, capacity);
+                role = Arrays.copyOf(role, capacity);
+            }
+            rowByVacation.put(vacationId, size);
+            return size++;
+        }
+
+        private static int day(LocalDate date) {
+            return date == null ? NO_DAY : (int) date.toEpochDay();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.repository.VacationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-employee interval trees of the vacations that block new requests (PENDING and APPROVED).
+ * An employee's tree is loaded from the database on first use and then kept in sync from
+ * {@link VacationChangedEvent}s once the change has committed. Loads run in their own read-only
+ * transaction so the tree only ever holds committed rows, and so it can still be read after the
+ * caller's transaction has failed (e.g. on an overlap violation).
+ */
+@Component
+public class VacationIntervalIndex {
+
+    public static final Set<VacationStatus> BLOCKING_STATUSES = Collections.unmodifiableSet(EnumSet.of(VacationStatus.PENDING, VacationStatus.APPROVED));
+
+    private final VacationRepository vacationRepository;
+    private final TransactionTemplate loadTransaction;
+    private final ConcurrentHashMap<UUID, EmployeeIntervals> entries = new ConcurrentHashMap<>();
+
+    public VacationIntervalIndex(VacationRepository vacationRepository, PlatformTransactionManager transactionManager) {
+        this.vacationRepository = vacationRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    public boolean overlaps(UUID employeeId, LocalDate start, LocalDate end) {
+        EmployeeIntervals intervals = entries.computeIfAbsent(employeeId, id -> new EmployeeIntervals());
+        synchronized (intervals) {
+            ensureLoaded(employeeId, intervals);
+            return intervals.tree.overlaps(toDay(start), toDay(end));
+        }
+    }
+
+    /**
+     * Loads the employee's tree now unless it already is. Callers about to open a transaction use
+     * this so that no load, and so no second connection, is needed while they are inside it.
+     */
+    public void preload(UUID employeeId) {
+        EmployeeIntervals intervals = entries.computeIfAbsent(employeeId, id -> new EmployeeIntervals());
+        synchronized (intervals) {
+            ensureLoaded(employeeId, intervals);
+        }
+    }
+
+    /**
+     * Day bitset of the employee's blocking vacations within [from, to]: bit {@code i} is set when
+     * {@code from + i} is booked.
+     */
+    public BitSet occupiedDays(UUID employeeId, LocalDate from, LocalDate to) {
+        EmployeeIntervals intervals = entries.computeIfAbsent(employeeId, id -> new EmployeeIntervals());
+        int first = toDay(from);
+        int last = toDay(to);
+        BitSet days = new BitSet(last - first + 1);
+        synchronized (intervals) {
+            ensureLoaded(employeeId, intervals);
+            for (IntervalTree.Interval i : intervals.tree.findOverlapping(first, last)) {
+                days.set(Math.max(i.start(), first) - first, Math.min(i.end(), last) - first + 1);
+            }
+        }
+        return days;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationChanged(VacationChangedEvent event) {
+        EmployeeIntervals intervals = entries.get(event.employeeId());
+        if (intervals == null) {
+            return;
+        }
+        synchronized (intervals) {
+            // an unloaded tree will read the committed row when it is first used
+            if (!intervals.loaded) {
+                return;
+            }
+            // a deletion carries no status; checked first so the set never sees null
+            if (!event.isDeletion() && BLOCKING_STATUSES.contains(event.status())) {
+                intervals.tree.put(event.vacationId(), toDay(event.startDate()), toDay(event.endDate()));
+            } else {
+                intervals.tree.remove(event.vacationId());
+            }
+        }
+    }
+
+    public void evict(UUID employeeId) {
+        entries.remove(employeeId);
+    }
+
+    private void ensureLoaded(UUID employeeId, EmployeeIntervals intervals) {
+        if (intervals.loaded) {
+            return;
+        }
+        loadTransaction.executeWithoutResult(status -> {
+            for (Vacation v : vacationRepository.findByRequesterIdAndStatusIn(employeeId, BLOCKING_STATUSES)) {
+                if (v.getStartDate() == null || v.getEndDate() == null) continue;
+                intervals.tree.put(v.getId(), toDay(v.getStartDate()), toDay(v.getEndDate()));
+            }
+        });
+        intervals.loaded = true;
+    }
+
+    private static int toDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    private static final class EmployeeIntervals {
+        private final IntervalTree tree = new IntervalTree();
+        private boolean loaded;
+    }
+}
@@ -0,0 +1,178 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.event.VacationsArchivedEvent;
+import com.taskflow.taskflow.repository.VacationRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Org-wide "who is out" index: for every calendar day (epoch day) and status, a Roaring bitmap of
+ * the dense ids of employees on PENDING or APPROVED leave that day. A query ORs one bitmap per
+ * requested day, so its cost depends on the range and the people out, not on the vacation table.
+ * Rebuilt from the database at startup and kept current from {@link VacationChangedEvent}s.
+ */
+@Component
+public class WhosOutIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(WhosOutIndex.class);
+
+    private static final Set<VacationStatus> INDEXED_STATUSES = EnumSet.of(VacationStatus.PENDING, VacationStatus.APPROVED);
+
+    private final VacationRepository vacationRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> denseIds = new HashMap<>();
+    private final List<UUID> employeeIds = new ArrayList<>();
+    private Map<VacationStatus, Map<Long, RoaringBitmap>> days = emptyDays();
+    // events that commit while a rebuild is loading; replayed onto the new snapshot
+    private List<VacationChangedEvent> pendingReplay;
+
+    public WhosOutIndex(VacationRepository vacationRepository) {
+        this.vacationRepository = vacationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingReplay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<VacationSpan> spans;
+        try {
+            spans = vacationRepository.findSpansByStatusIn(INDEXED_STATUSES);
+        } catch (RuntimeException ex) {
+            // keep serving the previous snapshot
+            lock.writeLock().lock();
+            try {
+                pendingReplay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Map<VacationStatus, Map<Long, RoaringBitmap>> rebuilt = emptyDays();
+            for (VacationSpan span : spans) {
+                mark(rebuilt, span.status(), denseId(span.employeeId()), span.startDate(), span.endDate(), true);
+            }
+            for (VacationChangedEvent event : pendingReplay) {
+                apply(rebuilt, event);
+            }
+            days = rebuilt;
+            pendingReplay = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Who's-out index built from {} vacations", spans.size());
+    }
+
+    // archived vacations leave the table without a change event
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationsArchived(VacationsArchivedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationChanged(VacationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingReplay != null) {
+                pendingReplay.add(event);
+            }
+            apply(days, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Employees with a vacation of the given status on any day in [from, to].
+     */
+    public List<UUID> findOut(LocalDate from, LocalDate to, VacationStatus status) {
+        RoaringBitmap out = new RoaringBitmap();
+        List<UUID> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, RoaringBitmap> byDay = days.get(status);
+            for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+                RoaringBitmap bitmap = byDay.get(day);
+                if (bitmap != null) {
+                    out.or(bitmap);
+                }
+            }
+            out.forEach((int dense) -> result.add(employeeIds.get(dense)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void apply(Map<VacationStatus, Map<Long, RoaringBitmap>> target, VacationChangedEvent event) {
+        int dense = denseId(event.employeeId());
+        if (INDEXED_STATUSES.contains(event.previousStatus())) {
+            mark(target, event.previousStatus(), dense, event.startDate(), event.endDate(), false);
+        }
+        if (INDEXED_STATUSES.contains(event.status())) {
+            mark(target, event.status(), dense, event.startDate(), event.endDate(), true);
+        }
+    }
+
+    // one employee never holds two PENDING/APPROVED vacations on the same day (vacations_no_overlap),
+    // so clearing a vacation's days cannot clear another vacation's bit
+    private static void mark(Map<VacationStatus, Map<Long, RoaringBitmap>> target, VacationStatus status,
+                             int dense, LocalDate start, LocalDate end, boolean present) {
+        Map<Long, RoaringBitmap> byDay = target.get(status);
+        for (long day = start.toEpochDay(); day <= end.toEpochDay(); day++) {
+            if (present) {
+                byDay.computeIfAbsent(day, d -> new RoaringBitmap()).add(dense);
+            } else {
+                RoaringBitmap bitmap = byDay.get(day);
+                if (bitmap != null) {
+                    bitmap.remove(dense);
+                    if (bitmap.isEmpty()) {
+                        byDay.remove(day);
+                    }
+                }
+            }
+        }
+    }
+
+    private int denseId(UUID employeeId) {
+        return denseIds.computeIfAbsent(employeeId, id -> {
+            employeeIds.add(id);
+            return employeeIds.size() - 1;
+        });
+    }
+
+    private static Map<VacationStatus, Map<Long, RoaringBitmap>> emptyDays() {
+        Map<VacationStatus, Map<Long, RoaringBitmap>> byStatus = new EnumMap<>(VacationStatus.class);
+        for (VacationStatus status : INDEXED_STATUSES) {
+            byStatus.put(status, new HashMap<>());
+        }
+        return byStatus;
+    }
+}
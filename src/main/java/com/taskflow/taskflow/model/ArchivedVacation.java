@@ -0,0 +1,45 @@
+package com.taskflow.taskflow.model;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A vacation of a closed year, moved out of {@code vacations} by {@code VacationArchiveService}.
+ * The partitioned {@code vacations_archive} table is created by schema.sql; mapping it through a
+ * subselect keeps Hibernate from creating a plain table of that name first.
+ */
+@Entity
+@Immutable
+@Subselect("select * from vacations_archive")
+@Synchronize("vacations_archive")
+@Data
+@NoArgsConstructor
+public class ArchivedVacation {
+
+    @Id
+    private UUID id;
+
+    private UUID employeeId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate createdAt;
+    private LocalDate decidedAt;
+    private UUID decidedBy;
+
+    @Enumerated(EnumType.STRING)
+    private VacationStatus status;
+
+    private String rejectionReason;
+    private String approvalComment;
+    private String requestReason;
+    private Instant archivedAt;
+}
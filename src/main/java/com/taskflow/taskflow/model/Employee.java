@@ -9,14 +9,14 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = @Index(name = "idx_employees_manager", columnList = "manager_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Employee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "firstName", nullable = false)
@@ -35,6 +35,10 @@ public class Employee {
     @Enumerated(EnumType.STRING)
     private Role role = Role.EMPLOYEE;
 
+    // holiday calendar code (e.g. BR); null uses app.calendars.default-location
+    @Column(length = 32)
+    private String location;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manager_id")
     @ToString.Exclude
@@ -0,0 +1,44 @@
+package com.taskflow.taskflow.model;
+
+import com.taskflow.taskflow.data.Role;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One version of an employee row, valid over {@code [validFrom, validTo)}; an open version has no
+ * {@code validTo}. Rows are written by the {@code employee_history_version} trigger in schema.sql,
+ * never by the application.
+ */
+@Entity
+@Immutable
+@Table(name = "employee_history")
+@Data
+@NoArgsConstructor
+public class EmployeeHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID employeeId;
+
+    private String firstName;
+    private String lastName;
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    private Role role;
+
+    private UUID managerId;
+
+    @Column(nullable = false)
+    private Instant validFrom;
+
+    private Instant validTo;
+}
@@ -0,0 +1,40 @@
+package com.taskflow.taskflow.model;
+
+import com.taskflow.taskflow.data.FeedScope;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A calendar feed subscription. Calendar clients cannot send a bearer token, so the feed URL
+ * carries a random secret instead; only its SHA-256 hash is stored, and revoking the row turns
+ * the URL off.
+ */
+@Entity
+@Table(name = "feed_tokens", indexes = {
+        @Index(name = "idx_feed_tokens_employee", columnList = "employee_id")
+})
+@Data
+public class FeedToken {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private FeedScope scope;
+
+    @Column(nullable = false)
+    private Instant createdAt = Instant.now();
+
+    private Instant revokedAt;
+}
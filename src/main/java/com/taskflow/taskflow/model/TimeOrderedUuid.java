@@ -0,0 +1,20 @@
+package com.taskflow.taskflow.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates a time-ordered UUIDv7 identifier on insert. The column stays a plain {@code uuid},
+ * so rows created with random v4 identifiers keep working side by side with new ones.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {
+}
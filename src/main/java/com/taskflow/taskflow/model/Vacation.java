@@ -8,12 +8,19 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "vacations")
+@Table(name = "vacations", indexes = {
+        @Index(name = "idx_vacations_employee_status", columnList = "employee_id, status"),
+        @Index(name = "idx_vacations_employee_start", columnList = "employee_id, start_date"),
+        // keyset search: every filter column leads, (start_date, id) follows for the sort
+        @Index(name = "idx_vacations_start_id", columnList = "start_date, id"),
+        @Index(name = "idx_vacations_status_start_id", columnList = "status, start_date, id"),
+        @Index(name = "idx_vacations_decided_by_start_id", columnList = "decided_by, start_date, id")
+})
 @Data
 public class Vacation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -0,0 +1,44 @@
+package com.taskflow.taskflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Materialized running total of {@link VacationLedgerEntry} rows for one employee and year. Only
+ * changed through {@code VacationBalanceService}, in the same transaction as the ledger entry.
+ */
+@Entity
+@Table(name = "vacation_balances")
+@IdClass(VacationBalance.Key.class)
+@Data
+@NoArgsConstructor
+public class VacationBalance {
+
+    @Id
+    private UUID employeeId;
+
+    @Id
+    @Column(name = "balance_year")
+    private int year;
+
+    private int accruedDays;
+    private int pendingDays;
+    private int usedDays;
+
+    public int availableDays() {
+        return accruedDays - pendingDays - usedDays;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID employeeId;
+        private int year;
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.taskflow.model;
+
+import com.taskflow.taskflow.data.LedgerReason;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One change to an employee's vacation balance for a year. Append-only: summing the deltas of an
+ * employee's entries for a year gives the {@link VacationBalance} row.
+ */
+@Entity
+@Table(name = "vacation_ledger", indexes = {
+        @Index(name = "idx_vacation_ledger_employee_year", columnList = "employee_id, balance_year"),
+        @Index(name = "idx_vacation_ledger_vacation", columnList = "vacation_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacationLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID employeeId;
+
+    @Column(name = "balance_year", nullable = false)
+    private int year;
+
+    // null only for accruals; every other entry is booked against the vacation it counts
+    private UUID vacationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LedgerReason reason;
+
+    private int accruedDelta;
+    private int pendingDelta;
+    private int usedDelta;
+
+    @Column(nullable = false)
+    private Instant createdAt = Instant.now();
+
+    public VacationLedgerEntry(UUID employeeId, int year, UUID vacationId, LedgerReason reason,
+                               int accruedDelta, int pendingDelta, int usedDelta) {
+        this.employeeId = employeeId;
+        this.year = year;
+        this.vacationId = vacationId;
+        this.reason = reason;
+        this.accruedDelta = accruedDelta;
+        this.pendingDelta = pendingDelta;
+        this.usedDelta = usedDelta;
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskflow.taskflow.model;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Business days off in one month for everyone reporting to one manager, per vacation status.
+ * Kept current by {@code AbsenceRollupService} in the transaction of each vacation change, and
+ * recomputed from {@code vacations} only by its rebuild.
+ */
+@Entity
+@Table(name = "vacation_monthly_rollups")
+@IdClass(VacationMonthlyRollup.Key.class)
+@Data
+@NoArgsConstructor
+public class VacationMonthlyRollup {
+
+    // first day of the month
+    @Id
+    @Column(name = "rollup_month")
+    private LocalDate month;
+
+    // AbsenceRollupService.NO_MANAGER for employees without a manager
+    @Id
+    private UUID managerId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private VacationStatus status;
+
+    private int days;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate month;
+        private UUID managerId;
+        private VacationStatus status;
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.taskflow.model;
+
+import com.taskflow.taskflow.data.PolicyType;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A scheduling rule checked when a vacation is requested. Which columns apply depends on the
+ * {@link PolicyType}; rows are compiled into the in-memory rule chain of
+ * {@code VacationPolicyEngine}, never read on the request path.
+ */
+@Entity
+@Table(name = "vacation_policies")
+@Data
+public class VacationPolicy {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private PolicyType type;
+
+    @Column(nullable = false)
+    private boolean enabled = true;
+
+    private LocalDate periodStart;
+
+    private LocalDate periodEnd;
+
+    private Integer days;
+
+    private Integer minVacationDays;
+
+    private Integer maxPercent;
+}
@@ -0,0 +1,45 @@
+package com.taskflow.taskflow.policy;
+
+import java.util.List;
+
+/**
+ * An immutable, ordered rule chain. The engine swaps whole instances, so a request is always
+ * checked against one consistent policy set.
+ */
+final class CompiledPolicies {
+
+    static final CompiledPolicies EMPTY = new CompiledPolicies(List.of());
+
+    private final PolicyRule[] rules;
+    private final boolean needsTeam;
+
+    CompiledPolicies(List<PolicyRule> rules) {
+        this.rules = rules.toArray(PolicyRule[]::new);
+        this.needsTeam = rules.stream().anyMatch(PolicyRule::needsTeam);
+    }
+
+    boolean isEmpty() {
+        return rules.length == 0;
+    }
+
+    boolean needsTeam() {
+        return needsTeam;
+    }
+
+    int size() {
+        return rules.length;
+    }
+
+    /**
+     * The first violation in chain order, or null.
+     */
+    String firstViolation(PolicyCheck request, TeamOccupancy occupancy) {
+        for (PolicyRule rule : rules) {
+            String violation = rule.check(request, occupancy);
+            if (violation != null) {
+                return violation;
+            }
+        }
+        return null;
+    }
+}
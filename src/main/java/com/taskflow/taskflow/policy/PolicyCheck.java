@@ -0,0 +1,17 @@
+package com.taskflow.taskflow.policy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A vacation request as the policy rules see it. {@code team} holds the requester's teammates
+ * (everyone reporting to the same manager, the requester included); it is only loaded when a
+ * compiled rule needs it and is empty for employees without a manager.
+ */
+record PolicyCheck(LocalDate startDate, LocalDate endDate, LocalDate today, List<UUID> team) {
+
+    long length() {
+        return endDate.toEpochDay() - startDate.toEpochDay() + 1;
+    }
+}
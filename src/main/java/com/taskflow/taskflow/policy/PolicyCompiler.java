@@ -0,0 +1,149 @@
+package com.taskflow.taskflow.policy;
+
+import com.taskflow.taskflow.model.VacationPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Turns policy rows into {@link PolicyRule}s. Parameters are validated and folded into each rule
+ * here, and the chain is ordered cheapest first: lead time and blackouts are a few comparisons,
+ * the team limit walks the who's-out bitmaps and so runs last, only for requests that passed the rest.
+ */
+final class PolicyCompiler {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyCompiler.class);
+
+    static final int MAX_QUARTER_END_DAYS = 89;
+
+    private static final Comparator<VacationPolicy> EVALUATION_ORDER = Comparator.comparingInt(policy -> switch (policy.getType()) {
+        case LEAD_TIME -> 0;
+        case BLACKOUT -> 1;
+        case QUARTER_END_BLACKOUT -> 2;
+        case MAX_CONCURRENT_PERCENT -> 3;
+    });
+
+    private PolicyCompiler() {
+    }
+
+    /**
+     * Compiles the given policies. Rows are validated when written, so an invalid one can only come
+     * from a direct database edit; it is logged and left out rather than disabling every policy.
+     */
+    static CompiledPolicies compile(List<VacationPolicy> policies, int fiscalYearStartMonth) {
+        List<PolicyRule> rules = new ArrayList<>(policies.size());
+        for (VacationPolicy policy : policies.stream().sorted(EVALUATION_ORDER).toList()) {
+            try {
+                rules.add(compile(policy, fiscalYearStartMonth));
+            } catch (IllegalArgumentException ex) {
+                log.warn("Skipping vacation policy {}: {}", policy.getId(), ex.getMessage());
+            }
+        }
+        return new CompiledPolicies(rules);
+    }
+
+    /**
+     * Compiles one policy, or throws an {@link IllegalArgumentException} naming what is wrong with it.
+     */
+    static PolicyRule compile(VacationPolicy policy, int fiscalYearStartMonth) {
+        if (policy.getType() == null) {
+            throw new IllegalArgumentException("Policy " + policy.getName() + " has no type");
+        }
+        return switch (policy.getType()) {
+            case BLACKOUT -> blackout(policy);
+            case QUARTER_END_BLACKOUT -> quarterEndBlackout(policy, fiscalYearStartMonth);
+            case MAX_CONCURRENT_PERCENT -> maxConcurrent(policy);
+            case LEAD_TIME -> leadTime(policy);
+        };
+    }
+
+    private static PolicyRule blackout(VacationPolicy policy) {
+        LocalDate from = policy.getPeriodStart();
+        LocalDate to = policy.getPeriodEnd();
+        if (from == null || to == null || to.isBefore(from)) {
+            throw invalid(policy, "needs a period start and an end on or after it");
+        }
+        String message = prefix(policy) + "vacations cannot include " + from + " to " + to;
+        return (request, occupancy) ->
+                request.startDate().isAfter(to) || request.endDate().isBefore(from) ? null : message;
+    }
+
+    private static PolicyRule quarterEndBlackout(VacationPolicy policy, int fiscalYearStartMonth) {
+        Integer days = policy.getDays();
+        if (days == null || days < 1 || days > MAX_QUARTER_END_DAYS) {
+            throw invalid(policy, "needs between 1 and " + MAX_QUARTER_END_DAYS + " days");
+        }
+        long lastDayOffset = days - 1L;
+        String message = prefix(policy) + "vacations cannot include the last " + days + " days of a quarter (quarter ending ";
+        return (request, occupancy) -> {
+            // the blocked window ending at the first quarter end on or after the start is the only
+            // one the request can reach first; later windows start later
+            LocalDate start = request.startDate();
+            int monthInQuarter = Math.floorMod(start.getMonthValue() - fiscalYearStartMonth, 12) % 3;
+            LocalDate quarterEnd = YearMonth.from(start).plusMonths(2L - monthInQuarter).atEndOfMonth();
+            return request.endDate().isBefore(quarterEnd.minusDays(lastDayOffset)) ? null : message + quarterEnd + ")";
+        };
+    }
+
+    private static PolicyRule maxConcurrent(VacationPolicy policy) {
+        Integer percent = policy.getMaxPercent();
+        if (percent == null || percent < 1 || percent > 100) {
+            throw invalid(policy, "needs a max percent between 1 and 100");
+        }
+        String prefix = prefix(policy);
+        return new PolicyRule() {
+            @Override
+            public String check(PolicyCheck request, TeamOccupancy occupancy) {
+                int teamSize = request.team().size();
+                if (teamSize == 0) {
+                    return null;
+                }
+                // a team too small for the percentage still lets one person go
+                int limit = Math.max(1, teamSize * percent / 100);
+                int out = occupancy.maxOut(request.team(), request.startDate(), request.endDate());
+                if (out < limit) {
+                    return null;
+                }
+                return prefix + "at most " + limit + " of " + teamSize + " team members may be out on the same day";
+            }
+
+            @Override
+            public boolean needsTeam() {
+                return true;
+            }
+        };
+    }
+
+    private static PolicyRule leadTime(VacationPolicy policy) {
+        Integer days = policy.getDays();
+        Integer minVacationDays = policy.getMinVacationDays() == null ? 1 : policy.getMinVacationDays();
+        if (days == null || days < 1) {
+            throw invalid(policy, "needs at least 1 day of notice");
+        }
+        if (minVacationDays < 1) {
+            throw invalid(policy, "needs a minimum vacation length of at least 1 day");
+        }
+        String message = prefix(policy) + "vacations of " + minVacationDays + " days or more must be requested at least "
+                + days + " days ahead";
+        return (request, occupancy) -> {
+            if (request.length() < minVacationDays) {
+                return null;
+            }
+            long notice = request.startDate().toEpochDay() - request.today().toEpochDay();
+            return notice < days ? message : null;
+        };
+    }
+
+    private static String prefix(VacationPolicy policy) {
+        return "Policy " + policy.getName() + ": ";
+    }
+
+    private static IllegalArgumentException invalid(VacationPolicy policy, String reason) {
+        return new IllegalArgumentException("Policy " + policy.getName() + " " + reason);
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskflow.taskflow.policy;
+
+/**
+ * One compiled policy. All parameters are resolved at compile time, so a check is date arithmetic
+ * or a bitmap lookup.
+ */
+interface PolicyRule {
+
+    /**
+     * The violation message, or null when the request complies.
+     */
+    String check(PolicyCheck request, TeamOccupancy occupancy);
+
+    default boolean needsTeam() {
+        return false;
+    }
+}
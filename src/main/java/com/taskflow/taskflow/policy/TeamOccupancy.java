@@ -0,0 +1,15 @@
+package com.taskflow.taskflow.policy;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Highest number of the given employees on PENDING or APPROVED leave on a single day of
+ * [from, to]; read from the database inside the request's transaction.
+ */
+@FunctionalInterface
+interface TeamOccupancy {
+
+    int maxOut(Collection<UUID> employees, LocalDate from, LocalDate to);
+}
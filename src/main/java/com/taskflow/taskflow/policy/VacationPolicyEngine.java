@@ -0,0 +1,109 @@
+package com.taskflow.taskflow.policy;
+
+import com.taskflow.taskflow.event.VacationPoliciesChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.VacationPolicy;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationPolicyRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.service.EmployeeMutationLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Checks vacation requests against the enabled {@link VacationPolicy} rows. The rows are compiled
+ * into an immutable rule chain at startup and again after every committed policy change, and the
+ * new chain replaces the old one with a single volatile write: a request in flight finishes on the
+ * chain it started with, and no request ever sees a half-applied change.
+ * <p>
+ * Checking reads no policy rows. Database work happens only while a team limit is enabled: the
+ * team is locked, then its members and their occupancy are read inside the request's transaction.
+ */
+@Component
+public class VacationPolicyEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationPolicyEngine.class);
+
+    private final VacationPolicyRepository vacationPolicyRepository;
+    private final EmployeeRepository employeeRepository;
+    private final VacationRepository vacationRepository;
+    private final EmployeeMutationLock employeeMutationLock;
+    private final int fiscalYearStartMonth;
+
+    private volatile CompiledPolicies policies = CompiledPolicies.EMPTY;
+
+    public VacationPolicyEngine(VacationPolicyRepository vacationPolicyRepository,
+                                EmployeeRepository employeeRepository,
+                                VacationRepository vacationRepository,
+                                EmployeeMutationLock employeeMutationLock,
+                                @Value("${app.policies.fiscal-year-start-month:1}") int fiscalYearStartMonth) {
+        if (fiscalYearStartMonth < 1 || fiscalYearStartMonth > 12) {
+            throw new IllegalArgumentException("app.policies.fiscal-year-start-month must be between 1 and 12");
+        }
+        this.vacationPolicyRepository = vacationPolicyRepository;
+        this.employeeRepository = employeeRepository;
+        this.vacationRepository = vacationRepository;
+        this.employeeMutationLock = employeeMutationLock;
+        this.fiscalYearStartMonth = fiscalYearStartMonth;
+    }
+
+    // synchronized so two reloads cannot publish their snapshots out of order
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        CompiledPolicies compiled = PolicyCompiler.compile(vacationPolicyRepository.findByEnabledTrue(), fiscalYearStartMonth);
+        policies = compiled;
+        log.info("Compiled {} vacation policies", compiled.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPoliciesChanged(VacationPoliciesChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * Rejects a policy the engine could not compile.
+     */
+    public void verify(VacationPolicy policy) {
+        try {
+            PolicyCompiler.compile(policy, fiscalYearStartMonth);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    /**
+     * Throws BAD_REQUEST with the first violated policy. Must run inside the request's transaction:
+     * with a team limit enabled, teammates' requests wait here until it commits, and occupancy
+     * counts every committed PENDING and APPROVED vacation plus the transaction's own writes.
+     */
+    public void validate(Employee requester, LocalDate startDate, LocalDate endDate) {
+        CompiledPolicies current = policies;
+        if (current.isEmpty()) {
+            return;
+        }
+
+        List<UUID> team = List.of();
+        if (current.needsTeam() && requester.getManager() != null) {
+            UUID managerId = requester.getManager().getId();
+            // the who's-out index only learns of a vacation after its commit, too late for a limit
+            employeeMutationLock.lockTeamForTransaction(managerId);
+            team = employeeRepository.findIdsByManagerId(managerId);
+        }
+        PolicyCheck request = new PolicyCheck(startDate, endDate, LocalDate.now(), team);
+        String violation = current.firstViolation(request, vacationRepository::maxOutOnAnyDay);
+        if (violation != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, violation);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.model.ArchivedVacation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ArchivedVacationRepository extends JpaRepository<ArchivedVacation, UUID> {
+
+    // a start-date range within one year reads a single partition
+    List<ArchivedVacation> findByEmployeeIdAndStartDateBetweenOrderByStartDateAscIdAsc(UUID employeeId,
+                                                                                       LocalDate from,
+                                                                                       LocalDate to);
+
+    @Query("select max(a.endDate) from ArchivedVacation a")
+    Optional<LocalDate> findArchivedThrough();
+
+    @Query(value = """
+            SELECT DISTINCT CAST(EXTRACT(YEAR FROM start_date) AS integer)
+              FROM vacations
+             WHERE end_date < :cutoff
+             ORDER BY 1
+            """, nativeQuery = true)
+    List<Integer> findArchivableYears(@Param("cutoff") LocalDate cutoff);
+
+    @Query(value = "SELECT vacation_archive_partition(:year)", nativeQuery = true)
+    String createPartition(@Param("year") int year);
+
+    // one statement, so a vacation is never in both tables or in neither
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM vacations
+                 WHERE start_date >= :yearStart AND start_date < :nextYearStart AND end_date < :cutoff
+                RETURNING id, employee_id, start_date, end_date, created_at, decided_at, decided_by,
+                          status, rejection_reason, approval_comment, request_reason
+            )
+            INSERT INTO vacations_archive (id, employee_id, start_date, end_date, created_at, decided_at, decided_by,
+                                           status, rejection_reason, approval_comment, request_reason)
+            SELECT id, employee_id, start_date, end_date, created_at, decided_at, decided_by,
+                   status, rejection_reason, approval_comment, request_reason
+              FROM moved
+            """, nativeQuery = true)
+    int moveYear(@Param("yearStart") LocalDate yearStart,
+                 @Param("nextYearStart") LocalDate nextYearStart,
+                 @Param("cutoff") LocalDate cutoff);
+}
@@ -0,0 +1,28 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.model.EmployeeHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, Long> {
+
+    // the range expression must match the GiST index definition in schema.sql to be indexable
+    @Query(value = """
+            SELECT * FROM employee_history h
+             WHERE tstzrange(h.valid_from, h.valid_to) @> CAST(:at AS timestamptz)
+             ORDER BY h.first_name, h.last_name
+            """, nativeQuery = true)
+    List<EmployeeHistory> findAllValidAt(@Param("at") Instant at);
+
+    @Query(value = """
+            SELECT * FROM employee_history h
+             WHERE h.employee_id = :employeeId
+             ORDER BY h.valid_from
+            """, nativeQuery = true)
+    List<EmployeeHistory> findAllByEmployee(@Param("employeeId") UUID employeeId);
+}
@@ -5,7 +5,11 @@ import com.taskflow.taskflow.model.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,4 +25,43 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
     Page<Employee> findByFirstNameContainingIgnoreCase(String firstName, Pageable pageable);
 
+    @Query("select e.id from Employee e where e.manager.id = :managerId")
+    List<UUID> findIdsByManagerId(@Param("managerId") UUID managerId);
+
+    long countByIdIn(Collection<UUID> ids);
+
+    // UNION (not UNION ALL) stops the recursion if the reporting chain ever loops
+    @Query(value = """
+            WITH RECURSIVE team AS (
+                SELECT e.id FROM employees e WHERE e.manager_id = :managerId
+                UNION
+                SELECT e.id FROM employees e JOIN team t ON e.manager_id = t.id
+            )
+            SELECT id FROM team
+            """, nativeQuery = true)
+    List<UUID> findTeamIdsTransitive(@Param("managerId") UUID managerId);
+
+    // blocks until no other transaction holds the key; released automatically at commit or rollback
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:key)) AS acquired", nativeQuery = true)
+    Integer lockForTransaction(@Param("key") long key);
+
+    // the two-key form has its own key space, so team locks never collide with employee locks
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:high, :low)) AS acquired", nativeQuery = true)
+    Integer lockTeamForTransaction(@Param("high") int high, @Param("low") int low);
+
+    @Query("select e.role from Employee e where e.id = :id")
+    Optional<Role> findRoleById(@Param("id") UUID id);
+
+    @Query("select m.email from Employee e join e.manager m where e.id = :id")
+    Optional<String> findManagerEmailById(@Param("id") UUID id);
+
+    @Query("select e.manager.id from Employee e where e.id = :id")
+    Optional<UUID> findManagerIdById(@Param("id") UUID id);
+
+    @Query("select e.location from Employee e where e.id = :id")
+    Optional<String> findLocationById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("delete from Employee e where e.id = :id")
+    int deleteEmployeeById(@Param("id") UUID id);
 }
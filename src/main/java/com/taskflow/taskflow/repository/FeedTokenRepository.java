@@ -0,0 +1,17 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.model.FeedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface FeedTokenRepository extends JpaRepository<FeedToken, UUID> {
+
+    Optional<FeedToken> findByTokenHashAndRevokedAtIsNull(String tokenHash);
+
+    List<FeedToken> findByEmployeeIdAndRevokedAtIsNullOrderByCreatedAt(UUID employeeId);
+}
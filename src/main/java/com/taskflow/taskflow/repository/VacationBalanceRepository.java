@@ -0,0 +1,42 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.model.VacationBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface VacationBalanceRepository extends JpaRepository<VacationBalance, VacationBalance.Key> {
+
+    // 1 when this call created the row, 0 when the year was already open
+    @Modifying
+    @Query(value = """
+            INSERT INTO vacation_balances (employee_id, balance_year, accrued_days, pending_days, used_days)
+            VALUES (:employeeId, :year, 0, 0, 0)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int openYear(@Param("employeeId") UUID employeeId, @Param("year") int year);
+
+    // increments in SQL, so concurrent decisions on the same balance cannot lose an update
+    @Modifying
+    @Query("update VacationBalance b set b.accruedDays = b.accruedDays + :accrued, " +
+            "b.pendingDays = b.pendingDays + :pending, b.usedDays = b.usedDays + :used " +
+            "where b.employeeId = :employeeId and b.year = :year")
+    int applyDelta(@Param("employeeId") UUID employeeId,
+                   @Param("year") int year,
+                   @Param("accrued") int accrued,
+                   @Param("pending") int pending,
+                   @Param("used") int used);
+
+    // a scalar read goes to the database even when the row is already in the session
+    @Query("select b.accruedDays - b.pendingDays - b.usedDays from VacationBalance b " +
+            "where b.employeeId = :employeeId and b.year = :year")
+    Optional<Integer> findAvailableDays(@Param("employeeId") UUID employeeId, @Param("year") int year);
+
+    List<VacationBalance> findByEmployeeIdInAndYear(Collection<UUID> employeeIds, int year);
+}
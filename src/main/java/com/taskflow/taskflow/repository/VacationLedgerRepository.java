@@ -0,0 +1,18 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.dto.BookedDays;
+import com.taskflow.taskflow.model.VacationLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface VacationLedgerRepository extends JpaRepository<VacationLedgerEntry, Long> {
+
+    // what the vacation holds per year right now; reads idx_vacation_ledger_vacation
+    @Query("select new com.taskflow.taskflow.dto.BookedDays(e.year, sum(e.pendingDelta), sum(e.usedDelta)) " +
+            "from VacationLedgerEntry e where e.vacationId = :vacationId group by e.year")
+    List<BookedDays> sumBookedByVacation(@Param("vacationId") UUID vacationId);
+}
@@ -0,0 +1,16 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.model.VacationPolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface VacationPolicyRepository extends JpaRepository<VacationPolicy, UUID> {
+
+    List<VacationPolicy> findByEnabledTrue();
+
+    List<VacationPolicy> findAllByOrderByName();
+}
@@ -1,20 +1,212 @@
 package com.taskflow.taskflow.repository;
 
 import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.FeedEntry;
+import com.taskflow.taskflow.dto.LedgerSpan;
+import com.taskflow.taskflow.dto.PendingApproval;
+import com.taskflow.taskflow.dto.RollupSpan;
+import com.taskflow.taskflow.dto.VacationDecisionTarget;
+import com.taskflow.taskflow.dto.VacationFact;
+import com.taskflow.taskflow.dto.VacationSpan;
 import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.model.Vacation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface VacationRepository extends JpaRepository<Vacation, UUID> {
-    List<Vacation> findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(LocalDate endDate, LocalDate startDate, List<VacationStatus> statuses);
+public interface VacationRepository extends JpaRepository<Vacation, UUID>, JpaSpecificationExecutor<Vacation> {
+    List<Vacation> findByRequesterIdAndStatusIn(UUID requesterId, Collection<VacationStatus> statuses);
+
+    @Query("select new com.taskflow.taskflow.dto.VacationSpan(v.requester.id, v.startDate, v.endDate, v.status) " +
+            "from Vacation v where v.requester.id in :employeeIds and v.status in :statuses " +
+            "and v.startDate <= :to and v.endDate >= :from")
+    List<VacationSpan> findSpansOverlapping(@Param("employeeIds") Collection<UUID> employeeIds,
+                                            @Param("statuses") Collection<VacationStatus> statuses,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    // grouped per employee and sorted by start within each group, straight off idx_vacations_employee_start
+    @Query("select new com.taskflow.taskflow.dto.VacationSpan(v.requester.id, v.startDate, v.endDate, v.status) " +
+            "from Vacation v where v.requester.id in :employeeIds and v.status in :statuses " +
+            "and v.startDate <= :to and v.endDate >= :from order by v.requester.id, v.startDate")
+    List<VacationSpan> findSpansOverlappingByEmployee(@Param("employeeIds") Collection<UUID> employeeIds,
+                                                      @Param("statuses") Collection<VacationStatus> statuses,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
+
+    @Query("select new com.taskflow.taskflow.dto.VacationSpan(v.requester.id, v.startDate, v.endDate, v.status) " +
+            "from Vacation v where v.status in :statuses " +
+            "and v.startDate <= :to and v.endDate >= :from order by v.requester.id, v.startDate")
+    List<VacationSpan> findAllSpansOverlappingByEmployee(@Param("statuses") Collection<VacationStatus> statuses,
+                                                         @Param("from") LocalDate from,
+                                                         @Param("to") LocalDate to);
+
+    @Query("select new com.taskflow.taskflow.dto.VacationSpan(v.requester.id, v.startDate, v.endDate, v.status) " +
+            "from Vacation v where v.status in :statuses")
+    List<VacationSpan> findSpansByStatusIn(@Param("statuses") Collection<VacationStatus> statuses);
+
+    @Query("select new com.taskflow.taskflow.dto.VacationDecisionTarget(v.id, r.id, m.id, v.startDate, v.endDate, v.status) " +
+            "from Vacation v join v.requester r left join r.manager m where v.id in :ids")
+    List<VacationDecisionTarget> findDecisionTargets(@Param("ids") Collection<UUID> ids);
+
+    @Query("select new com.taskflow.taskflow.dto.VacationDecisionTarget(v.id, r.id, m.id, v.startDate, v.endDate, v.status) " +
+            "from Vacation v join v.requester r join r.manager m " +
+            "where m.id = :managerId and v.status = :status and v.startDate <= :to and v.endDate >= :from " +
+            "order by v.startDate, v.id")
+    List<VacationDecisionTarget> findTeamTargetsOverlapping(@Param("managerId") UUID managerId,
+                                                            @Param("status") VacationStatus status,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to);
+
+    // the status guard makes a concurrent decision win instead of being overwritten; the returned
+    // ids are exactly the rows this statement changed, so a same-status or deleted row is not among them
+    @Transactional
+    @Query(value = """
+            UPDATE vacations
+               SET status = :status,
+                   approval_comment = :approvalComment,
+                   rejection_reason = :rejectionReason,
+                   decided_at = :decidedAt,
+                   decided_by = :decidedBy
+             WHERE id IN (:ids) AND status = 'PENDING'
+            RETURNING id
+            """, nativeQuery = true)
+    List<UUID> decidePending(@Param("ids") Collection<UUID> ids,
+                             @Param("status") String status,
+                             @Param("approvalComment") String approvalComment,
+                             @Param("rejectionReason") String rejectionReason,
+                             @Param("decidedAt") LocalDate decidedAt,
+                             @Param("decidedBy") UUID decidedBy);
+
+    // compare-and-set: only a still PENDING row changes, and it comes back in the same round trip.
+    // The row is mapped to the entity, so the vacation must not already be loaded in the session.
+    @Transactional
+    @Query(value = """
+            UPDATE vacations
+               SET status = :status,
+                   approval_comment = :approvalComment,
+                   rejection_reason = :rejectionReason,
+                   decided_at = :decidedAt,
+                   decided_by = :decidedBy
+             WHERE id = :id AND status = 'PENDING'
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Vacation> decideIfPending(@Param("id") UUID id,
+                                       @Param("status") String status,
+                                       @Param("approvalComment") String approvalComment,
+                                       @Param("rejectionReason") String rejectionReason,
+                                       @Param("decidedAt") LocalDate decidedAt,
+                                       @Param("decidedBy") UUID decidedBy);
+
+    // an employee's vacations touching one year, except one; only used to open a balance year
+    @Query("select new com.taskflow.taskflow.dto.LedgerSpan(v.id, v.startDate, v.endDate, v.status) " +
+            "from Vacation v where v.requester.id = :employeeId and v.status in :statuses and v.id <> :excludeId " +
+            "and v.startDate <= :yearEnd and v.endDate >= :yearStart")
+    List<LedgerSpan> findSpansInYear(@Param("employeeId") UUID employeeId,
+                                     @Param("statuses") Collection<VacationStatus> statuses,
+                                     @Param("yearStart") LocalDate yearStart,
+                                     @Param("yearEnd") LocalDate yearEnd,
+                                     @Param("excludeId") UUID excludeId);
+
+    // every vacation touching the range, whatever its status; only used to rebuild the absence rollups
+    @Query("select new com.taskflow.taskflow.dto.RollupSpan(m.id, r.location, v.startDate, v.endDate, v.status) " +
+            "from Vacation v join v.requester r left join r.manager m " +
+            "where v.startDate <= :to and v.endDate >= :from")
+    List<RollupSpan> findRollupSpans(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // most of the given employees on PENDING or APPROVED leave on one day of [from, to]. Runs in the
+    // caller's transaction, so it also sees vacations that transaction has written but not committed
+    @Query(value = """
+            SELECT COALESCE(MAX(members_out), 0) FROM (
+                SELECT day, COUNT(DISTINCT v.employee_id) AS members_out
+                  FROM vacations v
+                 CROSS JOIN LATERAL generate_series(GREATEST(v.start_date, :from), LEAST(v.end_date, :to),
+                                                    INTERVAL '1 day') AS day
+                 WHERE v.employee_id IN (:employeeIds)
+                   AND v.status IN ('PENDING', 'APPROVED')
+                   AND v.start_date <= :to AND v.end_date >= :from
+                 GROUP BY day
+            ) AS per_day
+            """, nativeQuery = true)
+    int maxOutOnAnyDay(@Param("employeeIds") Collection<UUID> employeeIds,
+                       @Param("from") LocalDate from,
+                       @Param("to") LocalDate to);
+
+    // one employee's live vacations, whatever their status; only used to move the absence rollups on reassignment
+    @Query("select new com.taskflow.taskflow.dto.RollupSpan(m.id, r.location, v.startDate, v.endDate, v.status) " +
+            "from Vacation v join v.requester r left join r.manager m where r.id = :employeeId")
+    List<RollupSpan> findRollupSpansByEmployee(@Param("employeeId") UUID employeeId);
+
+    @Query("select new com.taskflow.taskflow.dto.FeedEntry(v.id, r.firstName, r.lastName, v.startDate, v.endDate, v.decidedAt) " +
+            "from Vacation v join v.requester r " +
+            "where r.id = :employeeId and v.status = com.taskflow.taskflow.data.VacationStatus.APPROVED " +
+            "and v.endDate >= :from order by v.startDate, v.id")
+    List<FeedEntry> findPersonalFeed(@Param("employeeId") UUID employeeId, @Param("from") LocalDate from);
+
+    @Query("select new com.taskflow.taskflow.dto.FeedEntry(v.id, r.firstName, r.lastName, v.startDate, v.endDate, v.decidedAt) " +
+            "from Vacation v join v.requester r " +
+            "where r.manager.id = :managerId and v.status = com.taskflow.taskflow.data.VacationStatus.APPROVED " +
+            "and v.endDate >= :from order by v.startDate, v.id")
+    List<FeedEntry> findTeamFeed(@Param("managerId") UUID managerId, @Param("from") LocalDate from);
+
+    @Query("select new com.taskflow.taskflow.dto.PendingApproval(v.id, r.id, m.email) " +
+            "from Vacation v join v.requester r join r.manager m " +
+            "where v.status = com.taskflow.taskflow.data.VacationStatus.PENDING")
+    List<PendingApproval> findPendingApprovals();
+
+    @Query("select new com.taskflow.taskflow.dto.VacationFact(v.id, r.id, m.id, r.role, v.status, " +
+            "v.createdAt, v.startDate, v.endDate, v.decidedAt, v.decidedBy) " +
+            "from Vacation v join v.requester r left join r.manager m")
+    List<VacationFact> findAllFacts();
+
+    // archived vacations keep counting in analytics; their employee may since have been deleted
+    @Query("select new com.taskflow.taskflow.dto.VacationFact(a.id, a.employeeId, m.id, e.role, a.status, " +
+            "a.createdAt, a.startDate, a.endDate, a.decidedAt, a.decidedBy) " +
+            "from ArchivedVacation a left join Employee e on e.id = a.employeeId left join e.manager m")
+    List<VacationFact> findAllArchivedFacts();
+
+    @Query("select new com.taskflow.taskflow.dto.VacationFact(v.id, r.id, m.id, r.role, v.status, " +
+            "v.createdAt, v.startDate, v.endDate, v.decidedAt, v.decidedBy) " +
+            "from Vacation v join v.requester r left join r.manager m where v.id = :id")
+    Optional<VacationFact> findFact(@Param("id") UUID id);
 
     Page<Vacation> findByRequester(Employee requester, Pageable pageable);
 
-    Page<Vacation> findByRequesterIn(List<Employee> requesters, Pageable pageable);
+    // one constant-shape query however many reports the manager has; ties on start date fall back to the id
+    @Query(value = "select v from Vacation v join v.requester e " +
+            "where e.id = :managerId or e.manager.id = :managerId " +
+            "order by v.startDate desc, v.id desc",
+            countQuery = "select count(v) from Vacation v join v.requester e " +
+                    "where e.id = :managerId or e.manager.id = :managerId")
+    Page<Vacation> findForManager(@Param("managerId") UUID managerId, Pageable pageable);
+
+    @Query(value = """
+            WITH RECURSIVE team AS (
+                SELECT CAST(:managerId AS uuid) AS id
+                UNION
+                SELECT e.id FROM employees e JOIN team t ON e.manager_id = t.id
+            )
+            SELECT v.* FROM vacations v JOIN team t ON v.employee_id = t.id
+            ORDER BY v.start_date DESC, v.id DESC
+            """,
+            countQuery = """
+            WITH RECURSIVE team AS (
+                SELECT CAST(:managerId AS uuid) AS id
+                UNION
+                SELECT e.id FROM employees e JOIN team t ON e.manager_id = t.id
+            )
+            SELECT count(*) FROM vacations v JOIN team t ON v.employee_id = t.id
+            """,
+            nativeQuery = true)
+    Page<Vacation> findForManagerTransitive(@Param("managerId") UUID managerId, Pageable pageable);
 }
@@ -0,0 +1,47 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.model.VacationMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface VacationRollupRepository extends JpaRepository<VacationMonthlyRollup, VacationMonthlyRollup.Key> {
+
+    // upsert in one statement, so concurrent changes for the same team and month cannot lose an update
+    @Modifying
+    @Query(value = """
+            INSERT INTO vacation_monthly_rollups (rollup_month, manager_id, status, days)
+            VALUES (:month, :managerId, :status, :days)
+            ON CONFLICT (rollup_month, manager_id, status)
+            DO UPDATE SET days = vacation_monthly_rollups.days + EXCLUDED.days
+            """, nativeQuery = true)
+    int applyDelta(@Param("month") LocalDate month,
+                   @Param("managerId") UUID managerId,
+                   @Param("status") String status,
+                   @Param("days") int days);
+
+    // conflicts with the lock every delta write takes, so a rebuild waits for in-flight changes to
+    // commit (and sees them) and later changes wait for the rebuild (and apply on top of it)
+    @Modifying
+    @Query(value = "LOCK TABLE vacation_monthly_rollups IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query("delete from VacationMonthlyRollup r where r.month between :from and :to")
+    int deleteMonths(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select r from VacationMonthlyRollup r where r.month between :from and :to and r.days <> 0 " +
+            "order by r.month, r.managerId, r.status")
+    List<VacationMonthlyRollup> findInRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select r from VacationMonthlyRollup r where r.managerId = :managerId " +
+            "and r.month between :from and :to and r.days <> 0 order by r.month, r.status")
+    List<VacationMonthlyRollup> findInRangeForManager(@Param("managerId") UUID managerId,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
+}
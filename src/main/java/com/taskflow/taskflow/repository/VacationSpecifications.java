@@ -0,0 +1,67 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.util.VacationCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Predicates for the vacation search. Each one matches an index on vacations (see {@link Vacation}
+ * and schema.sql) so any combination can be answered by an index range scan in (start_date, id) order.
+ */
+public final class VacationSpecifications {
+
+    private VacationSpecifications() {}
+
+    public static Specification<Vacation> any() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<Vacation> hasStatus(VacationStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Vacation> endsOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("endDate"), from);
+    }
+
+    public static Specification<Vacation> startsOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("startDate"), to);
+    }
+
+    public static Specification<Vacation> requestedBy(UUID employeeId) {
+        return (root, query, cb) -> cb.equal(root.get("requester").get("id"), employeeId);
+    }
+
+    public static Specification<Vacation> decidedBy(UUID employeeId) {
+        return (root, query, cb) -> cb.equal(root.get("decidedBy"), employeeId);
+    }
+
+    public static Specification<Vacation> reportsTo(UUID managerId) {
+        return (root, query, cb) -> cb.equal(root.get("requester").get("manager").get("id"), managerId);
+    }
+
+    public static Specification<Vacation> requestedByOrReportsTo(UUID managerId) {
+        return (root, query, cb) -> cb.or(
+                cb.equal(root.get("requester").get("id"), managerId),
+                cb.equal(root.get("requester").get("manager").get("id"), managerId)
+        );
+    }
+
+    /**
+     * Rows strictly after the cursor in (startDate, id) order. The leading startDate >= bound is
+     * implied by the OR but spelled out so the planner can use it as an index condition.
+     */
+    public static Specification<Vacation> after(VacationCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("startDate"), cursor.startDate()),
+                cb.or(
+                        cb.greaterThan(root.get("startDate"), cursor.startDate()),
+                        cb.greaterThan(root.<UUID>get("id"), cursor.id())
+                )
+        );
+    }
+}
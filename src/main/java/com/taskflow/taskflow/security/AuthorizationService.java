@@ -1,6 +1,8 @@
 package com.taskflow.taskflow.security;
 
 import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.dto.VacationDecisionTarget;
+import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.model.Vacation;
 import com.taskflow.taskflow.repository.VacationRepository;
 import org.springframework.http.HttpStatus;
@@ -8,8 +10,10 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 @Service
 public class AuthorizationService {
@@ -38,6 +42,21 @@ public class AuthorizationService {
         return attemptRequire(() -> requireAdminOrOwner(employeeId));
     }
 
+    /**
+     * Resolves the caller once and returns the per-item rule used by {@link #isAdminOrOwner(UUID)},
+     * so batch reads can filter many vacations without one lookup per item.
+     */
+    public Predicate<Vacation> readableVacations() {
+        Optional<Role> callerRole = currentUserService.getCurrentRole();
+        if (callerRole.isPresent() && callerRole.get() == Role.ADMIN) {
+            return vac -> true;
+        }
+
+        UUID callerId = currentUserService.getCurrentEmployee()
+                .map(Employee::getId)
+                .orElseThrow(() -> new AccessDeniedException("Unable to resolve current user"));
+        return vac -> isOwner(vac, callerId);
+    }
 
     private boolean attemptRequire(Runnable requirement) {
         try {
@@ -74,12 +93,16 @@ public class AuthorizationService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation not found"));
 
 
-        if (vac.getRequester().getId().equals(currentEmployee.getId())) {
+        if (isOwner(vac, currentEmployee.getId())) {
             return;
         }
         throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Caller is not authorized to perform this action on the vacation");
     }
 
+    private static boolean isOwner(Vacation vac, UUID employeeId) {
+        return vac.getRequester() != null && vac.getRequester().getId().equals(employeeId);
+    }
+
     private void requireManagerRole(UUID vacationId) {
         Optional<Role> callerRole = currentUserService.getCurrentRole();
 
@@ -91,24 +114,19 @@ public class AuthorizationService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Insufficient role privileges");
         }
 
-        Vacation vac = vacationRepository.findById(vacationId)
+        // a projection, not the entity: the decision UPDATE must be the first to load this vacation
+        VacationDecisionTarget target = vacationRepository.findDecisionTargets(List.of(vacationId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation not found"));
 
-        if (vac.getRequester() == null || vac.getRequester().getId() == null) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Vacation has no associated requester");
-        }
-
         var currentEmployeeOpt = currentUserService.getCurrentEmployee();
         if (currentEmployeeOpt.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user");
         }
 
-        if (vac.getRequester().getManager().getId() == currentEmployeeOpt.get().getId()) {
-            return;
-        } else {
+        if (!currentEmployeeOpt.get().getId().equals(target.managerId())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Caller is not authorized to perform this action on the vacation");
         }
-
     }
 
     private void requireAdminOrManagerOfTeam() {
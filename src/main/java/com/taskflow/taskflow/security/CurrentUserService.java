@@ -27,6 +27,23 @@ public class CurrentUserService {
     }
 
     public Optional<Employee> getCurrentEmployee() {
+        String principalStr = getCurrentPrincipalName().orElse(null);
+        if (principalStr == null) return Optional.empty();
+
+        try {
+            UUID id = UUID.fromString(principalStr);
+            return employeeRepository.findById(id);
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        return employeeRepository.findByEmail(principalStr);
+    }
+
+    /**
+     * The authenticated principal's name (the login), read from the security context without
+     * touching the database.
+     */
+    public Optional<String> getCurrentPrincipalName() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) {
             return Optional.empty();
@@ -41,16 +58,7 @@ public class CurrentUserService {
         } else if (principal != null) {
             principalStr = String.valueOf(principal);
         }
-
-        if (principalStr == null) return Optional.empty();
-
-        try {
-            UUID id = UUID.fromString(principalStr);
-            return employeeRepository.findById(id);
-        } catch (IllegalArgumentException ignored) {
-        }
-
-        return employeeRepository.findByEmail(principalStr);
+        return Optional.ofNullable(principalStr);
     }
 
     public Optional<Role> getCurrentRole() {
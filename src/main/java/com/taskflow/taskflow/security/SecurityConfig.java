@@ -2,6 +2,7 @@ package com.taskflow.taskflow.security;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -42,6 +43,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                        // calendar clients cannot send a bearer token; the feed token in the URL is checked instead
+                        .requestMatchers(HttpMethod.GET, "/feeds/*.ics").permitAll()
                         .requestMatchers("/projects/**").hasAnyRole("MANAGER", "ADMIN", "EMPLOYEE")
                         .anyRequest().authenticated()
                 )
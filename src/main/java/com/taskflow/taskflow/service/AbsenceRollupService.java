@@ -0,0 +1,215 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.calendar.BusinessDayCalendar;
+import com.taskflow.taskflow.calendar.HolidayCalendars;
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.AbsenceReportResponse;
+import com.taskflow.taskflow.dto.MonthlyAbsenceEntry;
+import com.taskflow.taskflow.dto.RollupRebuildResponse;
+import com.taskflow.taskflow.dto.RollupSpan;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.VacationMonthlyRollup;
+import com.taskflow.taskflow.repository.ArchivedVacationRepository;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.repository.VacationRollupRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Monthly business days off per manager and status. Each vacation change moves its days out of
+ * the previous status and into the new one inside the changing transaction, so reports read the
+ * small rollup table and never scan {@code vacations}. Days are filed under the requester's
+ * current manager: a reassignment moves the employee's live vacations to the new manager in the
+ * same transaction, so a later change reverses its days where they are. {@link #rebuild}
+ * recomputes a range from scratch with the current org chart and calendars, for backfills and
+ * after calendar changes.
+ */
+@Service
+public class AbsenceRollupService {
+
+    // stands in for "no manager" in the rollup key
+    public static final UUID NO_MANAGER = new UUID(0, 0);
+    public static final int MAX_REPORT_MONTHS = 36;
+
+    private final VacationRollupRepository rollupRepository;
+    private final VacationRepository vacationRepository;
+    private final ArchivedVacationRepository archivedVacationRepository;
+    private final EmployeeRepository employeeRepository;
+    private final HolidayCalendars holidayCalendars;
+    private final CurrentUserService currentUserService;
+
+    public AbsenceRollupService(VacationRollupRepository rollupRepository,
+                                VacationRepository vacationRepository,
+                                ArchivedVacationRepository archivedVacationRepository,
+                                EmployeeRepository employeeRepository,
+                                HolidayCalendars holidayCalendars,
+                                CurrentUserService currentUserService) {
+        this.rollupRepository = rollupRepository;
+        this.vacationRepository = vacationRepository;
+        this.archivedVacationRepository = archivedVacationRepository;
+        this.employeeRepository = employeeRepository;
+        this.holidayCalendars = holidayCalendars;
+        this.currentUserService = currentUserService;
+    }
+
+    // synchronous on purpose: the rollups must commit or roll back with the vacation change
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onVacationChanged(VacationChangedEvent event) {
+        if (event.previousStatus() == event.status()) {
+            return;
+        }
+        UUID managerId = employeeRepository.findManagerIdById(event.employeeId()).orElse(NO_MANAGER);
+        BusinessDayCalendar calendar = holidayCalendars.forEmployee(event.employeeId());
+
+        for (Map.Entry<YearMonth, Integer> entry : calendar.businessDaysPerMonth(event.startDate(), event.endDate()).entrySet()) {
+            int days = entry.getValue();
+            if (days == 0) {
+                continue;
+            }
+            LocalDate month = entry.getKey().atDay(1);
+            if (event.previousStatus() != null) {
+                rollupRepository.applyDelta(month, managerId, event.previousStatus().name(), -days);
+            }
+            if (event.status() != null) {
+                rollupRepository.applyDelta(month, managerId, event.status().name(), days);
+            }
+        }
+    }
+
+    /**
+     * Moves the days of every live vacation of the employee, whatever its status, from the
+     * previous manager's rollups to the new one's. Archived vacations stay where they were booked.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onManagerChanged(EmployeeManagerChangedEvent event) {
+        UUID from = event.previousManagerId() == null ? NO_MANAGER : event.previousManagerId();
+        UUID to = event.managerId() == null ? NO_MANAGER : event.managerId();
+        if (from.equals(to)) {
+            return;
+        }
+        // counted on the calendar the deltas were booked with, so both sides cancel exactly
+        BusinessDayCalendar calendar = holidayCalendars.forEmployee(event.employeeId());
+
+        Map<VacationMonthlyRollup.Key, Integer> totals = new HashMap<>();
+        for (RollupSpan span : vacationRepository.findRollupSpansByEmployee(event.employeeId())) {
+            calendar.businessDaysPerMonth(span.startDate(), span.endDate()).forEach(
+                    (month, days) -> totals.merge(
+                            new VacationMonthlyRollup.Key(month.atDay(1), from, span.status()), days, Integer::sum));
+        }
+
+        for (Map.Entry<VacationMonthlyRollup.Key, Integer> total : totals.entrySet()) {
+            if (total.getValue() != 0) {
+                VacationMonthlyRollup.Key key = total.getKey();
+                rollupRepository.applyDelta(key.getMonth(), from, key.getStatus().name(), -total.getValue());
+                rollupRepository.applyDelta(key.getMonth(), to, key.getStatus().name(), total.getValue());
+            }
+        }
+    }
+
+    /**
+     * Replaces the rollups of {@code [from, to]} with totals recomputed from every vacation that
+     * touches the range. Vacation changes wait while it runs. Months holding archived vacations
+     * keep their rollups: they cannot be recomputed from the live table, and never change again.
+     */
+    @Transactional
+    public RollupRebuildResponse rebuild(YearMonth from, YearMonth to) {
+        YearMonth end = to == null ? YearMonth.now() : to;
+        YearMonth start = from == null ? end.minusMonths(MAX_REPORT_MONTHS - 1L) : from;
+        YearMonth archivedThrough = archivedVacationRepository.findArchivedThrough().map(YearMonth::from).orElse(null);
+        if (archivedThrough != null && !start.isAfter(archivedThrough)) {
+            if (from != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Months through " + archivedThrough + " are archived and cannot be rebuilt");
+            }
+            start = archivedThrough.plusMonths(1);
+        }
+        if (end.isBefore(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "To month cannot be before from month");
+        }
+        LocalDate rangeStart = start.atDay(1);
+        LocalDate rangeEnd = end.atEndOfMonth();
+
+        rollupRepository.lockForRebuild();
+        rollupRepository.deleteMonths(rangeStart, end.atDay(1));
+
+        List<RollupSpan> spans = vacationRepository.findRollupSpans(rangeStart, rangeEnd);
+        Map<VacationMonthlyRollup.Key, Integer> totals = new HashMap<>();
+        for (RollupSpan span : spans) {
+            UUID managerId = span.managerId() == null ? NO_MANAGER : span.managerId();
+            LocalDate clippedStart = span.startDate().isBefore(rangeStart) ? rangeStart : span.startDate();
+            LocalDate clippedEnd = span.endDate().isAfter(rangeEnd) ? rangeEnd : span.endDate();
+            holidayCalendars.forLocation(span.location()).businessDaysPerMonth(clippedStart, clippedEnd).forEach(
+                    (month, days) -> totals.merge(
+                            new VacationMonthlyRollup.Key(month.atDay(1), managerId, span.status()), days, Integer::sum));
+        }
+
+        int rows = 0;
+        for (Map.Entry<VacationMonthlyRollup.Key, Integer> total : totals.entrySet()) {
+            if (total.getValue() != 0) {
+                VacationMonthlyRollup.Key key = total.getKey();
+                rollupRepository.applyDelta(key.getMonth(), key.getManagerId(), key.getStatus().name(), total.getValue());
+                rows++;
+            }
+        }
+        return new RollupRebuildResponse(start, end, spans.size(), rows);
+    }
+
+    /**
+     * Reads the rollups of {@code [from, to]} (default: the last {@value #MAX_REPORT_MONTHS} months).
+     * Managers see their own team; admins see one manager's team or, without one, every team.
+     */
+    @Transactional(readOnly = true)
+    public AbsenceReportResponse findReport(UUID managerId, YearMonth from, YearMonth to) {
+        YearMonth end = to == null ? YearMonth.now() : to;
+        YearMonth start = from == null ? end.minusMonths(MAX_REPORT_MONTHS - 1L) : from;
+        if (end.isBefore(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "To month cannot be before from month");
+        }
+        if (start.until(end, ChronoUnit.MONTHS) >= MAX_REPORT_MONTHS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Report range cannot exceed " + MAX_REPORT_MONTHS + " months");
+        }
+
+        UUID scope = resolveManager(managerId);
+        List<VacationMonthlyRollup> rows = scope == null
+                ? rollupRepository.findInRange(start.atDay(1), end.atDay(1))
+                : rollupRepository.findInRangeForManager(scope, start.atDay(1), end.atDay(1));
+
+        List<MonthlyAbsenceEntry> months = rows.stream()
+                .map(r -> new MonthlyAbsenceEntry(YearMonth.from(r.getMonth()),
+                        NO_MANAGER.equals(r.getManagerId()) ? null : r.getManagerId(), r.getStatus(), r.getDays()))
+                .toList();
+        return new AbsenceReportResponse(start, end, scope, months);
+    }
+
+    // null means every team
+    private UUID resolveManager(UUID requestedManagerId) {
+        Employee caller = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+        if (caller.getRole() == Role.ADMIN) {
+            return requestedManagerId;
+        }
+        if (requestedManagerId == null || requestedManagerId.equals(caller.getId())) {
+            return caller.getId();
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Managers can only view their own team report");
+    }
+}
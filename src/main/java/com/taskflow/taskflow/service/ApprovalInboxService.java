@@ -0,0 +1,43 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.dto.CursorPage;
+import com.taskflow.taskflow.dto.InboxCountResponse;
+import com.taskflow.taskflow.dto.VacationFilter;
+import com.taskflow.taskflow.dto.VacationResponse;
+import com.taskflow.taskflow.index.PendingApprovalCounters;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * The approver's inbox: PENDING requests from the caller's direct reports, soonest start first,
+ * and the badge count, which is read from {@link PendingApprovalCounters} instead of the database.
+ */
+@Service
+public class ApprovalInboxService {
+
+    private final VacationService vacationService;
+    private final PendingApprovalCounters pendingApprovalCounters;
+    private final CurrentUserService currentUserService;
+
+    public ApprovalInboxService(VacationService vacationService,
+                                PendingApprovalCounters pendingApprovalCounters,
+                                CurrentUserService currentUserService) {
+        this.vacationService = vacationService;
+        this.pendingApprovalCounters = pendingApprovalCounters;
+        this.currentUserService = currentUserService;
+    }
+
+    // keyset search ordered by (startDate, id), served by idx_vacations_pending_start_id
+    public CursorPage<VacationResponse> inbox(String cursor, Integer size) {
+        VacationFilter pendingForMe = new VacationFilter(null, null, null, null, null, true);
+        return vacationService.search(pendingForMe, cursor, size);
+    }
+
+    public InboxCountResponse count() {
+        String approver = currentUserService.getCurrentPrincipalName()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated"));
+        return new InboxCountResponse(pendingApprovalCounters.count(approver));
+    }
+}
@@ -0,0 +1,128 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.CommonAvailabilityInput;
+import com.taskflow.taskflow.dto.CommonAvailabilityResponse;
+import com.taskflow.taskflow.dto.FreeWindow;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.util.VacationHelper;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Date windows in which nobody in a group is on (or has asked for) leave, for planning offsites.
+ * The group's PENDING and APPROVED vacations come from one query ordered by employee and start;
+ * their busy intervals go into flat arrays, one sorted run per employee, and
+ * {@link VacationHelper#findCommonFreeWindows} merges the runs k ways.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CommonAvailabilityService {
+
+    private static final List<VacationStatus> BUSY_STATUSES = List.of(VacationStatus.PENDING, VacationStatus.APPROVED);
+
+    private final EmployeeRepository employeeRepository;
+    private final VacationRepository vacationRepository;
+    private final CurrentUserService currentUserService;
+
+    public CommonAvailabilityService(EmployeeRepository employeeRepository,
+                                     VacationRepository vacationRepository,
+                                     CurrentUserService currentUserService) {
+        this.employeeRepository = employeeRepository;
+        this.vacationRepository = vacationRepository;
+        this.currentUserService = currentUserService;
+    }
+
+    public CommonAvailabilityResponse findCommonAvailability(CommonAvailabilityInput input) {
+        LocalDate from = input.getFrom();
+        LocalDate to = input.getTo();
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "To date cannot be before from date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= TeamCoverageService.MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range cannot exceed " + TeamCoverageService.MAX_RANGE_DAYS + " days");
+        }
+        int minLength = input.getMinLength() == null ? 1 : input.getMinLength();
+
+        Set<UUID> group = resolveGroup(input.getEmployeeIds(), input.getManagerId());
+        List<VacationSpan> spans = vacationRepository.findSpansOverlappingByEmployee(group, BUSY_STATUSES, from, to);
+
+        long[] starts = new long[spans.size()];
+        long[] ends = new long[spans.size()];
+        List<Integer> offsets = new ArrayList<>();
+        UUID current = null;
+        for (int i = 0; i < spans.size(); i++) {
+            VacationSpan span = spans.get(i);
+            if (!span.employeeId().equals(current)) {
+                offsets.add(i);
+                current = span.employeeId();
+            }
+            starts[i] = span.startDate().toEpochDay();
+            ends[i] = span.endDate().toEpochDay();
+        }
+        offsets.add(spans.size());
+
+        List<FreeWindow> windows = VacationHelper.findCommonFreeWindows(
+                starts, ends, offsets.stream().mapToInt(Integer::intValue).toArray(), from, to, minLength);
+        return new CommonAvailabilityResponse(from, to, group.size(), windows);
+    }
+
+    private Set<UUID> resolveGroup(List<UUID> employeeIds, UUID managerId) {
+        boolean byIds = employeeIds != null && !employeeIds.isEmpty();
+        if (byIds == (managerId != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Provide either employee ids or a manager id");
+        }
+
+        Employee caller = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+        boolean admin = caller.getRole() == Role.ADMIN;
+
+        if (byIds) {
+            Set<UUID> group = new LinkedHashSet<>(employeeIds);
+            // same rule as the manager path: outside ADMIN, only the caller and their reporting tree
+            if (!admin) {
+                Set<UUID> allowed = new HashSet<>(employeeRepository.findTeamIdsTransitive(caller.getId()));
+                allowed.add(caller.getId());
+                if (!allowed.containsAll(group)) {
+                    throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Managers can only check their own reporting tree");
+                }
+            }
+            // an unknown id would silently count as always free
+            if (employeeRepository.countByIdIn(group) != group.size()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "One or more employees not found");
+            }
+            return group;
+        }
+
+        if (!managerId.equals(caller.getId()) && !admin) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Managers can only check their own reporting tree");
+        }
+        if (!managerId.equals(caller.getId()) && !employeeRepository.existsById(managerId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Manager not found");
+        }
+        Set<UUID> group = new LinkedHashSet<>();
+        group.add(managerId);
+        group.addAll(employeeRepository.findTeamIdsTransitive(managerId));
+        if (group.size() > CommonAvailabilityInput.MAX_EMPLOYEES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Reporting tree has more than " + CommonAvailabilityInput.MAX_EMPLOYEES + " employees");
+        }
+        return group;
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.model.EmployeeHistory;
+import com.taskflow.taskflow.repository.EmployeeHistoryRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class EmployeeHistoryService {
+
+    private final EmployeeHistoryRepository employeeHistoryRepository;
+
+    public EmployeeHistoryService(EmployeeHistoryRepository employeeHistoryRepository) {
+        this.employeeHistoryRepository = employeeHistoryRepository;
+    }
+
+    /**
+     * Org chart as it stood at the end of {@code date} (UTC): every employee version valid at that instant.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeHistory> findOrgChartAsOf(LocalDate date) {
+        if (date == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Date is required");
+        }
+        return employeeHistoryRepository.findAllValidAt(endOfDay(date));
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeHistory> findHistory(UUID employeeId) {
+        if (employeeId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Id is required");
+        }
+        List<EmployeeHistory> versions = employeeHistoryRepository.findAllByEmployee(employeeId);
+        if (versions.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee history not found");
+        }
+        return versions;
+    }
+
+    private static Instant endOfDay(LocalDate date) {
+        return date.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().minus(1, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes vacation writes per requester in two layers. Inside one node a fixed set of striped
+ * locks, keyed by the login and taken before the write transaction opens, queues double submits and
+ * retries while they hold no pooled connection. Inside the transaction a PostgreSQL
+ * transaction-scoped advisory lock per employee of the overlap scope covers other nodes and
+ * teammates, and is released by the commit or rollback. Logins on different stripes never wait for
+ * each other.
+ */
+@Component
+public class EmployeeMutationLock {
+
+    static final int STRIPES = 64;
+
+    private final EmployeeRepository employeeRepository;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public EmployeeMutationLock(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs {@code action} holding the stripe of {@code key}. Must be called before any transaction
+     * is open, otherwise the waiting thread would keep its connection checked out.
+     */
+    public <T> T withStripe(String key, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Stripe locks must be taken before the transaction opens");
+        }
+        ReentrantLock lock = stripes[stripe(key)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Locks every given employee for the rest of the current transaction. Advisory keys are always
+     * taken in ascending order, so two callers locking overlapping sets cannot deadlock.
+     */
+    public void lockForTransaction(Collection<UUID> employeeIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Employee locks must be taken inside a transaction");
+        }
+
+        SortedSet<Long> advisoryKeys = new TreeSet<>();
+        for (UUID id : employeeIds) {
+            advisoryKeys.add(advisoryKey(id));
+        }
+        for (long key : advisoryKeys) {
+            employeeRepository.lockForTransaction(key);
+        }
+    }
+
+    /**
+     * Locks the team reporting to {@code managerId} for the rest of the current transaction, so
+     * team-wide limits are checked by one request of the team at a time. Taken after the employee
+     * locks and never followed by another lock, so it cannot close a cycle with them.
+     */
+    public void lockTeamForTransaction(UUID managerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Team locks must be taken inside a transaction");
+        }
+        long key = advisoryKey(managerId);
+        employeeRepository.lockTeamForTransaction((int) (key >>> 32), (int) key);
+    }
+
+    static int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    static long advisoryKey(UUID employeeId) {
+        return employeeId.getMostSignificantBits() ^ employeeId.getLeastSignificantBits();
+    }
+}
@@ -1,13 +1,19 @@
 package com.taskflow.taskflow.service;
 
 import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.dto.BatchLookupResponse;
 import com.taskflow.taskflow.dto.EmployeeInput;
 import com.taskflow.taskflow.dto.EmployeeManagerResponse;
+import com.taskflow.taskflow.dto.EmployeeResponse;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
 import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.repository.EmployeeRepository;
 import com.taskflow.taskflow.security.CurrentUserService;
 import com.taskflow.taskflow.util.EmployeeMapper;
+import com.taskflow.taskflow.util.SqlStateUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -17,20 +23,29 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
     private final int pageSize;
 
-    public EmployeeService(EmployeeRepository employeeRepository, CurrentUserService currentUserService, @Value("${app.employees.page-size:20}") int pageSize) {
+    public EmployeeService(EmployeeRepository employeeRepository, CurrentUserService currentUserService,
+                           ApplicationEventPublisher eventPublisher, @Value("${app.employees.page-size:20}") int pageSize) {
         this.employeeRepository = employeeRepository;
         this.currentUserService = currentUserService;
+        this.eventPublisher = eventPublisher;
         this.pageSize = pageSize;
     }
 
@@ -47,27 +62,20 @@ public class EmployeeService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Manager is required");
         }
 
-        Optional<Employee> byEmail = employeeRepository.findByEmail(employee.getEmail());
-        if (byEmail.isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already in use");
-        }
-
-        if (employee.getManager() != null && employee.getManager().getId() != null) {
-            UUID managerId = employee.getManager().getId();
-            Employee manager = employeeRepository.findById(managerId)
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Manager not found"));
+        UUID managerId = employee.getManager().getId();
+        requireManagerialRole(managerId);
+        employee.setManager(employeeRepository.getReferenceById(managerId));
+        employee.setId(null);
 
-            if (manager.getRole() != Role.MANAGER && manager.getRole() != Role.ADMIN) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Assigned manager does not have a managerial role");
+        // the unique constraint on email is the duplicate check; flushing surfaces it here
+        try {
+            return employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException ex) {
+            if (SqlStateUtils.hasSqlState(ex, SqlStateUtils.UNIQUE_VIOLATION)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already in use");
             }
-
-            employee.setManager(manager);
-        } else {
-            employee.setManager(null);
+            throw ex;
         }
-
-        employee.setId(null);
-        return employeeRepository.save(employee);
     }
 
     @Transactional
@@ -99,17 +107,26 @@ public class EmployeeService {
             existing.setRole(payload.getRole());
         }
 
+        if (payload.getLocation() != null) {
+            existing.setLocation(payload.getLocation());
+        }
+
         if (payload.getManager() != null && payload.getManager().getId() != null) {
             UUID managerId = payload.getManager().getId();
             if (managerId.equals(id)) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Employee cannot be their own manager");
             }
-            Employee manager = employeeRepository.findById(managerId)
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Manager not found"));
-            existing.setManager(manager);
+            UUID currentManagerId = existing.getManager() != null ? existing.getManager().getId() : null;
+            if (!managerId.equals(currentManagerId)) {
+                requireManagerialRole(managerId);
+                existing.setManager(employeeRepository.getReferenceById(managerId));
+                eventPublisher.publishEvent(new EmployeeManagerChangedEvent(id, currentManagerId, managerId));
+            }
         } else {
-            if (payload.getManager() != null) {
+            if (payload.getManager() != null && existing.getManager() != null) {
+                UUID currentManagerId = existing.getManager().getId();
                 existing.setManager(null);
+                eventPublisher.publishEvent(new EmployeeManagerChangedEvent(id, currentManagerId, null));
             }
         }
 
@@ -121,10 +138,20 @@ public class EmployeeService {
         if (id == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Id is required");
         }
-        if (!employeeRepository.existsById(id)) {
+
+        int deleted;
+        try {
+            deleted = employeeRepository.deleteEmployeeById(id);
+        } catch (DataIntegrityViolationException ex) {
+            if (SqlStateUtils.hasSqlState(ex, SqlStateUtils.FOREIGN_KEY_VIOLATION)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Employee still has team members or vacations");
+            }
+            throw ex;
+        }
+
+        if (deleted == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found");
         }
-        employeeRepository.deleteById(id);
     }
 
     @Transactional(readOnly = true)
@@ -142,6 +169,33 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found"));
     }
 
+    @Transactional(readOnly = true)
+    public BatchLookupResponse<EmployeeResponse> findAllByIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ids are required");
+        }
+
+        Set<UUID> requested = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<UUID, Employee> found = employeeRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        List<EmployeeResponse> items = new ArrayList<>();
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID id : requested) {
+            Employee e = found.get(id);
+            if (e == null) {
+                notFound.add(id);
+            } else {
+                items.add(EmployeeMapper.toResponse(e));
+            }
+        }
+
+        return new BatchLookupResponse<>(items, notFound, List.of());
+    }
+
     @Transactional(readOnly = true)
     public Employee findByEmail(String email) {
         if (email == null || email.isBlank()) {
@@ -197,5 +251,13 @@ public class EmployeeService {
         return currentUserService.getCurrentEmployee()
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated"));
     }
-}
 
+    private void requireManagerialRole(UUID managerId) {
+        Role managerRole = employeeRepository.findRoleById(managerId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Manager not found"));
+
+        if (managerRole != Role.MANAGER && managerRole != Role.ADMIN) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Assigned manager does not have a managerial role");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.FeedScope;
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.dto.FeedTokenResponse;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.FeedToken;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.FeedTokenRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.service.VacationFeedService.FeedKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues, lists and revokes calendar feed tokens, and resolves a token from a feed URL to the feed
+ * it grants. Resolved tokens are remembered for {@code app.feeds.token-cache-seconds}, so most polls
+ * do not read the token table either. Once that time has passed, the next poll re-reads the token
+ * and its owner's role. A revocation, or a team feed's owner losing the manager role, therefore
+ * takes effect on every node within that time, and at once on the node that handled the revoke.
+ */
+@Service
+public class FeedTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final FeedTokenRepository feedTokenRepository;
+    private final EmployeeRepository employeeRepository;
+    private final CurrentUserService currentUserService;
+    private final long cacheNanos;
+    private final SecureRandom random = new SecureRandom();
+
+    // token hash -> feed, for tokens that were active when last checked
+    private final Map<String, Resolved> resolved = new ConcurrentHashMap<>();
+    // bumped after every committed revocation; a lookup that raced one is not remembered
+    private final AtomicLong revocations = new AtomicLong();
+
+    public FeedTokenService(FeedTokenRepository feedTokenRepository,
+                            EmployeeRepository employeeRepository,
+                            CurrentUserService currentUserService,
+                            @Value("${app.feeds.token-cache-seconds:60}") long cacheSeconds) {
+        this.feedTokenRepository = feedTokenRepository;
+        this.employeeRepository = employeeRepository;
+        this.currentUserService = currentUserService;
+        this.cacheNanos = TimeUnit.SECONDS.toNanos(cacheSeconds);
+    }
+
+    @Transactional
+    public FeedTokenResponse create(FeedScope scope) {
+        if (scope == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Scope is required");
+        }
+        Employee current = requireCurrentEmployee();
+        if (scope == FeedScope.TEAM && current.getRole() == Role.EMPLOYEE) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Team feeds are only available to managers");
+        }
+
+        byte[] secret = new byte[TOKEN_BYTES];
+        random.nextBytes(secret);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        FeedToken feedToken = new FeedToken();
+        feedToken.setTokenHash(hash(token));
+        feedToken.setEmployeeId(current.getId());
+        feedToken.setScope(scope);
+        FeedToken saved = feedTokenRepository.save(feedToken);
+
+        return new FeedTokenResponse(saved.getId(), saved.getScope(), saved.getCreatedAt(), token, "/feeds/" + token + ".ics");
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeedTokenResponse> findMine() {
+        Employee current = requireCurrentEmployee();
+        return feedTokenRepository.findByEmployeeIdAndRevokedAtIsNullOrderByCreatedAt(current.getId()).stream()
+                .map(t -> new FeedTokenResponse(t.getId(), t.getScope(), t.getCreatedAt(), null, null))
+                .toList();
+    }
+
+    // not transactional: the revocation must be committed before the remembered token is dropped
+    public void revoke(UUID id) {
+        if (id == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Id is required");
+        }
+        FeedToken feedToken = feedTokenRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Feed token not found"));
+        Employee current = requireCurrentEmployee();
+        if (!feedToken.getEmployeeId().equals(current.getId()) && current.getRole() != Role.ADMIN) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Feed token belongs to another employee");
+        }
+
+        if (feedToken.getRevokedAt() == null) {
+            feedToken.setRevokedAt(Instant.now());
+            feedTokenRepository.save(feedToken);
+        }
+        revocations.incrementAndGet();
+        resolved.remove(feedToken.getTokenHash());
+    }
+
+    public Optional<FeedKey> resolve(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String tokenHash = hash(token);
+        Resolved cached = resolved.get(tokenHash);
+        if (cached != null && System.nanoTime() - cached.expiresAt() < 0) {
+            return Optional.of(cached.key());
+        }
+
+        long seen = revocations.get();
+        Optional<FeedKey> key = feedTokenRepository.findByTokenHashAndRevokedAtIsNull(tokenHash)
+                .filter(this::ownerMayUse)
+                .map(t -> new FeedKey(t.getScope(), t.getEmployeeId()));
+        if (key.isEmpty()) {
+            resolved.remove(tokenHash);
+            return key;
+        }
+
+        Resolved fresh = new Resolved(key.get(), System.nanoTime() + cacheNanos);
+        resolved.put(tokenHash, fresh);
+        if (revocations.get() != seen) {
+            resolved.remove(tokenHash, fresh);
+        }
+        return key;
+    }
+
+    // the same rule as create: the owner must still exist, and team feeds need more than the employee role
+    private boolean ownerMayUse(FeedToken feedToken) {
+        Optional<Role> role = employeeRepository.findRoleById(feedToken.getEmployeeId());
+        return role.isPresent() && !(feedToken.getScope() == FeedScope.TEAM && role.get() == Role.EMPLOYEE);
+    }
+
+    private Employee requireCurrentEmployee() {
+        return currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated"));
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private record Resolved(FeedKey key, long expiresAt) {
+    }
+}
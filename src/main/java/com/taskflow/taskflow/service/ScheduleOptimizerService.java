@@ -0,0 +1,229 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.ScheduleObjective;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.BulkDecisionInput;
+import com.taskflow.taskflow.dto.ScheduleOptimizationInput;
+import com.taskflow.taskflow.dto.ScheduleOptimizationResponse;
+import com.taskflow.taskflow.dto.VacationDecisionTarget;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.VacationBalance;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationBalanceRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Proposes which PENDING vacations of a team to approve when more people asked for a period than
+ * the minimum staffing allows. The team's approved vacations are fixed; each remaining day may
+ * take {@code teamSize - approved - minStaffing} more absences. The proposal is only returned:
+ * the manager applies it (or not) through the bulk decision endpoint.
+ * <p>
+ * Loading runs on the request thread in one read-only transaction; the search itself runs on a
+ * small dedicated pool with a bounded queue, so a burst of optimizations neither ties up request
+ * threads nor competes with them for the common pool. A full queue answers 503.
+ */
+@Service
+public class ScheduleOptimizerService {
+
+    // a proposal always fits in one bulk decision
+    public static final int MAX_CANDIDATES = BulkDecisionInput.MAX_DECISIONS;
+
+    private final EmployeeRepository employeeRepository;
+    private final VacationRepository vacationRepository;
+    private final VacationBalanceRepository vacationBalanceRepository;
+    private final CurrentUserService currentUserService;
+    private final int defaultMinStaffing;
+    private final long defaultBudgetMs;
+    private final long maxBudgetMs;
+    private final ExecutorService executor;
+
+    public ScheduleOptimizerService(EmployeeRepository employeeRepository,
+                                    VacationRepository vacationRepository,
+                                    VacationBalanceRepository vacationBalanceRepository,
+                                    CurrentUserService currentUserService,
+                                    @Value("${app.vacations.coverage.min-staffing:1}") int defaultMinStaffing,
+                                    @Value("${app.vacations.optimizer.threads:2}") int threads,
+                                    @Value("${app.vacations.optimizer.queue-capacity:16}") int queueCapacity,
+                                    @Value("${app.vacations.optimizer.default-budget-ms:500}") long defaultBudgetMs,
+                                    @Value("${app.vacations.optimizer.max-budget-ms:5000}") long maxBudgetMs) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("app.vacations.optimizer.threads and queue-capacity must be at least 1");
+        }
+        if (defaultBudgetMs < 1 || defaultBudgetMs > maxBudgetMs) {
+            throw new IllegalArgumentException("app.vacations.optimizer.default-budget-ms must be between 1 and max-budget-ms");
+        }
+        this.employeeRepository = employeeRepository;
+        this.vacationRepository = vacationRepository;
+        this.vacationBalanceRepository = vacationBalanceRepository;
+        this.currentUserService = currentUserService;
+        this.defaultMinStaffing = defaultMinStaffing;
+        this.defaultBudgetMs = defaultBudgetMs;
+        this.maxBudgetMs = maxBudgetMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "schedule-optimizer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Transactional(readOnly = true)
+    public CompletableFuture<ScheduleOptimizationResponse> optimize(ScheduleOptimizationInput input) {
+        LocalDate from = input.getFrom();
+        LocalDate to = input.getTo();
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "To date cannot be before from date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= TeamCoverageService.MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Period cannot exceed " + TeamCoverageService.MAX_RANGE_DAYS + " days");
+        }
+        long budgetMs = input.getTimeBudgetMs() == null ? defaultBudgetMs : input.getTimeBudgetMs();
+        if (budgetMs < 1 || budgetMs > maxBudgetMs) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Time budget must be between 1 and " + maxBudgetMs + " ms");
+        }
+        int minStaffing = input.getMinStaffing() == null ? defaultMinStaffing : input.getMinStaffing();
+        ScheduleObjective objective = input.getObjective() == null ? ScheduleObjective.GRANTED_DAYS : input.getObjective();
+
+        UUID managerId = resolveManager(input.getManagerId());
+        List<UUID> team = employeeRepository.findIdsByManagerId(managerId);
+        List<VacationDecisionTarget> candidates = selectCandidates(managerId, from, to, input.getVacationIds());
+        if (candidates.isEmpty()) {
+            return CompletableFuture.completedFuture(new ScheduleOptimizationResponse(
+                    managerId, objective, team.size(), minStaffing, List.of(), List.of(), 0, 0, false, 0));
+        }
+
+        // the capacity window spans the candidates themselves, which may reach outside [from, to]
+        LocalDate windowStart = candidates.stream().map(VacationDecisionTarget::startDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate windowEnd = candidates.stream().map(VacationDecisionTarget::endDate).max(LocalDate::compareTo).orElseThrow();
+        int days = (int) ChronoUnit.DAYS.between(windowStart, windowEnd) + 1;
+        List<VacationSpan> approved = vacationRepository.findSpansOverlapping(
+                team, List.of(VacationStatus.APPROVED), windowStart, windowEnd);
+        int[] onLeave = TeamCoverageService.sweep(approved, VacationStatus.APPROVED, windowStart, days);
+        int[] capacity = new int[days];
+        for (int d = 0; d < days; d++) {
+            capacity[d] = team.size() - onLeave[d] - minStaffing;
+        }
+
+        Function<VacationDecisionTarget, Double> weight = weights(objective, candidates, from.getYear());
+        ScheduleSolver.Request[] requests = new ScheduleSolver.Request[candidates.size()];
+        for (int i = 0; i < requests.length; i++) {
+            VacationDecisionTarget candidate = candidates.get(i);
+            requests[i] = new ScheduleSolver.Request(
+                    (int) ChronoUnit.DAYS.between(windowStart, candidate.startDate()),
+                    (int) ChronoUnit.DAYS.between(windowStart, candidate.endDate()),
+                    weight.apply(candidate));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long started = System.nanoTime();
+                ScheduleSolver.Solution solution = ScheduleSolver.solve(
+                        capacity, requests, started + TimeUnit.MILLISECONDS.toNanos(budgetMs), managerId.hashCode());
+                return toResponse(managerId, objective, team.size(), minStaffing, candidates, solution,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            }, executor);
+        } catch (RejectedExecutionException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many optimizations running, try again later");
+        }
+    }
+
+    private List<VacationDecisionTarget> selectCandidates(UUID managerId, LocalDate from, LocalDate to, List<UUID> vacationIds) {
+        List<VacationDecisionTarget> pending = vacationRepository.findTeamTargetsOverlapping(managerId, VacationStatus.PENDING, from, to);
+        if (vacationIds == null || vacationIds.isEmpty()) {
+            if (pending.size() > MAX_CANDIDATES) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Period has more than " + MAX_CANDIDATES + " pending vacations; list the ones to optimize");
+            }
+            return pending;
+        }
+        Set<UUID> wanted = new HashSet<>(vacationIds);
+        List<VacationDecisionTarget> selected = pending.stream().filter(target -> wanted.contains(target.vacationId())).toList();
+        if (selected.size() != wanted.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Every vacation must be a PENDING request of the team overlapping the period");
+        }
+        return selected;
+    }
+
+    private Function<VacationDecisionTarget, Double> weights(ScheduleObjective objective, List<VacationDecisionTarget> candidates, int year) {
+        if (objective == ScheduleObjective.GRANTED_DAYS) {
+            return ScheduleOptimizerService::length;
+        }
+        Set<UUID> employees = candidates.stream().map(VacationDecisionTarget::employeeId).collect(Collectors.toSet());
+        Map<UUID, Double> usedShare = vacationBalanceRepository.findByEmployeeIdInAndYear(employees, year).stream()
+                .collect(Collectors.toMap(VacationBalance::getEmployeeId,
+                        balance -> balance.getAccruedDays() <= 0 ? 0.0 : Math.min(1.0, (double) balance.getUsedDays() / balance.getAccruedDays())));
+        // a day for someone who has taken nothing yet counts twice as much as one for someone who has taken it all
+        return candidate -> length(candidate) * (2.0 - usedShare.getOrDefault(candidate.employeeId(), 0.0));
+    }
+
+    private static double length(VacationDecisionTarget target) {
+        return ChronoUnit.DAYS.between(target.startDate(), target.endDate()) + 1;
+    }
+
+    private static ScheduleOptimizationResponse toResponse(UUID managerId, ScheduleObjective objective, int teamSize, int minStaffing,
+                                                           List<VacationDecisionTarget> candidates, ScheduleSolver.Solution solution,
+                                                           long elapsedMs) {
+        List<UUID> approve = new ArrayList<>();
+        List<UUID> reject = new ArrayList<>();
+        int grantedDays = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            VacationDecisionTarget candidate = candidates.get(i);
+            if (solution.selected()[i]) {
+                approve.add(candidate.vacationId());
+                grantedDays += (int) length(candidate);
+            } else {
+                reject.add(candidate.vacationId());
+            }
+        }
+        return new ScheduleOptimizationResponse(managerId, objective, teamSize, minStaffing, approve, reject,
+                grantedDays, solution.score(), solution.budgetExhausted(), elapsedMs);
+    }
+
+    private UUID resolveManager(UUID requestedManagerId) {
+        Employee caller = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+        if (requestedManagerId == null || requestedManagerId.equals(caller.getId())) {
+            return caller.getId();
+        }
+        if (caller.getRole() != Role.ADMIN) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Managers can only optimize their own team");
+        }
+        return requestedManagerId;
+    }
+}
@@ -0,0 +1,255 @@
+package com.taskflow.taskflow.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Chooses which contested requests to approve so that no day goes over its capacity (how many more
+ * people may be out) and the total weight of the approved requests is as high as possible. With
+ * capacities above one this is NP-hard, so the solver runs a greedy pass and then local search until
+ * it stops improving or the deadline passes, and returns the best selection seen.
+ * <p>
+ * Coverage is a per-day load array plus a {@link BitSet} of the days already at capacity, so
+ * "does this request fit" is one {@code nextSetBit} over its range. Local search has two moves:
+ * <ul>
+ *     <li>eject: add an unselected request by removing the cheapest selected request on each of its
+ *     full days, refill whatever now fits, and keep the result only if the total went up;</li>
+ *     <li>perturb: drop a random fifth of the selection, refill without the dropped requests, and
+ *     search again from there, falling back to the best selection when that is no better.</li>
+ * </ul>
+ * Not thread-safe; one instance per run.
+ */
+final class ScheduleSolver {
+
+    private static final double EPSILON = 1e-9;
+
+    private final int[] capacity;
+    private final Request[] requests;
+    // requests that touch a day with no capacity at all; nothing can make room for them
+    private final boolean[] blocked;
+    private final int[] order;
+    private final int[] load;
+    private final BitSet full;
+    private final boolean[] selected;
+    private double score;
+    private int selectedCount;
+    private int feasibleCount;
+
+    private ScheduleSolver(int[] capacity, Request[] requests) {
+        this.capacity = capacity;
+        this.requests = requests;
+        this.blocked = new boolean[requests.length];
+        this.load = new int[capacity.length];
+        this.full = new BitSet(capacity.length);
+        this.selected = new boolean[requests.length];
+        for (int d = 0; d < capacity.length; d++) {
+            if (capacity[d] <= 0) {
+                full.set(d);
+            }
+        }
+        for (int i = 0; i < requests.length; i++) {
+            int firstFull = full.nextSetBit(requests[i].first());
+            blocked[i] = firstFull != -1 && firstFull <= requests[i].last();
+            if (!blocked[i]) {
+                feasibleCount++;
+            }
+        }
+        // heaviest first; among equals the shorter request, which leaves more room for others
+        this.order = IntStream.range(0, requests.length).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> -requests[i].weight())
+                        .thenComparingInt(i -> requests[i].last() - requests[i].first())
+                        .thenComparingInt(i -> i))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * @param capacity per day of the window, how many of the requests may be approved on it
+     * @param requests day offsets into {@code capacity} (inclusive) and weight of each request
+     * @param deadline {@link System#nanoTime()} value after which no new move starts
+     */
+    static Solution solve(int[] capacity, Request[] requests, long deadline, long seed) {
+        ScheduleSolver solver = new ScheduleSolver(capacity, requests);
+        Random random = new Random(seed);
+
+        solver.fill(null);
+        solver.improve(deadline);
+        boolean[] best = solver.selected.clone();
+        double bestScore = solver.score;
+
+        int rounds = 0;
+        int stale = 0;
+        int maxStale = 2 * requests.length + 50;
+        while (solver.selectedCount < solver.feasibleCount && stale < maxStale && System.nanoTime() < deadline) {
+            rounds++;
+            boolean[] dropped = solver.perturb(random);
+            solver.fill(dropped);
+            solver.improve(deadline);
+            if (solver.score > bestScore + EPSILON) {
+                best = solver.selected.clone();
+                bestScore = solver.score;
+                stale = 0;
+            } else {
+                stale++;
+                solver.restore(best);
+            }
+        }
+
+        boolean exhaustive = solver.selectedCount == solver.feasibleCount || stale >= maxStale;
+        return new Solution(best, bestScore, rounds, !exhaustive);
+    }
+
+    private boolean fits(int i) {
+        int firstFull = full.nextSetBit(requests[i].first());
+        return firstFull == -1 || firstFull > requests[i].last();
+    }
+
+    private void add(int i) {
+        Request request = requests[i];
+        for (int d = request.first(); d <= request.last(); d++) {
+            if (++load[d] >= capacity[d]) {
+                full.set(d);
+            }
+        }
+        selected[i] = true;
+        selectedCount++;
+        score += request.weight();
+    }
+
+    private void remove(int i) {
+        Request request = requests[i];
+        for (int d = request.first(); d <= request.last(); d++) {
+            if (--load[d] < capacity[d]) {
+                full.clear(d);
+            }
+        }
+        selected[i] = false;
+        selectedCount--;
+        score -= request.weight();
+    }
+
+    // adds, in weight order, every request that fits and is not excluded
+    private List<Integer> fill(boolean[] excluded) {
+        List<Integer> added = new ArrayList<>();
+        for (int i : order) {
+            if (!selected[i] && !blocked[i] && (excluded == null || !excluded[i]) && fits(i)) {
+                add(i);
+                added.add(i);
+            }
+        }
+        return added;
+    }
+
+    private void improve(long deadline) {
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i : order) {
+                if (System.nanoTime() >= deadline) {
+                    return;
+                }
+                if (selected[i] || blocked[i]) {
+                    continue;
+                }
+                if (fits(i)) {
+                    add(i);
+                    improved = true;
+                } else if (eject(i)) {
+                    improved = true;
+                }
+            }
+        }
+    }
+
+    private boolean eject(int candidate) {
+        Request request = requests[candidate];
+        double before = score;
+        boolean[] removed = new boolean[requests.length];
+        List<Integer> victims = new ArrayList<>();
+        double removedWeight = 0;
+
+        for (int d = full.nextSetBit(request.first()); d != -1 && d <= request.last(); d = full.nextSetBit(d + 1)) {
+            int victim = cheapestCovering(d);
+            removedWeight += victim == -1 ? Double.POSITIVE_INFINITY : requests[victim].weight();
+            if (removedWeight + EPSILON >= request.weight()) {
+                // the candidate alone cannot pay for what it displaces; put everything back
+                victims.forEach(this::add);
+                return false;
+            }
+            remove(victim);
+            removed[victim] = true;
+            victims.add(victim);
+        }
+
+        add(candidate);
+        List<Integer> refilled = fill(removed);
+        if (score > before + EPSILON) {
+            return true;
+        }
+        refilled.forEach(this::remove);
+        remove(candidate);
+        victims.forEach(this::add);
+        return false;
+    }
+
+    private int cheapestCovering(int day) {
+        int cheapest = -1;
+        for (int j = 0; j < requests.length; j++) {
+            if (selected[j] && requests[j].first() <= day && day <= requests[j].last()
+                    && (cheapest == -1 || requests[j].weight() < requests[cheapest].weight())) {
+                cheapest = j;
+            }
+        }
+        return cheapest;
+    }
+
+    private boolean[] perturb(Random random) {
+        int[] chosen = new int[selectedCount];
+        int n = 0;
+        for (int i = 0; i < selected.length; i++) {
+            if (selected[i]) {
+                chosen[n++] = i;
+            }
+        }
+        boolean[] dropped = new boolean[requests.length];
+        int drops = Math.max(1, n / 5);
+        for (int k = 0; k < drops && n > 0; k++) {
+            int pick = random.nextInt(n);
+            int i = chosen[pick];
+            chosen[pick] = chosen[--n];
+            remove(i);
+            dropped[i] = true;
+        }
+        return dropped;
+    }
+
+    private void restore(boolean[] target) {
+        for (int i = 0; i < selected.length; i++) {
+            if (selected[i] && !target[i]) {
+                remove(i);
+            }
+        }
+        for (int i = 0; i < selected.length; i++) {
+            if (!selected[i] && target[i]) {
+                add(i);
+            }
+        }
+    }
+
+    /**
+     * A request over day offsets [first, last] of the capacity window.
+     */
+    record Request(int first, int last, double weight) {
+    }
+
+    /**
+     * The best selection found; {@code budgetExhausted} when the deadline, not a lack of
+     * improving moves, ended the search.
+     */
+    record Solution(boolean[] selected, double score, int rounds, boolean budgetExhausted) {
+    }
+}
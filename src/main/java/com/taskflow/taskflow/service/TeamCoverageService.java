@@ -0,0 +1,133 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.DayCoverageResponse;
+import com.taskflow.taskflow.dto.TeamCoverageResponse;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-day absence counts for a manager's team. One range query loads the team's PENDING and
+ * APPROVED spans; a sweep over their sorted start and end points turns them into daily counts.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TeamCoverageService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+    private static final List<VacationStatus> COUNTED_STATUSES = List.of(VacationStatus.PENDING, VacationStatus.APPROVED);
+
+    private final EmployeeRepository employeeRepository;
+    private final VacationRepository vacationRepository;
+    private final CurrentUserService currentUserService;
+    private final int defaultMinStaffing;
+
+    public TeamCoverageService(EmployeeRepository employeeRepository,
+                               VacationRepository vacationRepository,
+                               CurrentUserService currentUserService,
+                               @Value("${app.vacations.coverage.min-staffing:1}") int defaultMinStaffing) {
+        this.employeeRepository = employeeRepository;
+        this.vacationRepository = vacationRepository;
+        this.currentUserService = currentUserService;
+        this.defaultMinStaffing = defaultMinStaffing;
+    }
+
+    public TeamCoverageResponse findCoverage(UUID managerId, LocalDate from, LocalDate to, boolean transitive, Integer minStaffing) {
+        if (from == null || to == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "From and to dates are required");
+        }
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "To date cannot be before from date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Coverage range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+        int minimum = minStaffing == null ? defaultMinStaffing : minStaffing;
+        if (minimum < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Minimum staffing must be >= 0");
+        }
+
+        UUID teamManagerId = resolveManager(managerId);
+        List<UUID> team = transitive
+                ? employeeRepository.findTeamIdsTransitive(teamManagerId)
+                : employeeRepository.findIdsByManagerId(teamManagerId);
+
+        List<VacationSpan> spans = team.isEmpty()
+                ? List.of()
+                : vacationRepository.findSpansOverlapping(team, COUNTED_STATUSES, from, to);
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int[] onLeave = sweep(spans, VacationStatus.APPROVED, from, days);
+        int[] pending = sweep(spans, VacationStatus.PENDING, from, days);
+
+        List<DayCoverageResponse> coverage = new ArrayList<>(days);
+        for (int d = 0; d < days; d++) {
+            int available = team.size() - onLeave[d];
+            coverage.add(new DayCoverageResponse(
+                    from.plusDays(d),
+                    onLeave[d],
+                    pending[d],
+                    available,
+                    available < minimum,
+                    available - pending[d] < minimum
+            ));
+        }
+        return new TeamCoverageResponse(teamManagerId, transitive, team.size(), minimum, coverage);
+    }
+
+    private UUID resolveManager(UUID requestedManagerId) {
+        Employee caller = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+        if (requestedManagerId == null || requestedManagerId.equals(caller.getId())) {
+            return caller.getId();
+        }
+        if (caller.getRole() != Role.ADMIN) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Managers can only view their own team coverage");
+        }
+        return requestedManagerId;
+    }
+
+    /**
+     * Number of spans with the given status covering each day of [from, from + days). Day d is
+     * covered by (starts <= d) - (ends < d), read off two sorted endpoint arrays in one pass.
+     */
+    static int[] sweep(List<VacationSpan> spans, VacationStatus status, LocalDate from, int days) {
+        int[] starts = new int[spans.size()];
+        int[] ends = new int[spans.size()];
+        int n = 0;
+        for (VacationSpan span : spans) {
+            if (span.status() != status) continue;
+            starts[n] = (int) Math.max(0, ChronoUnit.DAYS.between(from, span.startDate()));
+            ends[n] = (int) Math.min(days - 1, ChronoUnit.DAYS.between(from, span.endDate()));
+            n++;
+        }
+        Arrays.sort(starts, 0, n);
+        Arrays.sort(ends, 0, n);
+
+        int[] counts = new int[days];
+        int started = 0;
+        int ended = 0;
+        for (int d = 0; d < days; d++) {
+            while (started < n && starts[started] <= d) started++;
+            while (ended < n && ends[ended] < d) ended++;
+            counts[d] = started - ended;
+        }
+        return counts;
+    }
+}
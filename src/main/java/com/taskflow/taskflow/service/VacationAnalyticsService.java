@@ -0,0 +1,43 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.dto.AnalyticsQueryInput;
+import com.taskflow.taskflow.dto.AnalyticsResponse;
+import com.taskflow.taskflow.index.FactGroup;
+import com.taskflow.taskflow.index.FactQuery;
+import com.taskflow.taskflow.index.VacationFactStore;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Ad-hoc aggregations over every vacation, answered from the in-memory {@link VacationFactStore}
+ * without touching the database.
+ */
+@Service
+public class VacationAnalyticsService {
+
+    private final VacationFactStore vacationFactStore;
+
+    public VacationAnalyticsService(VacationFactStore vacationFactStore) {
+        this.vacationFactStore = vacationFactStore;
+    }
+
+    public AnalyticsResponse query(AnalyticsQueryInput input) {
+        if (input == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request body required");
+        }
+        if (input.getPercentiles() != null && !input.getPercentiles().isEmpty() && input.getMetric() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Percentiles require a metric");
+        }
+        if (input.getStartFrom() != null && input.getStartTo() != null && input.getStartTo().isBefore(input.getStartFrom())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Start to cannot be before start from");
+        }
+
+        FactQuery query = new FactQuery(input.getGroupBy(), input.getMetric(), input.getPercentiles(),
+                input.getStatuses(), input.getRole(), input.getStartFrom(), input.getStartTo());
+        List<FactGroup> groups = vacationFactStore.query(query);
+        return new AnalyticsResponse(vacationFactStore.size(), groups);
+    }
+}
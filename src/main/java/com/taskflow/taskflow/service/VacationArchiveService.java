@@ -0,0 +1,94 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.dto.ArchiveRunResponse;
+import com.taskflow.taskflow.dto.VacationResponse;
+import com.taskflow.taskflow.event.VacationsArchivedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.ArchivedVacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.util.VacationMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves vacations of closed years out of {@code vacations} into the year-partitioned
+ * {@code vacations_archive}, and reads them back for the history endpoint. The live table keeps
+ * the last {@code keepYears} years (counting the current one) plus everything later, so the
+ * overlap constraint and the indexes behind every other query only cover recent rows.
+ * <p>
+ * Only vacations that ended before the cutoff move: one that crosses into a live year stays live,
+ * so it still blocks overlapping requests and still counts in balance and rollup recomputations.
+ * Archived rows are never changed again.
+ */
+@Service
+public class VacationArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(VacationArchiveService.class);
+
+    private final ArchivedVacationRepository archivedVacationRepository;
+    private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int keepYears;
+
+    public VacationArchiveService(ArchivedVacationRepository archivedVacationRepository,
+                                  CurrentUserService currentUserService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${app.vacations.archive.keep-years:1}") int keepYears) {
+        if (keepYears < 1) {
+            throw new IllegalArgumentException("app.vacations.archive.keep-years must be at least 1");
+        }
+        this.archivedVacationRepository = archivedVacationRepository;
+        this.currentUserService = currentUserService;
+        this.eventPublisher = eventPublisher;
+        this.keepYears = keepYears;
+    }
+
+    @Transactional
+    public ArchiveRunResponse archive() {
+        LocalDate cutoff = LocalDate.now().withDayOfYear(1).minusYears(keepYears - 1L);
+        List<Integer> years = archivedVacationRepository.findArchivableYears(cutoff);
+
+        int moved = 0;
+        for (int year : years) {
+            archivedVacationRepository.createPartition(year);
+            moved += archivedVacationRepository.moveYear(LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1), cutoff);
+        }
+
+        if (moved > 0) {
+            eventPublisher.publishEvent(new VacationsArchivedEvent(cutoff, moved));
+        }
+        log.info("Archived {} vacations ending before {} from years {}", moved, cutoff, years);
+        return new ArchiveRunResponse(cutoff, years, moved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<VacationResponse> findHistory(UUID employeeId, Integer year) {
+        if (year == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Year is required");
+        }
+        Employee caller = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated"));
+        UUID target = employeeId == null ? caller.getId() : employeeId;
+        if (!target.equals(caller.getId()) && caller.getRole() != Role.ADMIN) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Caller is not authorized to view this history");
+        }
+
+        return archivedVacationRepository
+                .findByEmployeeIdAndStartDateBetweenOrderByStartDateAscIdAsc(
+                        target, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .map(VacationMapper::toResponse)
+                .toList();
+    }
+}
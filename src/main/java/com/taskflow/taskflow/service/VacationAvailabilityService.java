@@ -0,0 +1,137 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.calendar.BusinessDayCalendar;
+import com.taskflow.taskflow.calendar.HolidayCalendars;
+import com.taskflow.taskflow.exception.OverlappingVacationException;
+import com.taskflow.taskflow.index.VacationIntervalIndex;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.util.VacationHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Answers "is this range free?" and "which nearby ranges are free?" for a requester from the
+ * in-memory interval index. The scope is the requester alone, or everyone reporting to the same
+ * manager when {@code app.vacations.overlap.include-team} is enabled. Day counts and suggested
+ * start days follow the requester's holiday calendar.
+ */
+@Service
+public class VacationAvailabilityService {
+
+    private static final int LOOKBACK_DAYS = 30;
+    private static final int LOOKFORWARD_DAYS = 180;
+    public static final int DEFAULT_SUGGESTIONS = 3;
+
+    private final VacationIntervalIndex vacationIntervalIndex;
+    private final EmployeeRepository employeeRepository;
+    private final HolidayCalendars holidayCalendars;
+    private final boolean overlapIncludesTeam;
+    private final boolean weekdayStartsOnly;
+    private final Set<LocalDate> blackoutDates;
+
+    public VacationAvailabilityService(VacationIntervalIndex vacationIntervalIndex,
+                                       EmployeeRepository employeeRepository,
+                                       HolidayCalendars holidayCalendars,
+                                       @Value("${app.vacations.overlap.include-team:false}") boolean overlapIncludesTeam,
+                                       @Value("${app.vacations.suggestions.weekday-starts-only:true}") boolean weekdayStartsOnly,
+                                       @Value("${app.vacations.blackout-dates:}") String[] blackoutDates) {
+        this.vacationIntervalIndex = vacationIntervalIndex;
+        this.employeeRepository = employeeRepository;
+        this.holidayCalendars = holidayCalendars;
+        this.overlapIncludesTeam = overlapIncludesTeam;
+        this.weekdayStartsOnly = weekdayStartsOnly;
+        this.blackoutDates = Arrays.stream(blackoutDates)
+                .map(String::trim)
+                .filter(d -> !d.isEmpty())
+                .map(LocalDate::parse)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Employees whose bookings conflict with the requester's; the requester always comes first.
+     */
+    public List<UUID> overlapScope(Employee requester) {
+        if (!overlapIncludesTeam || requester.getManager() == null) {
+            return List.of(requester.getId());
+        }
+        List<UUID> scope = new ArrayList<>();
+        scope.add(requester.getId());
+        for (UUID teammate : employeeRepository.findIdsByManagerId(requester.getManager().getId())) {
+            if (!teammate.equals(requester.getId())) {
+                scope.add(teammate);
+            }
+        }
+        return scope;
+    }
+
+    /**
+     * Loads the interval trees of the whole scope, ahead of a transaction that will check it.
+     */
+    public void preload(List<UUID> scope) {
+        scope.forEach(vacationIntervalIndex::preload);
+    }
+
+    /**
+     * The requester's calendar, resolved from the already loaded entity so that it needs no query.
+     */
+    public BusinessDayCalendar calendarOf(Employee requester) {
+        return holidayCalendars.forLocation(requester.getLocation());
+    }
+
+    public void validateNoOverlap(List<UUID> scope, BusinessDayCalendar calendar, LocalDate start, LocalDate end) {
+        boolean overlaps = scope.stream().anyMatch(id -> vacationIntervalIndex.overlaps(id, start, end));
+        if (overlaps) {
+            throw overlappingVacation(scope, calendar, start, end);
+        }
+    }
+
+    /**
+     * Builds the overlap error without touching the caller's transaction, which is already aborted
+     * when this follows an exclusion violation: the calendar is passed in and the suggestions come
+     * from the interval index, whose loads run in their own transaction.
+     */
+    public OverlappingVacationException overlappingVacation(List<UUID> scope, BusinessDayCalendar calendar,
+                                                            LocalDate start, LocalDate end) {
+        return new OverlappingVacationException(
+                "Requested vacation overlaps with an existing vacation",
+                suggest(scope, calendar, start, end, DEFAULT_SUGGESTIONS),
+                calendar.businessDays(start, end)
+        );
+    }
+
+    public List<OverlappingVacationException.Suggestion> suggest(List<UUID> scope, LocalDate start, LocalDate end, int limit) {
+        return suggest(scope, holidayCalendars.forEmployee(scope.get(0)), start, end, limit);
+    }
+
+    private List<OverlappingVacationException.Suggestion> suggest(List<UUID> scope, BusinessDayCalendar calendar,
+                                                                  LocalDate start, LocalDate end, int limit) {
+        long spanDays = VacationHelper.calendarSpanDays(start, end);
+        LocalDate windowStart = VacationHelper.calculateSearchWindowStart(start, LOOKBACK_DAYS);
+        LocalDate windowEnd = VacationHelper.calculateSearchWindowEnd(end, LOOKFORWARD_DAYS, spanDays);
+
+        BitSet blocked = new BitSet();
+        for (UUID employeeId : scope) {
+            blocked.or(vacationIntervalIndex.occupiedDays(employeeId, windowStart, windowEnd));
+        }
+        for (LocalDate blackout : blackoutDates) {
+            if (!blackout.isBefore(windowStart) && !blackout.isAfter(windowEnd)) {
+                blocked.set((int) (blackout.toEpochDay() - windowStart.toEpochDay()));
+            }
+        }
+
+        return VacationHelper.findNearestFreeWindows(
+                blocked, windowStart, windowEnd, start, (int) spanDays,
+                LocalDate.now().plusDays(1), weekdayStartsOnly ? calendar::isWorkingDay : day -> true, limit
+        );
+    }
+}
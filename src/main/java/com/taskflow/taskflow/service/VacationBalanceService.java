@@ -0,0 +1,184 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.calendar.BusinessDayCalendar;
+import com.taskflow.taskflow.calendar.HolidayCalendars;
+import com.taskflow.taskflow.data.LedgerReason;
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.BookedDays;
+import com.taskflow.taskflow.dto.LedgerSpan;
+import com.taskflow.taskflow.dto.VacationBalanceResponse;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.VacationBalance;
+import com.taskflow.taskflow.model.VacationLedgerEntry;
+import com.taskflow.taskflow.repository.VacationBalanceRepository;
+import com.taskflow.taskflow.repository.VacationLedgerRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one balance row per employee and year in step with an append-only ledger. Every vacation
+ * change is applied as a ledger entry plus an in-place increment of the balance, inside the
+ * transaction that made the change, so checking a request reads a single row. PENDING days are
+ * reserved against the balance, APPROVED days are used, and any other status holds nothing. Days
+ * are business days on the employee's holiday calendar at the time a vacation is first booked.
+ * Every entry except the accrual names its vacation. A later decision or deletion therefore moves
+ * or releases exactly what the vacation's own entries hold, even if the calendar or the employee's
+ * location has changed since it was booked.
+ */
+@Service
+public class VacationBalanceService {
+
+    // stands in for "no vacation to exclude" in the opening query
+    private static final UUID NO_VACATION = new UUID(0, 0);
+    private static final Set<VacationStatus> HELD_STATUSES = EnumSet.of(VacationStatus.PENDING, VacationStatus.APPROVED);
+
+    private final VacationBalanceRepository balanceRepository;
+    private final VacationLedgerRepository ledgerRepository;
+    private final VacationRepository vacationRepository;
+    private final CurrentUserService currentUserService;
+    private final HolidayCalendars holidayCalendars;
+    private final int annualDays;
+
+    public VacationBalanceService(VacationBalanceRepository balanceRepository,
+                                  VacationLedgerRepository ledgerRepository,
+                                  VacationRepository vacationRepository,
+                                  CurrentUserService currentUserService,
+                                  HolidayCalendars holidayCalendars,
+                                  @Value("${app.vacations.balance.annual-days:30}") int annualDays) {
+        this.balanceRepository = balanceRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.vacationRepository = vacationRepository;
+        this.currentUserService = currentUserService;
+        this.holidayCalendars = holidayCalendars;
+        this.annualDays = annualDays;
+    }
+
+    /**
+     * Rejects the request when any year it touches has fewer available days than it needs. Callers
+     * hold the employee's mutation lock, so no other request can reserve days in between.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void requireAvailable(UUID employeeId, LocalDate startDate, LocalDate endDate) {
+        BusinessDayCalendar calendar = holidayCalendars.forEmployee(employeeId);
+        for (Map.Entry<Integer, Integer> entry : calendar.businessDaysPerYear(startDate, endDate).entrySet()) {
+            int year = entry.getKey();
+            openYear(employeeId, year, NO_VACATION, calendar);
+            int available = balanceRepository.findAvailableDays(employeeId, year).orElse(0);
+            if (available < entry.getValue()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Insufficient vacation balance for " + year + ": " + available + " days available, "
+                                + entry.getValue() + " requested");
+            }
+        }
+    }
+
+    // synchronous on purpose: the balance must commit or roll back with the vacation change
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onVacationChanged(VacationChangedEvent event) {
+        LedgerReason reason = event.previousStatus() == null ? LedgerReason.CREATED
+                : event.isDeletion() ? LedgerReason.DELETED
+                : LedgerReason.DECIDED;
+
+        BusinessDayCalendar calendar = holidayCalendars.forEmployee(event.employeeId());
+        Map<Integer, Integer> daysPerYear = calendar.businessDaysPerYear(event.startDate(), event.endDate());
+        Map<Integer, BookedDays> booked = event.previousStatus() == null ? Map.of()
+                : ledgerRepository.sumBookedByVacation(event.vacationId()).stream()
+                        .collect(Collectors.toMap(BookedDays::year, Function.identity()));
+
+        for (int year = event.startDate().getYear(); year <= event.endDate().getYear(); year++) {
+            // a year opened just now was seeded without this vacation, so it holds nothing there yet
+            openYear(event.employeeId(), year, event.vacationId(), calendar);
+            BookedDays held = booked.getOrDefault(year, new BookedDays(year, 0, 0));
+
+            // booked days move between buckets as they are; only a vacation holding nothing yet is counted
+            long days = held.total() != 0 ? held.total() : daysPerYear.getOrDefault(year, 0);
+            long pending = (event.status() == VacationStatus.PENDING ? days : 0) - held.pendingDays();
+            long used = (event.status() == VacationStatus.APPROVED ? days : 0) - held.usedDays();
+            if (pending != 0 || used != 0) {
+                record(new VacationLedgerEntry(event.employeeId(), year, event.vacationId(), reason,
+                        0, Math.toIntExact(pending), Math.toIntExact(used)));
+            }
+        }
+    }
+
+    @Transactional
+    public VacationBalanceResponse findBalance(UUID employeeId, Integer year) {
+        Employee caller = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated"));
+        UUID target = employeeId == null ? caller.getId() : employeeId;
+        if (!target.equals(caller.getId()) && caller.getRole() != Role.ADMIN) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Caller is not authorized to view this balance");
+        }
+
+        int balanceYear = year == null ? LocalDate.now().getYear() : year;
+        openYear(target, balanceYear, NO_VACATION, holidayCalendars.forEmployee(target));
+        VacationBalance balance = balanceRepository.findById(new VacationBalance.Key(target, balanceYear))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation balance not found"));
+        return new VacationBalanceResponse(target, balanceYear, balance.getAccruedDays(), balance.getPendingDays(),
+                balance.getUsedDays(), balance.availableDays());
+    }
+
+    /**
+     * Creates the year's balance the first time it is touched: the annual accrual, plus whatever
+     * the employee's existing vacations already hold in that year (excluding {@code excludeId}).
+     * That one-off read is the only time history is consulted.
+     */
+    private void openYear(UUID employeeId, int year, UUID excludeId, BusinessDayCalendar calendar) {
+        if (balanceRepository.openYear(employeeId, year) == 0) {
+            return;
+        }
+
+        record(new VacationLedgerEntry(employeeId, year, null, LedgerReason.ACCRUAL, annualDays, 0, 0));
+
+        LocalDate yearStart = LocalDate.of(year, 1, 1);
+        LocalDate yearEnd = LocalDate.of(year, 12, 31);
+        List<VacationLedgerEntry> opening = new ArrayList<>();
+        int pending = 0;
+        int used = 0;
+        for (LedgerSpan span : vacationRepository.findSpansInYear(employeeId, HELD_STATUSES, yearStart, yearEnd, excludeId)) {
+            int days = calendar.businessDays(
+                    span.startDate().isBefore(yearStart) ? yearStart : span.startDate(),
+                    span.endDate().isAfter(yearEnd) ? yearEnd : span.endDate());
+            if (days == 0) {
+                continue;
+            }
+            int spanPending = span.status() == VacationStatus.PENDING ? days : 0;
+            opening.add(new VacationLedgerEntry(employeeId, year, span.vacationId(), LedgerReason.OPENING,
+                    0, spanPending, days - spanPending));
+            pending += spanPending;
+            used += days - spanPending;
+        }
+        // one entry per vacation so later changes can reverse it, but a single update of the balance row
+        if (!opening.isEmpty()) {
+            ledgerRepository.saveAll(opening);
+            balanceRepository.applyDelta(employeeId, year, 0, pending, used);
+        }
+    }
+
+    private void record(VacationLedgerEntry entry) {
+        ledgerRepository.save(entry);
+        balanceRepository.applyDelta(entry.getEmployeeId(), entry.getYear(),
+                entry.getAccruedDelta(), entry.getPendingDelta(), entry.getUsedDelta());
+    }
+
+}
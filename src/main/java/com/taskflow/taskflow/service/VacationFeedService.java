@@ -0,0 +1,117 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.FeedScope;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.FeedEntry;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.event.VacationsArchivedEvent;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.util.IcsWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders approved vacations as iCalendar feeds and keeps the rendered bytes in memory. Calendar
+ * clients poll every few minutes, so a feed is only re-read from the database after a change to
+ * an approved vacation in its scope, a manager reassignment, or once a day (which moves the window
+ * and picks up renamed employees).
+ */
+@Service
+public class VacationFeedService {
+
+    private final VacationRepository vacationRepository;
+    private final EmployeeRepository employeeRepository;
+    private final int pastDays;
+
+    private final Map<FeedKey, RenderedFeed> feeds = new ConcurrentHashMap<>();
+    // bumped before every eviction; a render that raced one is served but not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    public VacationFeedService(VacationRepository vacationRepository,
+                               EmployeeRepository employeeRepository,
+                               @Value("${app.feeds.past-days:90}") int pastDays) {
+        this.vacationRepository = vacationRepository;
+        this.employeeRepository = employeeRepository;
+        this.pastDays = pastDays;
+    }
+
+    public RenderedFeed render(FeedKey key) {
+        LocalDate today = LocalDate.now();
+        RenderedFeed cached = feeds.get(key);
+        if (cached != null && cached.renderedOn().equals(today)) {
+            return cached;
+        }
+
+        long seen = generation.get();
+        LocalDate from = today.minusDays(pastDays);
+        List<FeedEntry> entries = key.scope() == FeedScope.TEAM
+                ? vacationRepository.findTeamFeed(key.ownerId(), from)
+                : vacationRepository.findPersonalFeed(key.ownerId(), from);
+        byte[] body = IcsWriter.write(key.scope() == FeedScope.TEAM ? "Team vacations" : "My vacations", entries);
+        RenderedFeed feed = new RenderedFeed(body, etag(body), today);
+
+        feeds.put(key, feed);
+        // an eviction since the read may have run before the put; drop what could be stale
+        if (generation.get() != seen) {
+            feeds.remove(key, feed);
+        }
+        return feed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationChanged(VacationChangedEvent event) {
+        if (event.previousStatus() != VacationStatus.APPROVED && event.status() != VacationStatus.APPROVED) {
+            return;
+        }
+        UUID managerId = employeeRepository.findManagerIdById(event.employeeId()).orElse(null);
+        generation.incrementAndGet();
+        feeds.remove(new FeedKey(FeedScope.PERSONAL, event.employeeId()));
+        if (managerId != null) {
+            feeds.remove(new FeedKey(FeedScope.TEAM, managerId));
+        }
+    }
+
+    // reassignments are rare, so every team feed is simply re-rendered
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onManagerChanged(EmployeeManagerChangedEvent event) {
+        generation.incrementAndGet();
+        feeds.keySet().removeIf(key -> key.scope() == FeedScope.TEAM);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationsArchived(VacationsArchivedEvent event) {
+        generation.incrementAndGet();
+        feeds.clear();
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * A feed: whose vacations (the owner's own, or the owner's direct reports') it shows.
+     */
+    public record FeedKey(FeedScope scope, UUID ownerId) {
+    }
+
+    public record RenderedFeed(byte[] body, String etag, LocalDate renderedOn) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.dto.VacationPolicyInput;
+import com.taskflow.taskflow.dto.VacationPolicyResponse;
+import com.taskflow.taskflow.event.VacationPoliciesChangedEvent;
+import com.taskflow.taskflow.model.VacationPolicy;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
+import com.taskflow.taskflow.repository.VacationPolicyRepository;
+import com.taskflow.taskflow.util.SqlStateUtils;
+import com.taskflow.taskflow.util.VacationPolicyMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Admin maintenance of vacation policies. Every write is compiled first, so a policy the engine
+ * would reject never reaches the table, and publishes a {@link VacationPoliciesChangedEvent} that
+ * swaps the engine's rule chain once the transaction commits.
+ */
+@Service
+public class VacationPolicyService {
+
+    private final VacationPolicyRepository vacationPolicyRepository;
+    private final VacationPolicyEngine vacationPolicyEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public VacationPolicyService(VacationPolicyRepository vacationPolicyRepository,
+                                 VacationPolicyEngine vacationPolicyEngine,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.vacationPolicyRepository = vacationPolicyRepository;
+        this.vacationPolicyEngine = vacationPolicyEngine;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public List<VacationPolicyResponse> findAll() {
+        return vacationPolicyRepository.findAllByOrderByName().stream()
+                .map(VacationPolicyMapper::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public VacationPolicyResponse create(VacationPolicyInput input) {
+        VacationPolicy policy = new VacationPolicy();
+        VacationPolicyMapper.copyInto(input, policy);
+        return save(policy);
+    }
+
+    @Transactional
+    public VacationPolicyResponse update(UUID id, VacationPolicyInput input) {
+        VacationPolicy policy = vacationPolicyRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Policy not found"));
+        VacationPolicyMapper.copyInto(input, policy);
+        return save(policy);
+    }
+
+    @Transactional
+    public void delete(UUID id) {
+        VacationPolicy policy = vacationPolicyRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Policy not found"));
+        vacationPolicyRepository.delete(policy);
+        eventPublisher.publishEvent(new VacationPoliciesChangedEvent());
+    }
+
+    private VacationPolicyResponse save(VacationPolicy policy) {
+        vacationPolicyEngine.verify(policy);
+
+        // the unique constraint on name is the duplicate check; flushing surfaces it here
+        VacationPolicy saved;
+        try {
+            saved = vacationPolicyRepository.saveAndFlush(policy);
+        } catch (DataIntegrityViolationException ex) {
+            if (SqlStateUtils.hasSqlState(ex, SqlStateUtils.UNIQUE_VIOLATION)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Policy name already in use");
+            }
+            throw ex;
+        }
+        eventPublisher.publishEvent(new VacationPoliciesChangedEvent());
+        return VacationPolicyMapper.toResponse(saved);
+    }
+}
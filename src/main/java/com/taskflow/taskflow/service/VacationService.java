@@ -1,17 +1,36 @@
 package com.taskflow.taskflow.service;
 
+import com.taskflow.taskflow.calendar.BusinessDayCalendar;
+import com.taskflow.taskflow.data.DecisionOutcome;
 import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.BatchLookupResponse;
+import com.taskflow.taskflow.dto.BulkDecisionItem;
+import com.taskflow.taskflow.dto.BulkDecisionResult;
+import com.taskflow.taskflow.dto.CursorPage;
+import com.taskflow.taskflow.dto.VacationDecisionTarget;
+import com.taskflow.taskflow.dto.VacationFilter;
 import com.taskflow.taskflow.dto.VacationInput;
+import com.taskflow.taskflow.dto.VacationResponse;
+import com.taskflow.taskflow.event.VacationChangedEvent;
 import com.taskflow.taskflow.exception.OverlappingVacationException;
 import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
 import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.repository.VacationSpecifications;
+import com.taskflow.taskflow.security.AuthorizationService;
 import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.util.SqlStateUtils;
+import com.taskflow.taskflow.util.VacationCursor;
 import com.taskflow.taskflow.util.VacationHelper;
+import com.taskflow.taskflow.util.VacationMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.util.Pair;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,24 +38,64 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class VacationService {
 
+    public static final int MAX_SUGGESTIONS = 10;
+    public static final int MAX_SEARCH_SIZE = 100;
+
+    // the keyset order; every search index ends in (start_date, id)
+    private static final Sort KEYSET_SORT = Sort.by("startDate", "id");
+
     private final VacationRepository vacationRepository;
     private final CurrentUserService currentUserService;
+    private final AuthorizationService authorizationService;
+    private final VacationAvailabilityService vacationAvailabilityService;
+    private final EmployeeMutationLock employeeMutationLock;
+    private final VacationBalanceService vacationBalanceService;
+    private final VacationPolicyEngine vacationPolicyEngine;
+    private final ApplicationEventPublisher eventPublisher;
     private final int pageSize;
 
-    public VacationService(VacationRepository vacationRepository, CurrentUserService currentUserService, @Value("${app.employees.page-size:20}") int pageSize) {
+    public VacationService(VacationRepository vacationRepository,
+                           CurrentUserService currentUserService,
+                           AuthorizationService authorizationService,
+                           VacationAvailabilityService vacationAvailabilityService,
+                           EmployeeMutationLock employeeMutationLock,
+                           VacationBalanceService vacationBalanceService,
+                           VacationPolicyEngine vacationPolicyEngine,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${app.employees.page-size:20}") int pageSize) {
         this.vacationRepository = vacationRepository;
         this.currentUserService = currentUserService;
+        this.authorizationService = authorizationService;
+        this.vacationAvailabilityService = vacationAvailabilityService;
+        this.employeeMutationLock = employeeMutationLock;
+        this.vacationBalanceService = vacationBalanceService;
+        this.vacationPolicyEngine = vacationPolicyEngine;
+        this.eventPublisher = eventPublisher;
         this.pageSize = pageSize;
     }
 
+    /**
+     * Writes a new request. Entered through {@link VacationSubmissionService}, which has already
+     * queued same-node requests of the requester and loaded the scope's interval trees.
+     */
     @Transactional
     public Vacation create(VacationInput req) {
         VacationHelper.validateVacationInput(req);
@@ -50,19 +109,58 @@ public class VacationService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user");
         }
 
-        validateNoOverlappingVacations(startDate, endDate);
+        Employee requester = currentEmployeeOpt.get();
+        List<UUID> scope = vacationAvailabilityService.overlapScope(requester);
+        // resolved up front: after an exclusion violation the transaction accepts no further queries
+        BusinessDayCalendar calendar = vacationAvailabilityService.calendarOf(requester);
+        // requests from other nodes, and teammates' requests, wait here for the first attempt to commit
+        employeeMutationLock.lockForTransaction(scope);
+        vacationPolicyEngine.validate(requester, startDate, endDate);
+        vacationBalanceService.requireAvailable(requester.getId(), startDate, endDate);
+        if (scope.size() > 1) {
+            // teammates are outside the per-employee exclusion constraint, so the team is checked in memory
+            vacationAvailabilityService.validateNoOverlap(scope, calendar, startDate, endDate);
+        }
 
         Vacation v = new Vacation();
         v.setStartDate(startDate);
         v.setEndDate(endDate);
-        v.setRequester(currentEmployeeOpt.get());
+        v.setRequester(requester);
         v.setStatus(VacationStatus.PENDING);
         v.setRequestReason(reason);
-        return vacationRepository.save(v);
+
+        // the vacations_no_overlap exclusion constraint is the overlap check; flushing surfaces it here
+        Vacation saved;
+        try {
+            saved = vacationRepository.saveAndFlush(v);
+        } catch (DataIntegrityViolationException ex) {
+            if (SqlStateUtils.hasSqlState(ex, SqlStateUtils.EXCLUSION_VIOLATION)) {
+                throw vacationAvailabilityService.overlappingVacation(scope, calendar, startDate, endDate);
+            }
+            throw ex;
+        }
+        eventPublisher.publishEvent(VacationChangedEvent.created(saved));
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OverlappingVacationException.Suggestion> suggest(LocalDate startDate, LocalDate endDate, Integer limit) {
+        VacationHelper.validateVacationInput(new VacationInput(startDate, endDate, null));
+
+        int maxSuggestions = limit == null ? VacationAvailabilityService.DEFAULT_SUGGESTIONS : limit;
+        if (maxSuggestions < 1 || maxSuggestions > MAX_SUGGESTIONS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+
+        Employee requester = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+
+        List<UUID> scope = vacationAvailabilityService.overlapScope(requester);
+        return vacationAvailabilityService.suggest(scope, startDate, endDate, maxSuggestions);
     }
 
     @Transactional(readOnly = true)
-    public Page<Vacation> findAll(int page) {
+    public Page<Vacation> findAll(int page, boolean transitive) {
         var currentEmployeeOpt = currentUserService.getCurrentEmployee();
         if (currentEmployeeOpt.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
@@ -76,23 +174,79 @@ public class VacationService {
         }
 
         if (currentEmployee.getRole() == com.taskflow.taskflow.data.Role.MANAGER) {
-            List<Employee> teamAndManager = new ArrayList<>(currentEmployee.getTeam());
-            teamAndManager.add(currentEmployee);
-            return vacationRepository.findByRequesterIn(teamAndManager, pageRequest);
+            return transitive
+                    ? vacationRepository.findForManagerTransitive(currentEmployee.getId(), pageRequest)
+                    : vacationRepository.findForManager(currentEmployee.getId(), pageRequest);
         }
 
         return vacationRepository.findByRequester(currentEmployee, pageRequest);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<VacationResponse> search(VacationFilter filter, String cursor, Integer size) {
+        int limit = size == null ? this.pageSize : size;
+        if (limit < 1 || limit > MAX_SEARCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Size must be between 1 and " + MAX_SEARCH_SIZE);
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getTo().isBefore(filter.getFrom())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "To date cannot be before from date");
+        }
+
+        Employee currentEmployee = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated"));
+
+        Specification<Vacation> spec = visibleTo(currentEmployee);
+        if (filter.getStatus() != null) {
+            spec = spec.and(VacationSpecifications.hasStatus(filter.getStatus()));
+        }
+        if (filter.getFrom() != null) {
+            spec = spec.and(VacationSpecifications.endsOnOrAfter(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            spec = spec.and(VacationSpecifications.startsOnOrBefore(filter.getTo()));
+        }
+        if (filter.getRequesterId() != null) {
+            spec = spec.and(VacationSpecifications.requestedBy(filter.getRequesterId()));
+        }
+        if (filter.getDecidedBy() != null) {
+            spec = spec.and(VacationSpecifications.decidedBy(filter.getDecidedBy()));
+        }
+        if (filter.isPendingForMe()) {
+            spec = spec.and(VacationSpecifications.hasStatus(VacationStatus.PENDING))
+                    .and(VacationSpecifications.reportsTo(currentEmployee.getId()));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(VacationSpecifications.after(VacationCursor.decode(cursor)));
+        }
+
+        // one extra row tells whether there is a next page without a count query
+        List<Vacation> rows = vacationRepository.findBy(spec, q -> q.sortBy(KEYSET_SORT).limit(limit + 1).all());
+        boolean hasMore = rows.size() > limit;
+        List<Vacation> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = hasMore ? VacationCursor.after(pageRows.get(limit - 1)).encode() : null;
+        return new CursorPage<>(pageRows.stream().map(VacationMapper::toResponse).toList(), nextCursor);
+    }
+
+    private static Specification<Vacation> visibleTo(Employee employee) {
+        if (employee.getRole() == com.taskflow.taskflow.data.Role.ADMIN) {
+            return VacationSpecifications.any();
+        }
+        if (employee.getRole() == com.taskflow.taskflow.data.Role.MANAGER) {
+            return VacationSpecifications.requestedByOrReportsTo(employee.getId());
+        }
+        return VacationSpecifications.requestedBy(employee.getId());
+    }
+
     @Transactional
     public void delete(UUID id) {
         if (id == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Id is required");
         }
-        if (!vacationRepository.existsById(id)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation not found");
-        }
-        vacationRepository.deleteById(id);
+        Vacation v = vacationRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation not found"));
+        vacationRepository.delete(v);
+        eventPublisher.publishEvent(VacationChangedEvent.deleted(v));
     }
 
     @Transactional(readOnly = true)
@@ -104,85 +258,132 @@ public class VacationService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation not found"));
     }
 
-    @Transactional
-    public Vacation decide(UUID vacationId, boolean approved, String comment) {
-        VacationHelper.validateVacationId(vacationId);
-
-        Vacation v = vacationRepository.findById(vacationId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation not found"));
-
-        if (v.getStatus() != VacationStatus.PENDING) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only pending vacations can be decided");
-        }
-
-        var currentEmployeeOpt = currentUserService.getCurrentEmployee();
-        if (currentEmployeeOpt.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user");
+    @Transactional(readOnly = true)
+    public BatchLookupResponse<VacationResponse> findAllByIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ids are required");
         }
 
-        if (approved) {
-            v.setStatus(VacationStatus.APPROVED);
-            v.setApprovalComment(comment);
-            v.setDecidedAt(LocalDate.now());
-            v.setDecidedBy(currentEmployeeOpt.get().getId());
-        } else {
-            v.setStatus(VacationStatus.REJECTED);
-            v.setRejectionReason(comment);
-            v.setDecidedAt(LocalDate.now());
-            v.setDecidedBy(currentEmployeeOpt.get().getId());
+        Set<UUID> requested = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Predicate<Vacation> readable = authorizationService.readableVacations();
+        Map<UUID, Vacation> found = vacationRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(Vacation::getId, Function.identity()));
+
+        List<VacationResponse> items = new ArrayList<>();
+        List<UUID> notFound = new ArrayList<>();
+        List<UUID> forbidden = new ArrayList<>();
+        for (UUID id : requested) {
+            Vacation v = found.get(id);
+            if (v == null) {
+                notFound.add(id);
+            } else if (!readable.test(v)) {
+                forbidden.add(id);
+            } else {
+                items.add(VacationMapper.toResponse(v));
+            }
         }
 
-        return vacationRepository.save(v);
+        return new BatchLookupResponse<>(items, notFound, forbidden);
     }
 
-    private void validateNoOverlappingVacations(LocalDate newStart, LocalDate newEnd) {
-        if (newStart == null || newEnd == null) return;
-
-        final int LOOKBACK_DAYS = 30;
-        final int LOOKFORWARD_DAYS = 180;
-        final int MAX_SUGGESTIONS = 3;
-
-        long requestDuration = VacationHelper.calculateVacationDuration(newStart, newEnd);
-
-        LocalDate searchStart = VacationHelper.calculateSearchWindowStart(newStart, LOOKBACK_DAYS);
-        LocalDate searchEnd = VacationHelper.calculateSearchWindowEnd(newEnd, LOOKFORWARD_DAYS, requestDuration);
-
-        List<VacationStatus> relevantStatuses = List.of(VacationStatus.PENDING, VacationStatus.APPROVED);
+    @Transactional
+    public Vacation decide(UUID vacationId, boolean approved, String comment) {
+        VacationHelper.validateVacationId(vacationId);
 
-        List<Vacation> candidates = vacationRepository
-                .findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(
-                        searchEnd, searchStart, relevantStatuses
-                );
+        Employee decider = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+
+        // the PENDING check and the write are one statement, so two deciders cannot both win
+        VacationStatus status = approved ? VacationStatus.APPROVED : VacationStatus.REJECTED;
+        Vacation decided = vacationRepository.decideIfPending(
+                        vacationId,
+                        status.name(),
+                        approved ? comment : null,
+                        approved ? null : comment,
+                        LocalDate.now(),
+                        decider.getId())
+                .orElseThrow(() -> vacationRepository.existsById(vacationId)
+                        ? new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only pending vacations can be decided")
+                        : new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacation not found"));
+
+        eventPublisher.publishEvent(VacationChangedEvent.decided(decided, VacationStatus.PENDING));
+        return decided;
+    }
 
-        List<Pair<LocalDate, LocalDate>> occupied = new ArrayList<>();
-        for (Vacation v : candidates) {
-            LocalDate s = v.getStartDate();
-            LocalDate e = v.getEndDate();
-            if (s == null || e == null) continue;
-            occupied.add(Pair.of(s, e));
+    /**
+     * Applies many decisions in one transaction: one query loads and authorizes every target, and
+     * one UPDATE per distinct (decision, comment) pair writes them, so the statement count does not
+     * grow with the batch. Items that cannot be decided are reported instead of failing the batch.
+     */
+    @Transactional
+    public List<BulkDecisionResult> decideAll(List<BulkDecisionItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Decisions are required");
         }
 
-        List<Pair<LocalDate, LocalDate>> merged = VacationHelper.mergeOverlappingIntervals(occupied);
-
-        for (Pair<LocalDate, LocalDate> ex : merged) {
-            LocalDate exStart = ex.getFirst();
-            LocalDate exEnd = ex.getSecond();
-            boolean overlaps = !(newEnd.isBefore(exStart) || newStart.isAfter(exEnd));
-            if (overlaps) {
-                int requestedDays = (int) requestDuration;
-                List<OverlappingVacationException.Suggestion> suggestions = VacationHelper.generateVacationSuggestions(
-                        merged, newStart, newEnd, searchStart, searchEnd, MAX_SUGGESTIONS
-                );
+        Employee caller = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+        boolean admin = caller.getRole() == com.taskflow.taskflow.data.Role.ADMIN;
+
+        Map<UUID, VacationDecisionTarget> targets = vacationRepository.findDecisionTargets(
+                        items.stream().map(BulkDecisionItem::getId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(VacationDecisionTarget::vacationId, Function.identity()));
+
+        Map<UUID, BulkDecisionResult> byId = new HashMap<>();
+        Map<DecisionKey, List<UUID>> groups = new LinkedHashMap<>();
+        List<BulkDecisionResult> results = new ArrayList<>();
+        for (BulkDecisionItem item : items) {
+            UUID id = item.getId();
+            if (byId.containsKey(id)) {
+                results.add(new BulkDecisionResult(id, DecisionOutcome.DUPLICATE));
+                continue;
+            }
 
-                LocalDate earliest = LocalDate.now().plusDays(1);
-                List<OverlappingVacationException.Suggestion> filtered = suggestions.stream()
-                        .filter(sug -> !sug.getStartDate().isBefore(earliest))
-                        .collect(Collectors.toList());
+            VacationDecisionTarget target = targets.get(id);
+            DecisionOutcome outcome;
+            if (target == null) {
+                outcome = DecisionOutcome.NOT_FOUND;
+            } else if (!admin && !caller.getId().equals(target.managerId())) {
+                outcome = DecisionOutcome.FORBIDDEN;
+            } else if (target.status() != VacationStatus.PENDING) {
+                outcome = DecisionOutcome.NOT_PENDING;
+            } else {
+                outcome = item.getApproved() ? DecisionOutcome.APPROVED : DecisionOutcome.REJECTED;
+                groups.computeIfAbsent(new DecisionKey(item.getApproved(), item.getComment()), k -> new ArrayList<>()).add(id);
+            }
+            BulkDecisionResult result = new BulkDecisionResult(id, outcome);
+            byId.put(id, result);
+            results.add(result);
+        }
 
-                throw new OverlappingVacationException(
-                        "Requested vacation overlaps with an existing vacation", filtered, requestedDays
-                );
+        LocalDate today = LocalDate.now();
+        for (Map.Entry<DecisionKey, List<UUID>> group : groups.entrySet()) {
+            DecisionKey key = group.getKey();
+            List<UUID> ids = group.getValue();
+            VacationStatus status = key.approved() ? VacationStatus.APPROVED : VacationStatus.REJECTED;
+            Set<UUID> decided = new HashSet<>(vacationRepository.decidePending(ids, status.name(),
+                    key.approved() ? key.comment() : null,
+                    key.approved() ? null : key.comment(),
+                    today, caller.getId()));
+            for (UUID id : ids) {
+                if (!decided.contains(id)) {
+                    // decided (even the same way) or deleted by someone else between the read and the update
+                    byId.get(id).setOutcome(DecisionOutcome.NOT_PENDING);
+                    continue;
+                }
+                VacationDecisionTarget t = targets.get(id);
+                eventPublisher.publishEvent(new VacationChangedEvent(
+                        id, t.employeeId(), t.startDate(), t.endDate(), VacationStatus.PENDING, status));
             }
         }
+
+        return results;
+    }
+
+    private record DecisionKey(boolean approved, String comment) {
     }
 }
@@ -0,0 +1,58 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.dto.VacationInput;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.util.VacationHelper;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entry point for new vacation requests. Deliberately not transactional: the requester's stripe
+ * is taken from the login before anything touches the database, so queued requests hold no
+ * pooled connection. The overlap scope's interval trees are then loaded before the write
+ * transaction opens, so the lock holder never needs a second connection while inside it.
+ */
+@Service
+public class VacationSubmissionService {
+
+    private final VacationService vacationService;
+    private final CurrentUserService currentUserService;
+    private final VacationAvailabilityService vacationAvailabilityService;
+    private final EmployeeMutationLock employeeMutationLock;
+    private final TransactionTemplate writeTransaction;
+
+    public VacationSubmissionService(VacationService vacationService,
+                                     CurrentUserService currentUserService,
+                                     VacationAvailabilityService vacationAvailabilityService,
+                                     EmployeeMutationLock employeeMutationLock,
+                                     PlatformTransactionManager transactionManager) {
+        this.vacationService = vacationService;
+        this.currentUserService = currentUserService;
+        this.vacationAvailabilityService = vacationAvailabilityService;
+        this.employeeMutationLock = employeeMutationLock;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public Vacation create(VacationInput req) {
+        VacationHelper.validateVacationInput(req);
+
+        String login = currentUserService.getCurrentPrincipalName()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+
+        return employeeMutationLock.withStripe(login, () -> {
+            Employee requester = currentUserService.getCurrentEmployee()
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+            List<UUID> scope = vacationAvailabilityService.overlapScope(requester);
+            vacationAvailabilityService.preload(scope);
+            return writeTransaction.execute(status -> vacationService.create(req));
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.WhosOutEntry;
+import com.taskflow.taskflow.dto.WhosOutResponse;
+import com.taskflow.taskflow.index.WhosOutIndex;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class WhosOutService {
+
+    public static final int MAX_RANGE_DAYS = 31;
+
+    private final WhosOutIndex whosOutIndex;
+    private final EmployeeRepository employeeRepository;
+
+    public WhosOutService(WhosOutIndex whosOutIndex, EmployeeRepository employeeRepository) {
+        this.whosOutIndex = whosOutIndex;
+        this.employeeRepository = employeeRepository;
+    }
+
+    public WhosOutResponse findWhosOut(LocalDate from, LocalDate to, boolean includePending) {
+        LocalDate start = from == null ? LocalDate.now() : from;
+        LocalDate end = to == null ? start : to;
+        if (end.isBefore(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "To date cannot be before from date");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        // approved wins when someone has both an approved and a pending vacation in the range
+        Map<UUID, VacationStatus> out = new LinkedHashMap<>();
+        whosOutIndex.findOut(start, end, VacationStatus.APPROVED).forEach(id -> out.put(id, VacationStatus.APPROVED));
+        if (includePending) {
+            whosOutIndex.findOut(start, end, VacationStatus.PENDING).forEach(id -> out.putIfAbsent(id, VacationStatus.PENDING));
+        }
+
+        Map<UUID, Employee> employees = out.isEmpty()
+                ? Map.of()
+                : employeeRepository.findAllById(out.keySet()).stream()
+                        .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        List<WhosOutEntry> entries = new ArrayList<>();
+        out.forEach((id, status) -> {
+            Employee e = employees.get(id);
+            if (e != null) {
+                entries.add(new WhosOutEntry(id, e.getFirstName(), e.getLastName(), status));
+            }
+        });
+        entries.sort(Comparator.comparing(WhosOutEntry::getFirstName).thenComparing(WhosOutEntry::getLastName));
+        return new WhosOutResponse(start, end, entries);
+    }
+}
@@ -0,0 +1,212 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.EmployeeRuns;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.dto.YearViewResponse;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.event.VacationsArchivedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.ArchivedVacationRepository;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Year grids for calendar rendering: per employee, the PENDING and APPROVED days of one year as
+ * run-length-encoded (start epoch day, length, status) triples, so a 500-person year is a few
+ * thousand integers instead of a page of full vacation objects per request. Adjacent vacations with
+ * the same status collapse into one run.
+ * <p>
+ * A view is built from one range query ordered by employee and start, and kept per (manager tree,
+ * year) until a vacation touching that year changes, a manager is reassigned (team views only),
+ * or an archive run moves rows out.
+ */
+@Service
+public class YearViewService {
+
+    static final List<VacationStatus> STATUSES = List.of(VacationStatus.PENDING, VacationStatus.APPROVED);
+
+    private final EmployeeRepository employeeRepository;
+    private final VacationRepository vacationRepository;
+    private final ArchivedVacationRepository archivedVacationRepository;
+    private final CurrentUserService currentUserService;
+
+    private final Map<YearViewKey, RenderedYearView> views = new ConcurrentHashMap<>();
+    // bumped before every eviction; a render that raced one is served but not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    public YearViewService(EmployeeRepository employeeRepository,
+                           VacationRepository vacationRepository,
+                           ArchivedVacationRepository archivedVacationRepository,
+                           CurrentUserService currentUserService) {
+        this.employeeRepository = employeeRepository;
+        this.vacationRepository = vacationRepository;
+        this.archivedVacationRepository = archivedVacationRepository;
+        this.currentUserService = currentUserService;
+    }
+
+    @Transactional(readOnly = true)
+    public RenderedYearView find(UUID managerId, int year) {
+        if (year < 1 || year > 9999) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Year must be between 1 and 9999");
+        }
+        YearViewKey key = new YearViewKey(resolveScope(managerId), year);
+        RenderedYearView cached = views.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long seen = generation.get();
+        RenderedYearView rendered = render(key);
+        views.put(key, rendered);
+        // an eviction since the read may have run before the put; drop what could be stale
+        if (generation.get() != seen) {
+            views.remove(key, rendered);
+        }
+        return rendered;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationChanged(VacationChangedEvent event) {
+        int firstYear = event.startDate().getYear();
+        int lastYear = event.endDate().getYear();
+        generation.incrementAndGet();
+        views.keySet().removeIf(key -> key.year() >= firstYear && key.year() <= lastYear);
+    }
+
+    // the trees the employee left and joined are unknown here, so every team view is rebuilt
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onManagerChanged(EmployeeManagerChangedEvent event) {
+        generation.incrementAndGet();
+        views.keySet().removeIf(key -> key.managerId() != null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacationsArchived(VacationsArchivedEvent event) {
+        generation.incrementAndGet();
+        views.clear();
+    }
+
+    private RenderedYearView render(YearViewKey key) {
+        LocalDate from = LocalDate.of(key.year(), 1, 1);
+        LocalDate to = LocalDate.of(key.year(), 12, 31);
+        // part of the year has moved to the archive, which this view does not read
+        archivedVacationRepository.findArchivedThrough().ifPresent(archivedThrough -> {
+            if (archivedThrough.getYear() >= key.year()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Year " + key.year() + " is archived; use the vacation history instead");
+            }
+        });
+
+        List<VacationSpan> spans;
+        if (key.managerId() == null) {
+            spans = vacationRepository.findAllSpansOverlappingByEmployee(STATUSES, from, to);
+        } else {
+            // checked here rather than per request; an unknown id never reaches the cache
+            if (!employeeRepository.existsById(key.managerId())) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Manager not found");
+            }
+            Set<UUID> tree = new LinkedHashSet<>();
+            tree.add(key.managerId());
+            tree.addAll(employeeRepository.findTeamIdsTransitive(key.managerId()));
+            spans = vacationRepository.findSpansOverlappingByEmployee(tree, STATUSES, from, to);
+        }
+
+        List<EmployeeRuns> employees = encode(spans, from, to);
+        YearViewResponse view = new YearViewResponse(key.year(), key.managerId(), STATUSES, employees);
+        return new RenderedYearView(view, etag(key, employees));
+    }
+
+    /**
+     * Run-length encodes spans sorted by employee and start, clipped to [from, to].
+     */
+    static List<EmployeeRuns> encode(List<VacationSpan> spans, LocalDate from, LocalDate to) {
+        long first = from.toEpochDay();
+        long last = to.toEpochDay();
+        List<EmployeeRuns> employees = new ArrayList<>();
+        int[] runs = new int[48];
+        int size = 0;
+        UUID current = null;
+
+        for (VacationSpan span : spans) {
+            if (!span.employeeId().equals(current)) {
+                if (current != null) {
+                    employees.add(new EmployeeRuns(current, Arrays.copyOf(runs, size)));
+                }
+                current = span.employeeId();
+                size = 0;
+            }
+            int start = (int) Math.max(first, span.startDate().toEpochDay());
+            int end = (int) Math.min(last, span.endDate().toEpochDay());
+            int status = STATUSES.indexOf(span.status());
+            if (size > 0 && runs[size - 1] == status && runs[size - 3] + runs[size - 2] == start) {
+                runs[size - 2] += end - start + 1;
+                continue;
+            }
+            if (size + 3 > runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            runs[size++] = start;
+            runs[size++] = end - start + 1;
+            runs[size++] = status;
+        }
+        if (current != null) {
+            employees.add(new EmployeeRuns(current, Arrays.copyOf(runs, size)));
+        }
+        return employees;
+    }
+
+    // a 64-bit hash of the content, so an unchanged view keeps its tag across evictions and restarts
+    private static String etag(YearViewKey key, List<EmployeeRuns> employees) {
+        long hash = 31L * key.year() + (key.managerId() == null ? 0 : key.managerId().hashCode());
+        for (EmployeeRuns employee : employees) {
+            hash = hash * 0x9E3779B97F4A7C15L + employee.getEmployeeId().getMostSignificantBits();
+            hash = hash * 0x9E3779B97F4A7C15L + employee.getEmployeeId().getLeastSignificantBits();
+            for (int value : employee.getRuns()) {
+                hash = hash * 0x9E3779B97F4A7C15L + value;
+            }
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    private UUID resolveScope(UUID requestedManagerId) {
+        Employee caller = currentUserService.getCurrentEmployee()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Unable to resolve current user"));
+        if (caller.getRole() == Role.ADMIN) {
+            return requestedManagerId;
+        }
+        if (requestedManagerId == null || requestedManagerId.equals(caller.getId())) {
+            return caller.getId();
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Managers can only view their own reporting tree");
+    }
+
+    /**
+     * A cached view: a manager's reporting tree (the manager included), or everyone when
+     * {@code managerId} is null, for one calendar year.
+     */
+    public record YearViewKey(UUID managerId, int year) {
+    }
+
+    public record RenderedYearView(YearViewResponse view, String etag) {
+    }
+}
@@ -1,9 +1,11 @@
 package com.taskflow.taskflow.util;
 
+import com.taskflow.taskflow.dto.EmployeeHistoryResponse;
 import com.taskflow.taskflow.dto.EmployeeInput;
 import com.taskflow.taskflow.dto.EmployeeManagerResponse;
 import com.taskflow.taskflow.dto.EmployeeResponse;
 import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.EmployeeHistory;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,7 +26,8 @@ public final class EmployeeMapper {
                 e.getLastName(),
                 e.getEmail(),
                 e.getRole(),
-                managerId
+                managerId,
+                e.getLocation()
         );
     }
 
@@ -40,6 +43,20 @@ public final class EmployeeMapper {
                 .collect(Collectors.toList());
     }
 
+    public static EmployeeHistoryResponse toHistoryResponse(EmployeeHistory h) {
+        if (h == null) return null;
+        return new EmployeeHistoryResponse(
+                h.getEmployeeId(),
+                h.getFirstName(),
+                h.getLastName(),
+                h.getEmail(),
+                h.getRole(),
+                h.getManagerId(),
+                h.getValidFrom(),
+                h.getValidTo()
+        );
+    }
+
     public static Employee toEntity(EmployeeInput req) {
         if (req == null) return null;
         Employee e = new Employee();
@@ -48,6 +65,7 @@ public final class EmployeeMapper {
         e.setPasswordHash(PasswordHashUtil.hashPassword(req.getPassword()));
         e.setEmail(req.getEmail());
         e.setRole(req.getRole());
+        e.setLocation(req.getLocation());
         if (req.getManagerId() != null) {
             Employee manager = new Employee();
             manager.setId(req.getManagerId());
@@ -0,0 +1,82 @@
+package com.taskflow.taskflow.util;
+
+import com.taskflow.taskflow.dto.FeedEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Renders vacations as an RFC 5545 calendar: one all-day event per vacation. The output depends
+ * only on the entries, so rendering unchanged data yields identical bytes (and the same ETag).
+ */
+public final class IcsWriter {
+
+    private static final String CRLF = "\r\n";
+    // content lines longer than this many octets are folded
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private IcsWriter() {
+    }
+
+    public static byte[] write(String calendarName, List<FeedEntry> entries) {
+        StringBuilder ics = new StringBuilder(256 + entries.size() * 256);
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//Taskflow//Vacations//EN");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "METHOD:PUBLISH");
+        line(ics, "X-WR-CALNAME:" + escape(calendarName));
+        for (FeedEntry entry : entries) {
+            // DTSTAMP comes from the data, not the clock, to keep the bytes stable
+            LocalDate stamp = entry.decidedAt() != null ? entry.decidedAt() : entry.startDate();
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:" + entry.vacationId() + "@taskflow");
+            line(ics, "DTSTAMP:" + stamp.format(DateTimeFormatter.BASIC_ISO_DATE) + "T000000Z");
+            line(ics, "DTSTART;VALUE=DATE:" + entry.startDate().format(DateTimeFormatter.BASIC_ISO_DATE));
+            // DTEND of an all-day event is exclusive
+            line(ics, "DTEND;VALUE=DATE:" + entry.endDate().plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE));
+            line(ics, "SUMMARY:" + escape("Vacation: " + entry.firstName() + " " + entry.lastName()));
+            line(ics, "TRANSP:TRANSPARENT");
+            line(ics, "END:VEVENT");
+        }
+        line(ics, "END:VCALENDAR");
+        return ics.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    // folds on code point boundaries so multi-byte characters are never split
+    private static void line(StringBuilder ics, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = utf8Length(codePoint);
+            if (octets + size > MAX_LINE_OCTETS) {
+                ics.append(CRLF).append(' ');
+                octets = 1;
+            }
+            ics.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        ics.append(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
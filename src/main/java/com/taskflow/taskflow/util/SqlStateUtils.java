@@ -0,0 +1,25 @@
+package com.taskflow.taskflow.util;
+
+import java.sql.SQLException;
+
+public final class SqlStateUtils {
+
+    public static final String FOREIGN_KEY_VIOLATION = "23503";
+    public static final String UNIQUE_VIOLATION = "23505";
+    public static final String EXCLUSION_VIOLATION = "23P01";
+
+    private SqlStateUtils() {
+    }
+
+    public static boolean hasSqlState(Throwable ex, String sqlState) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sqlEx && sqlState.equals(sqlEx.getSQLState())) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
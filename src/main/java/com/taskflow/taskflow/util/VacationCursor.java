@@ -0,0 +1,37 @@
+package com.taskflow.taskflow.util;
+
+import com.taskflow.taskflow.model.Vacation;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position in the (startDate, id) order: the last row a client has seen.
+ */
+public record VacationCursor(LocalDate startDate, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static VacationCursor after(Vacation v) {
+        return new VacationCursor(v.getStartDate(), v.getId());
+    }
+
+    public String encode() {
+        String raw = startDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static VacationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            return new VacationCursor(LocalDate.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+        } catch (RuntimeException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
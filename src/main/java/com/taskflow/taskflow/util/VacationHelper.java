@@ -1,16 +1,18 @@
 package com.taskflow.taskflow.util;
 
+import com.taskflow.taskflow.dto.FreeWindow;
 import com.taskflow.taskflow.dto.VacationInput;
 import com.taskflow.taskflow.exception.OverlappingVacationException;
-import org.springframework.data.util.Pair;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class VacationHelper {
 
@@ -46,92 +48,148 @@ public class VacationHelper {
         }
     }
 
-    public static List<Pair<LocalDate, LocalDate>> mergeOverlappingIntervals(
-            List<Pair<LocalDate, LocalDate>> intervals) {
+    /**
+     * Finds the free windows of {@code lengthInDays} closest to {@code requestedStart}, looking both
+     * backwards and forwards. Bit {@code i} of {@code blockedDays} marks {@code windowStart + i} as
+     * unavailable (booked or blackout); days past {@code windowEnd} count as blocked. Each maximal
+     * free run contributes at most one window (its start nearest the request), and the results are
+     * ordered by distance from the requested start, earlier first on ties. Within a run the start
+     * moves to the nearest day accepted by {@code allowedStart}.
+     */
+    public static List<OverlappingVacationException.Suggestion> findNearestFreeWindows(
+            BitSet blockedDays,
+            LocalDate windowStart,
+            LocalDate windowEnd,
+            LocalDate requestedStart,
+            int lengthInDays,
+            LocalDate earliestStart,
+            Predicate<LocalDate> allowedStart,
+            int maxSuggestions) {
 
-        if (intervals.isEmpty()) {
-            return new ArrayList<>();
+        int windowDays = (int) calendarSpanDays(windowStart, windowEnd);
+        int lastStart = windowDays - lengthInDays;
+        int requested = (int) ChronoUnit.DAYS.between(windowStart, requestedStart);
+        int firstStart = Math.max(0, (int) ChronoUnit.DAYS.between(windowStart, earliestStart));
+
+        List<Integer> starts = new ArrayList<>();
+        int runStart = blockedDays.nextClearBit(firstStart);
+        while (runStart <= lastStart) {
+            int runEnd = blockedDays.nextSetBit(runStart);
+            if (runEnd < 0 || runEnd > windowDays) {
+                runEnd = windowDays;
+            }
+            int latestInRun = runEnd - lengthInDays;
+            if (latestInRun >= runStart) {
+                int start = Math.max(runStart, Math.min(requested, latestInRun));
+                start = nearestAllowedStart(windowStart, start, runStart, latestInRun, allowedStart);
+                if (start >= 0) {
+                    starts.add(start);
+                }
+            }
+            runStart = blockedDays.nextClearBit(runEnd);
         }
 
-        List<Pair<LocalDate, LocalDate>> sortedIntervals = new ArrayList<>(intervals);
-        sortedIntervals.sort(Comparator.comparing(Pair::getFirst));
-
-        List<Pair<LocalDate, LocalDate>> mergedIntervals = new ArrayList<>();
-        Pair<LocalDate, LocalDate> currentInterval = sortedIntervals.get(0);
-        LocalDate currentStart = currentInterval.getFirst();
-        LocalDate currentEnd = currentInterval.getSecond();
+        return starts.stream()
+                .sorted(Comparator.<Integer>comparingInt(start -> Math.abs(start - requested))
+                        .thenComparingInt(start -> start))
+                .limit(maxSuggestions)
+                .map(start -> createSuggestion(
+                        windowStart.plusDays(start), windowStart.plusDays(start + lengthInDays - 1L)))
+                .toList();
+    }
 
-        for (int i = 1; i < sortedIntervals.size(); i++) {
-            Pair<LocalDate, LocalDate> nextInterval = sortedIntervals.get(i);
-            LocalDate nextStart = nextInterval.getFirst();
-            LocalDate nextEnd = nextInterval.getSecond();
+    /**
+     * Windows of at least {@code minLength} days within [from, to] that fall outside every busy
+     * interval. Intervals are inclusive epoch-day pairs in {@code busyStarts}/{@code busyEnds}; list
+     * {@code g} occupies indices [groupOffsets[g], groupOffsets[g + 1]) and is sorted by start, as
+     * one employee's vacations come out of an ordered query.
+     * <p>
+     * The lists are merged k ways through a heap of group indices keyed by each group's next start,
+     * so the union is swept in start order in O(n log k) without sorting all n intervals or
+     * allocating per interval; a gap between the sweep's reach and the next start is a free window.
+     */
+    public static List<FreeWindow> findCommonFreeWindows(long[] busyStarts, long[] busyEnds, int[] groupOffsets,
+                                                         LocalDate from, LocalDate to, int minLength) {
+        long last = to.toEpochDay();
+        int groups = groupOffsets.length - 1;
+        int[] cursor = new int[groups];
+        int[] heap = new int[groups];
+        int size = 0;
+        for (int g = 0; g < groups; g++) {
+            cursor[g] = groupOffsets[g];
+            if (cursor[g] < groupOffsets[g + 1]) {
+                heap[size] = g;
+                siftUp(heap, size++, busyStarts, cursor);
+            }
+        }
 
-            boolean overlapsOrAdjacent = !currentEnd.isBefore(nextStart.minusDays(1));
+        List<FreeWindow> windows = new ArrayList<>();
+        // first day not yet known to be busy
+        long free = from.toEpochDay();
+        while (size > 0 && free <= last) {
+            int g = heap[0];
+            int i = cursor[g];
+            if (busyStarts[i] > free) {
+                addWindow(windows, free, Math.min(busyStarts[i] - 1, last), minLength);
+            }
+            free = Math.max(free, busyEnds[i] + 1);
 
-            if (overlapsOrAdjacent) {
-                currentEnd = maxDate(currentEnd, nextEnd);
-            } else {
-                mergedIntervals.add(Pair.of(currentStart, currentEnd));
-                currentStart = nextStart;
-                currentEnd = nextEnd;
+            if (++cursor[g] == groupOffsets[g + 1]) {
+                heap[0] = heap[--size];
             }
+            siftDown(heap, size, busyStarts, cursor);
         }
-
-        mergedIntervals.add(Pair.of(currentStart, currentEnd));
-        return mergedIntervals;
+        if (free <= last) {
+            addWindow(windows, free, last, minLength);
+        }
+        return windows;
     }
 
-    public static List<OverlappingVacationException.Suggestion> generateVacationSuggestions(
-            List<Pair<LocalDate, LocalDate>> occupiedIntervals,
-            LocalDate requestedStartDate,
-            LocalDate requestedEndDate,
-            LocalDate searchWindowStart,
-            LocalDate searchWindowEnd,
-            int maxSuggestions) {
-
-        List<OverlappingVacationException.Suggestion> suggestions = new ArrayList<>();
-        long requestedDurationInDays = calculateDurationInDays(requestedStartDate, requestedEndDate);
-
-        if (occupiedIntervals.isEmpty()) {
-            suggestions.add(createSuggestion(requestedStartDate, requestedEndDate));
-            return suggestions;
+    private static void addWindow(List<FreeWindow> windows, long first, long last, int minLength) {
+        int days = (int) (last - first + 1);
+        if (days >= minLength) {
+            windows.add(new FreeWindow(LocalDate.ofEpochDay(first), LocalDate.ofEpochDay(last), days));
         }
+    }
 
-        LocalDate searchCursor = searchWindowStart;
-
-        for (Pair<LocalDate, LocalDate> occupiedInterval : occupiedIntervals) {
-            LocalDate occupiedStart = occupiedInterval.getFirst();
-            LocalDate occupiedEnd = occupiedInterval.getSecond();
-
-            if (suggestions.size() >= maxSuggestions) {
+    private static void siftUp(int[] heap, int index, long[] starts, int[] cursor) {
+        int group = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (starts[cursor[heap[parent]]] <= starts[cursor[group]]) {
                 break;
             }
-
-            if (searchCursor.isBefore(occupiedStart)) {
-                LocalDate availableEnd = occupiedStart.minusDays(1);
-                long availableDuration = calculateDurationInDays(searchCursor, availableEnd);
-
-                if (availableDuration >= requestedDurationInDays) {
-                    LocalDate suggestionEnd = searchCursor.plusDays(requestedDurationInDays - 1);
-                    suggestions.add(createSuggestion(searchCursor, suggestionEnd));
-                }
-            }
-
-            searchCursor = maxDate(searchCursor, occupiedEnd.plusDays(1));
+            heap[index] = heap[parent];
+            index = parent;
         }
+        heap[index] = group;
+    }
 
-        if (suggestions.size() < maxSuggestions && searchCursor.isBefore(searchWindowEnd)) {
-            LocalDate suggestionEnd = searchCursor.plusDays(requestedDurationInDays - 1);
-
-            if (!suggestionEnd.isAfter(searchWindowEnd)) {
-                suggestions.add(createSuggestion(searchCursor, suggestionEnd));
+    private static void siftDown(int[] heap, int size, long[] starts, int[] cursor) {
+        if (size == 0) {
+            return;
+        }
+        int group = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && starts[cursor[heap[child + 1]]] < starts[cursor[heap[child]]]) {
+                child++;
             }
+            if (starts[cursor[group]] <= starts[cursor[heap[child]]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
         }
-
-        return suggestions;
+        heap[index] = group;
     }
 
-    public static long calculateVacationDuration(LocalDate startDate, LocalDate endDate) {
+    // inclusive calendar days, weekends and holidays included; business days come from BusinessDayCalendar
+    public static long calendarSpanDays(LocalDate startDate, LocalDate endDate) {
         return ChronoUnit.DAYS.between(startDate, endDate) + 1;
     }
 
@@ -146,16 +204,21 @@ public class VacationHelper {
         return requestEndDate.plusDays(daysToLookForward + requestDuration);
     }
 
-    private static long calculateDurationInDays(LocalDate startDate, LocalDate endDate) {
-        return ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    // gives up (-1) only if a whole week around the preferred day is rejected
+    private static int nearestAllowedStart(LocalDate windowStart, int preferred, int min, int max,
+                                           Predicate<LocalDate> allowedStart) {
+        for (int distance = 0; distance < 7; distance++) {
+            for (int candidate : new int[]{preferred - distance, preferred + distance}) {
+                if (candidate >= min && candidate <= max && allowedStart.test(windowStart.plusDays(candidate))) {
+                    return candidate;
+                }
+            }
+        }
+        return -1;
     }
 
     private static OverlappingVacationException.Suggestion createSuggestion(LocalDate startDate, LocalDate endDate) {
         return new OverlappingVacationException.Suggestion(startDate, endDate);
     }
-
-    private static LocalDate maxDate(LocalDate date1, LocalDate date2) {
-        return date1.isAfter(date2) ? date1 : date2;
-    }
 }
 
@@ -1,8 +1,14 @@
 package com.taskflow.taskflow.util;
 
 import com.taskflow.taskflow.dto.VacationResponse;
+import com.taskflow.taskflow.dto.VacationSuggestionResponse;
+import com.taskflow.taskflow.exception.OverlappingVacationException;
+import com.taskflow.taskflow.model.ArchivedVacation;
 import com.taskflow.taskflow.model.Vacation;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
 public final class VacationMapper {
 
     private VacationMapper() {}
@@ -23,4 +29,28 @@ public final class VacationMapper {
         return r;
     }
 
+    public static VacationResponse toResponse(ArchivedVacation v) {
+        VacationResponse r = new VacationResponse();
+        r.setId(v.getId());
+        r.setEmployeeId(v.getEmployeeId());
+        r.setStartDate(v.getStartDate());
+        r.setEndDate(v.getEndDate());
+        r.setStatus(v.getStatus());
+        r.setApprovalComment(v.getApprovalComment());
+        r.setRejectionReason(v.getRejectionReason());
+        r.setRequestReason(v.getRequestReason());
+        r.setCreatedAt(v.getCreatedAt());
+        r.setDecidedAt(v.getDecidedAt());
+        r.setDecidedBy(v.getDecidedBy());
+        return r;
+    }
+
+    public static VacationSuggestionResponse toSuggestionResponse(OverlappingVacationException.Suggestion s, LocalDate requestedStart) {
+        return new VacationSuggestionResponse(
+                s.getStartDate(),
+                s.getEndDate(),
+                ChronoUnit.DAYS.between(requestedStart, s.getStartDate())
+        );
+    }
+
 }
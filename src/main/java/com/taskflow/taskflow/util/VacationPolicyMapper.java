@@ -0,0 +1,36 @@
+package com.taskflow.taskflow.util;
+
+import com.taskflow.taskflow.dto.VacationPolicyInput;
+import com.taskflow.taskflow.dto.VacationPolicyResponse;
+import com.taskflow.taskflow.model.VacationPolicy;
+
+public final class VacationPolicyMapper {
+
+    private VacationPolicyMapper() {
+    }
+
+    public static VacationPolicyResponse toResponse(VacationPolicy p) {
+        return new VacationPolicyResponse(
+                p.getId(),
+                p.getName(),
+                p.getType(),
+                p.isEnabled(),
+                p.getPeriodStart(),
+                p.getPeriodEnd(),
+                p.getDays(),
+                p.getMinVacationDays(),
+                p.getMaxPercent()
+        );
+    }
+
+    public static void copyInto(VacationPolicyInput input, VacationPolicy target) {
+        target.setName(input.getName().trim());
+        target.setType(input.getType());
+        target.setEnabled(input.getEnabled() == null || input.getEnabled());
+        target.setPeriodStart(input.getPeriodStart());
+        target.setPeriodEnd(input.getPeriodEnd());
+        target.setDays(input.getDays());
+        target.setMinVacationDays(input.getMinVacationDays());
+        target.setMaxPercent(input.getMaxPercent());
+    }
+}
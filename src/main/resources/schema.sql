@@ -0,0 +1,129 @@
+-- Runs after Hibernate has created/updated the tables (spring.jpa.defer-datasource-initialization).
+-- The whole file is sent as one statement batch, so PL/pgSQL bodies can use dollar quoting.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Employee history: one row per version of an employee, valid over [valid_from, valid_to).
+-- The exclusion constraint doubles as the per-employee GiST index for "history of employee E".
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'employee_history_no_overlap') THEN
+        ALTER TABLE employee_history
+            ADD CONSTRAINT employee_history_no_overlap
+            EXCLUDE USING gist (employee_id WITH =, tstzrange(valid_from, valid_to) WITH &&);
+    END IF;
+END
+$$;
+
+CREATE INDEX IF NOT EXISTS employee_history_validity_idx
+    ON employee_history USING gist (tstzrange(valid_from, valid_to));
+
+CREATE OR REPLACE FUNCTION employee_history_version() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        -- a second change in the same transaction replaces the version opened by the first
+        DELETE FROM employee_history
+         WHERE employee_id = OLD.id AND valid_to IS NULL AND valid_from = now();
+        UPDATE employee_history
+           SET valid_to = now()
+         WHERE employee_id = OLD.id AND valid_to IS NULL;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO employee_history (employee_id, first_name, last_name, email, role, manager_id, valid_from)
+        VALUES (NEW.id, NEW.first_name, NEW.last_name, NEW.email, NEW.role, NEW.manager_id, now());
+    END IF;
+
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS employee_history_insert ON employees;
+CREATE TRIGGER employee_history_insert
+    AFTER INSERT ON employees
+    FOR EACH ROW EXECUTE FUNCTION employee_history_version();
+
+DROP TRIGGER IF EXISTS employee_history_update ON employees;
+CREATE TRIGGER employee_history_update
+    AFTER UPDATE ON employees
+    FOR EACH ROW
+    WHEN ((OLD.first_name, OLD.last_name, OLD.email, OLD.role, OLD.manager_id)
+          IS DISTINCT FROM (NEW.first_name, NEW.last_name, NEW.email, NEW.role, NEW.manager_id))
+    EXECUTE FUNCTION employee_history_version();
+
+DROP TRIGGER IF EXISTS employee_history_delete ON employees;
+CREATE TRIGGER employee_history_delete
+    AFTER DELETE ON employees
+    FOR EACH ROW EXECUTE FUNCTION employee_history_version();
+
+-- Employees that existed before versioning was enabled start their history now.
+INSERT INTO employee_history (employee_id, first_name, last_name, email, role, manager_id, valid_from)
+SELECT e.id, e.first_name, e.last_name, e.email, e.role, e.manager_id, now()
+  FROM employees e
+ WHERE NOT EXISTS (SELECT 1 FROM employee_history h WHERE h.employee_id = e.id);
+
+-- Vacations: the inclusive [start_date, end_date] range as a stored column, and an exclusion
+-- constraint so one employee can never hold two PENDING/APPROVED vacations that share a day.
+-- The constraint is the overlap check: VacationService.create inserts and maps 23P01.
+ALTER TABLE vacations
+    ADD COLUMN IF NOT EXISTS period daterange
+    GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'vacations_no_overlap') THEN
+        ALTER TABLE vacations
+            ADD CONSTRAINT vacations_no_overlap
+            EXCLUDE USING gist (employee_id WITH =, period WITH &&)
+            WHERE (status IN ('PENDING', 'APPROVED'));
+    END IF;
+EXCEPTION
+    WHEN exclusion_violation THEN
+        -- nothing else enforces non-overlap, so refuse to start rather than run without the constraint
+        RAISE EXCEPTION 'vacations_no_overlap not created: overlapping PENDING/APPROVED vacations exist'
+            USING HINT = 'Reject or delete the overlapping rows (SELECT a.id, b.id FROM vacations a JOIN vacations b '
+                      || 'ON a.employee_id = b.employee_id AND a.id < b.id AND a.period && b.period '
+                      || 'WHERE a.status IN (''PENDING'', ''APPROVED'') AND b.status IN (''PENDING'', ''APPROVED'')) and restart.';
+END
+$$;
+
+-- Keyset search over pending requests (the approver inbox) reads only this small partial index.
+CREATE INDEX IF NOT EXISTS idx_vacations_pending_start_id
+    ON vacations (start_date, id)
+    WHERE status = 'PENDING';
+
+-- Archive of closed years. VacationArchiveService moves vacations that ended before the years kept
+-- live into this table, one range partition per start-date year, so the live table and its indexes
+-- only hold recent years and history reads prune to the year asked for. Archived rows are never
+-- updated, so no overlap constraint is needed. Read through the ArchivedVacation entity.
+CREATE TABLE IF NOT EXISTS vacations_archive (
+    id               uuid         NOT NULL,
+    employee_id      uuid         NOT NULL,
+    start_date       date         NOT NULL,
+    end_date         date,
+    created_at       date,
+    decided_at       date,
+    decided_by       uuid,
+    status           varchar(32),
+    rejection_reason varchar(255),
+    approval_comment varchar(255),
+    request_reason   varchar(255),
+    archived_at      timestamptz  NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, start_date)
+) PARTITION BY RANGE (start_date);
+
+CREATE INDEX IF NOT EXISTS idx_vacations_archive_employee_start
+    ON vacations_archive (employee_id, start_date);
+
+-- Partitions are created by the archive job as years close; returns the partition name.
+CREATE OR REPLACE FUNCTION vacation_archive_partition(archive_year integer) RETURNS text AS $$
+DECLARE
+    partition_name text := 'vacations_archive_' || archive_year;
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF vacations_archive FOR VALUES FROM (%L) TO (%L)',
+        partition_name, make_date(archive_year, 1, 1), make_date(archive_year + 1, 1, 1));
+    RETURN partition_name;
+END
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,114 @@
+package com.taskflow.taskflow.benchmark;
+
+import com.taskflow.taskflow.util.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares insert throughput and primary-key index size for random (v4) and time-ordered (v7)
+ * identifiers on a vacations-shaped table. Needs a disposable PostgreSQL database:
+ *
+ * <pre>
+ * BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/taskflow BENCHMARK_DB_USER=taskflow \
+ * BENCHMARK_DB_PASSWORD=... BENCHMARK_ROWS=2000000 ./gradlew test --tests '*UuidInsertBenchmark'
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+@DisplayName("UUID v4 vs v7 insert benchmark")
+class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() throws SQLException {
+        int rows = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ROWS", "1000000"));
+
+        try (Connection conn = DriverManager.getConnection(
+                System.getenv("BENCHMARK_DB_URL"),
+                System.getenv("BENCHMARK_DB_USER"),
+                System.getenv("BENCHMARK_DB_PASSWORD"))) {
+            conn.setAutoCommit(false);
+
+            Result v4 = run(conn, "bench_vacations_v4", rows, UUID::randomUUID);
+            Result v7 = run(conn, "bench_vacations_v7", rows, UuidV7::generate);
+
+            System.out.printf("%-4s %12s %14s %16s%n", "key", "rows/s", "pk index (MB)", "leaf density (%)");
+            System.out.println(v4.format("v4"));
+            System.out.println(v7.format("v7"));
+        }
+    }
+
+    private Result run(Connection conn, String table, int rows, Supplier<UUID> ids) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + table);
+            st.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, employee_id uuid NOT NULL, "
+                    + "start_date date NOT NULL, end_date date, status varchar(16))");
+        }
+        conn.commit();
+
+        UUID employee = UUID.randomUUID();
+        LocalDate start = LocalDate.now();
+        long began = System.nanoTime();
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO " + table + " (id, employee_id, start_date, end_date, status) VALUES (?, ?, ?, ?, 'PENDING')")) {
+            for (int i = 0; i < rows; i++) {
+                LocalDate s = start.plusDays(i % 365);
+                ps.setObject(1, ids.get());
+                ps.setObject(2, employee);
+                ps.setDate(3, Date.valueOf(s));
+                ps.setDate(4, Date.valueOf(s.plusDays(5)));
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    conn.commit();
+                }
+            }
+            ps.executeBatch();
+            conn.commit();
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+
+        long indexBytes;
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            indexBytes = rs.getLong(1);
+        }
+
+        return new Result(rows / seconds, indexBytes, leafDensity(conn, table));
+    }
+
+    private double leafDensity(Connection conn, String table) throws SQLException {
+        // pgstattuple may not be installable for the benchmark user; report NaN instead of failing
+        try (Statement st = conn.createStatement()) {
+            st.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            try (ResultSet rs = st.executeQuery("SELECT avg_leaf_density FROM pgstatindex('" + table + "_pkey')")) {
+                rs.next();
+                double density = rs.getDouble(1);
+                conn.commit();
+                return density;
+            }
+        } catch (SQLException ex) {
+            conn.rollback();
+            return Double.NaN;
+        }
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes, double leafDensity) {
+        String format(String label) {
+            return String.format("%-4s %12.0f %14.1f %16.1f", label, rowsPerSecond, indexBytes / 1024.0 / 1024.0, leafDensity);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.taskflow.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BusinessDayCalendar Tests")
+class BusinessDayCalendarTest {
+
+    // Friday 18 April 2025 and Monday 21 April 2025 are holidays
+    private final BusinessDayCalendar calendar = BusinessDayCalendar.build(
+            "BR", List.of(LocalDate.of(2025, 4, 18), LocalDate.of(2025, 4, 21)), 2024, 2026);
+
+    @Test
+    @DisplayName("Should skip weekends and holidays when counting business days")
+    void shouldSkipWeekendsAndHolidays() {
+        assertEquals(4, calendar.businessDays(LocalDate.of(2025, 4, 14), LocalDate.of(2025, 4, 20)));
+        assertEquals(0, calendar.businessDays(LocalDate.of(2025, 4, 18), LocalDate.of(2025, 4, 21)));
+        assertEquals(1, calendar.businessDays(LocalDate.of(2025, 4, 22), LocalDate.of(2025, 4, 22)));
+        assertEquals(0, calendar.businessDays(LocalDate.of(2025, 4, 22), LocalDate.of(2025, 4, 21)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2025, 4, 18)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2025, 4, 17)));
+    }
+
+    @Test
+    @DisplayName("Should match a day-by-day count for random ranges, inside and outside the precomputed years")
+    void shouldMatchDayByDayCount() {
+        Random random = new Random(41);
+        LocalDate origin = LocalDate.of(2022, 6, 1);
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate start = origin.plusDays(random.nextInt(1_800));
+            LocalDate end = start.plusDays(random.nextInt(120));
+
+            int expected = 0;
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                if (calendar.isWorkingDay(day)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, calendar.businessDays(start, end), start + ".." + end);
+        }
+    }
+
+    @Test
+    @DisplayName("Should split business days by calendar year")
+    void shouldSplitByYear() {
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        expected.put(2024, 2);
+        expected.put(2025, 2);
+
+        assertEquals(expected, calendar.businessDaysPerYear(LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskflow.taskflow.calendar;
+
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayCalendars Tests")
+class HolidayCalendarsTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private HolidayCalendars calendars() throws Exception {
+        return new HolidayCalendars(employeeRepository, new PathMatchingResourcePatternResolver(),
+                "classpath:calendars/", "BR");
+    }
+
+    @Test
+    @DisplayName("Should merge the ICS and CSV files shipped for a location")
+    void shouldMergeShippedFiles() throws Exception {
+        BusinessDayCalendar br = calendars().forLocation("br");
+
+        // Monday 7 September 2026 comes from the yearly ICS events, Good Friday from the CSV
+        assertFalse(br.isWorkingDay(LocalDate.of(2026, 9, 7)));
+        assertFalse(br.isWorkingDay(LocalDate.of(2026, 4, 3)));
+        assertTrue(br.isWorkingDay(LocalDate.of(2026, 4, 6)));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the default calendar for employees without a known location")
+    void shouldFallBackToDefault() throws Exception {
+        HolidayCalendars calendars = calendars();
+        UUID withoutLocation = UUID.randomUUID();
+        UUID unknownLocation = UUID.randomUUID();
+        when(employeeRepository.findLocationById(withoutLocation)).thenReturn(Optional.empty());
+        when(employeeRepository.findLocationById(unknownLocation)).thenReturn(Optional.of("XX"));
+
+        assertEquals("BR", calendars.forEmployee(withoutLocation).location());
+        assertEquals("BR", calendars.forEmployee(unknownLocation).location());
+    }
+
+    @Test
+    @DisplayName("Should expand yearly ICS events and unfold continuation lines")
+    void shouldExpandYearlyIcsEvents() throws Exception {
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20240229",
+                "RRULE:FREQ=YEARLY",
+                "SUMMARY:Leap",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:2025",
+                " 0704",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2028, 2, 29), LocalDate.of(2025, 7, 4)),
+                HolidayCalendarFiles.readIcs(new StringReader(ics), 2028));
+    }
+
+    @Test
+    @DisplayName("Should skip the header, comments and blank lines of a CSV calendar")
+    void shouldReadCsv() throws Exception {
+        String csv = "# comment\ndate,name\n\n2025-12-24, Vespera de Natal\n";
+
+        assertEquals(List.of(LocalDate.of(2025, 12, 24)), HolidayCalendarFiles.readCsv(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,169 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.PendingApproval;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingApprovalCounters Tests")
+class PendingApprovalCountersTest {
+
+    private static final String MANAGER = "manager@example.com";
+    private static final String OTHER_MANAGER = "other@example.com";
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private PendingApprovalCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new PendingApprovalCounters(vacationRepository, employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should count pending vacations per approver from the rebuild")
+    void shouldCountFromRebuild() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        when(vacationRepository.findPendingApprovals()).thenReturn(List.of(
+                new PendingApproval(UUID.randomUUID(), alice, MANAGER),
+                new PendingApproval(UUID.randomUUID(), alice, MANAGER),
+                new PendingApproval(UUID.randomUUID(), bob, OTHER_MANAGER)
+        ));
+
+        counters.rebuild();
+
+        assertEquals(2, counters.count(MANAGER));
+        assertEquals(1, counters.count(OTHER_MANAGER));
+        assertEquals(0, counters.count("nobody@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should count on create, uncount on decide and delete, and ignore repeated events")
+    void shouldFollowEvents() {
+        when(vacationRepository.findPendingApprovals()).thenReturn(List.of());
+        counters.rebuild();
+
+        Employee employee = createDefaultEmployee();
+        when(employeeRepository.findManagerEmailById(employee.getId())).thenReturn(Optional.of(MANAGER));
+        Vacation first = createExistingVacation(futureDate(10), futureDate(12), VacationStatus.PENDING);
+        first.setRequester(employee);
+        Vacation second = createExistingVacation(futureDate(20), futureDate(22), VacationStatus.PENDING);
+        second.setRequester(employee);
+
+        counters.onVacationChanged(VacationChangedEvent.created(first));
+        counters.onVacationChanged(VacationChangedEvent.created(first));
+        counters.onVacationChanged(VacationChangedEvent.created(second));
+        assertEquals(2, counters.count(MANAGER));
+        // the approver is looked up once per employee
+        verify(employeeRepository, times(1)).findManagerEmailById(employee.getId());
+
+        first.setStatus(VacationStatus.APPROVED);
+        counters.onVacationChanged(VacationChangedEvent.decided(first, VacationStatus.PENDING));
+        assertEquals(1, counters.count(MANAGER));
+
+        counters.onVacationChanged(VacationChangedEvent.deleted(second));
+        counters.onVacationChanged(VacationChangedEvent.deleted(second));
+        assertEquals(0, counters.count(MANAGER));
+    }
+
+    @Test
+    @DisplayName("Should move an employee's pending count to the new manager on reassignment")
+    void shouldMoveCountOnReassignment() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        when(vacationRepository.findPendingApprovals()).thenReturn(List.of(
+                new PendingApproval(UUID.randomUUID(), alice, MANAGER),
+                new PendingApproval(UUID.randomUUID(), alice, MANAGER),
+                new PendingApproval(UUID.randomUUID(), bob, MANAGER)
+        ));
+        counters.rebuild();
+        when(employeeRepository.findManagerEmailById(alice)).thenReturn(Optional.of(OTHER_MANAGER));
+
+        counters.onManagerChanged(new EmployeeManagerChangedEvent(alice, UUID.randomUUID(), UUID.randomUUID()));
+
+        assertEquals(1, counters.count(MANAGER));
+        assertEquals(2, counters.count(OTHER_MANAGER));
+    }
+
+    @Test
+    @DisplayName("Should not count requests of employees without a manager")
+    void shouldNotCountWithoutManager() {
+        when(vacationRepository.findPendingApprovals()).thenReturn(List.of());
+        counters.rebuild();
+
+        Employee employee = createDefaultEmployee();
+        when(employeeRepository.findManagerEmailById(employee.getId())).thenReturn(Optional.empty());
+        Vacation vacation = createExistingVacation(futureDate(10), futureDate(12), VacationStatus.PENDING);
+        vacation.setRequester(employee);
+
+        counters.onVacationChanged(VacationChangedEvent.created(vacation));
+
+        assertEquals(0, counters.count(MANAGER));
+    }
+
+    @Test
+    @DisplayName("Should count a request created during a rebuild under its approver")
+    void shouldReplayCreateDuringRebuildUnderApprover() {
+        Employee employee = createDefaultEmployee();
+        Vacation decided = createExistingVacation(futureDate(10), futureDate(12), VacationStatus.PENDING);
+        decided.setRequester(employee);
+        Vacation created = createExistingVacation(futureDate(20), futureDate(22), VacationStatus.PENDING);
+        created.setRequester(employee);
+        when(vacationRepository.findPendingApprovals())
+                .thenReturn(List.of(new PendingApproval(decided.getId(), employee.getId(), MANAGER)))
+                // the create commits while the query runs, so the snapshot misses it and the employee
+                .thenAnswer(invocation -> {
+                    counters.onVacationChanged(VacationChangedEvent.created(created));
+                    return List.of();
+                });
+        counters.rebuild();
+        decided.setStatus(VacationStatus.APPROVED);
+        counters.onVacationChanged(VacationChangedEvent.decided(decided, VacationStatus.PENDING));
+
+        counters.rebuild();
+
+        assertEquals(1, counters.count(MANAGER));
+        assertEquals(0, counters.count(PendingApprovalCounters.NO_APPROVER));
+        verify(employeeRepository, never()).findManagerEmailById(any());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous counters when the rebuild query fails")
+    void shouldKeepCountersWhenRebuildFails() {
+        UUID alice = UUID.randomUUID();
+        when(vacationRepository.findPendingApprovals())
+                .thenReturn(List.of(new PendingApproval(UUID.randomUUID(), alice, MANAGER)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        counters.rebuild();
+
+        assertThrows(IllegalStateException.class, () -> counters.rebuild());
+
+        assertEquals(1, counters.count(MANAGER));
+        verify(employeeRepository, never()).findManagerEmailById(any());
+    }
+}
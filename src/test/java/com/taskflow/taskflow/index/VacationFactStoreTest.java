@@ -0,0 +1,146 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.VacationFact;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.repository.VacationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationFactStore Tests")
+class VacationFactStoreTest {
+
+    private static final LocalDate CREATED = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    private VacationFactStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new VacationFactStore(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should count decisions per manager and status")
+    void shouldGroupByManagerAndStatus() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        when(vacationRepository.findAllFacts()).thenReturn(List.of(
+                fact(alice, Role.EMPLOYEE, VacationStatus.REJECTED, 10),
+                fact(alice, Role.EMPLOYEE, VacationStatus.APPROVED, 10),
+                fact(alice, Role.EMPLOYEE, VacationStatus.REJECTED, 10),
+                fact(bob, Role.EMPLOYEE, VacationStatus.APPROVED, 10),
+                fact(bob, Role.EMPLOYEE, VacationStatus.PENDING, 10)));
+        store.rebuild();
+
+        List<FactGroup> groups = store.query(new FactQuery(List.of(FactDimension.MANAGER, FactDimension.STATUS), null,
+                null, EnumSet.of(VacationStatus.APPROVED, VacationStatus.REJECTED), null, null, null));
+
+        assertEquals(3, groups.size());
+        assertEquals(Map.of(FactDimension.MANAGER, alice.toString(), FactDimension.STATUS, "REJECTED"), groups.get(0).key());
+        assertEquals(2, groups.get(0).count());
+        assertNull(groups.get(0).sum());
+    }
+
+    @Test
+    @DisplayName("Should average and rank lead time per role")
+    void shouldAggregateLeadTimeByRole() {
+        UUID manager = UUID.randomUUID();
+        when(vacationRepository.findAllFacts()).thenReturn(List.of(
+                fact(manager, Role.EMPLOYEE, VacationStatus.APPROVED, 10),
+                fact(manager, Role.EMPLOYEE, VacationStatus.APPROVED, 20),
+                fact(manager, Role.EMPLOYEE, VacationStatus.APPROVED, 60),
+                fact(manager, Role.MANAGER, VacationStatus.PENDING, 5)));
+        store.rebuild();
+
+        List<FactGroup> groups = store.query(new FactQuery(List.of(FactDimension.ROLE), FactMetric.LEAD_TIME_DAYS,
+                List.of(50.0, 100.0), null, null, null, null));
+
+        FactGroup employees = groups.get(0);
+        assertEquals("EMPLOYEE", employees.key().get(FactDimension.ROLE));
+        assertEquals(3, employees.count());
+        assertEquals(90L, employees.sum());
+        assertEquals(30.0, employees.average());
+        assertEquals(Map.of("p50", 20, "p100", 60), employees.percentiles());
+    }
+
+    @Test
+    @DisplayName("Should merge partial groups from every chunk of a parallel scan")
+    void shouldMergeChunks() {
+        UUID manager = UUID.randomUUID();
+        List<VacationFact> facts = new ArrayList<>();
+        for (int i = 0; i < VacationFactStore.CHUNK_ROWS * 3 + 7; i++) {
+            facts.add(fact(manager, Role.EMPLOYEE, VacationStatus.APPROVED, i % 100));
+        }
+        when(vacationRepository.findAllFacts()).thenReturn(facts);
+        store.rebuild();
+
+        List<FactGroup> groups = store.query(new FactQuery(null, FactMetric.LEAD_TIME_DAYS, List.of(50.0), null,
+                null, null, null));
+
+        long expectedSum = facts.stream().mapToLong(f -> f.startDate().toEpochDay() - CREATED.toEpochDay()).sum();
+        assertEquals(1, groups.size());
+        assertEquals(facts.size(), groups.get(0).count());
+        assertEquals(expectedSum, groups.get(0).sum());
+        assertEquals(49, groups.get(0).percentiles().get("p50"));
+    }
+
+    @Test
+    @DisplayName("Should follow creations, decisions and deletions and ignore a stale pending re-read")
+    void shouldFollowEvents() {
+        when(vacationRepository.findAllFacts()).thenReturn(List.of());
+        store.rebuild();
+
+        UUID manager = UUID.randomUUID();
+        VacationFact pending = fact(manager, Role.EMPLOYEE, VacationStatus.PENDING, 10);
+        VacationFact approved = new VacationFact(pending.vacationId(), pending.employeeId(), manager, Role.EMPLOYEE,
+                VacationStatus.APPROVED, CREATED, pending.startDate(), pending.endDate(), CREATED.plusDays(2), manager);
+        when(vacationRepository.findFact(pending.vacationId()))
+                .thenReturn(Optional.of(pending), Optional.of(approved), Optional.of(pending));
+
+        store.onVacationChanged(event(pending, null, VacationStatus.PENDING));
+        store.onVacationChanged(event(pending, VacationStatus.PENDING, VacationStatus.APPROVED));
+        // a late re-read still showing PENDING must not undo the decision
+        store.onVacationChanged(event(pending, null, VacationStatus.PENDING));
+
+        List<FactGroup> decided = store.query(new FactQuery(List.of(FactDimension.DECIDER), FactMetric.DECISION_DAYS,
+                null, null, null, null, null));
+        assertEquals(1, decided.size());
+        assertEquals(manager.toString(), decided.get(0).key().get(FactDimension.DECIDER));
+        assertEquals(2L, decided.get(0).sum());
+
+        store.onVacationChanged(event(pending, VacationStatus.APPROVED, null));
+        assertEquals(0, store.size());
+        assertTrue(store.query(new FactQuery(null, null, null, null, null, null, null)).isEmpty());
+        verify(vacationRepository, times(3)).findFact(pending.vacationId());
+    }
+
+    private static VacationFact fact(UUID managerId, Role role, VacationStatus status, int leadDays) {
+        LocalDate start = CREATED.plusDays(leadDays);
+        return new VacationFact(UUID.randomUUID(), UUID.randomUUID(), managerId, role, status,
+                CREATED, start, start.plusDays(4), null, null);
+    }
+
+    private static VacationChangedEvent event(VacationFact fact, VacationStatus previous, VacationStatus status) {
+        return new VacationChangedEvent(fact.vacationId(), fact.employeeId(), fact.startDate(), fact.endDate(), previous, status);
+    }
+}
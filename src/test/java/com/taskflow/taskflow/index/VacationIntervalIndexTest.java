@@ -0,0 +1,169 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.repository.VacationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationIntervalIndex Tests")
+class VacationIntervalIndexTest {
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VacationIntervalIndex index;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        index = new VacationIntervalIndex(vacationRepository, transactionManager);
+        employee = createDefaultEmployee();
+    }
+
+    @Test
+    @DisplayName("Should load an employee's bookings once and answer later checks from memory")
+    void shouldLoadLazilyOnce() {
+        Vacation booked = vacation(futureDate(10), futureDate(15), VacationStatus.APPROVED);
+        when(vacationRepository.findByRequesterIdAndStatusIn(eq(employee.getId()), any()))
+                .thenReturn(List.of(booked));
+
+        assertTrue(index.overlaps(employee.getId(), futureDate(15), futureDate(20)));
+        assertFalse(index.overlaps(employee.getId(), futureDate(16), futureDate(20)));
+        assertFalse(index.overlaps(employee.getId(), futureDate(1), futureDate(9)));
+
+        verify(vacationRepository, times(1)).findByRequesterIdAndStatusIn(eq(employee.getId()), any());
+    }
+
+    @Test
+    @DisplayName("Should not see other employees' bookings")
+    void shouldScopeToEmployee() {
+        Employee other = createDefaultEmployee();
+        when(vacationRepository.findByRequesterIdAndStatusIn(eq(other.getId()), any())).thenReturn(List.of());
+
+        assertFalse(index.overlaps(other.getId(), futureDate(10), futureDate(15)));
+    }
+
+    @Test
+    @DisplayName("Should apply create, reject and delete events to a loaded tree")
+    void shouldStayInSyncWithEvents() {
+        when(vacationRepository.findByRequesterIdAndStatusIn(eq(employee.getId()), any())).thenReturn(List.of());
+        assertFalse(index.overlaps(employee.getId(), futureDate(10), futureDate(15)));
+
+        Vacation created = vacation(futureDate(10), futureDate(15), VacationStatus.PENDING);
+        index.onVacationChanged(VacationChangedEvent.created(created));
+        assertTrue(index.overlaps(employee.getId(), futureDate(12), futureDate(13)));
+
+        created.setStatus(VacationStatus.REJECTED);
+        index.onVacationChanged(VacationChangedEvent.decided(created, VacationStatus.PENDING));
+        assertFalse(index.overlaps(employee.getId(), futureDate(12), futureDate(13)));
+
+        Vacation approved = vacation(futureDate(20), futureDate(25), VacationStatus.APPROVED);
+        index.onVacationChanged(VacationChangedEvent.created(approved));
+        index.onVacationChanged(VacationChangedEvent.deleted(approved));
+        assertFalse(index.overlaps(employee.getId(), futureDate(20), futureDate(25)));
+
+        verify(vacationRepository, times(1)).findByRequesterIdAndStatusIn(eq(employee.getId()), any());
+    }
+
+    @Test
+    @DisplayName("Should free the dates of a deleted pending vacation")
+    void shouldUnblockDeletedVacation() {
+        Vacation pending = vacation(futureDate(10), futureDate(15), VacationStatus.PENDING);
+        when(vacationRepository.findByRequesterIdAndStatusIn(eq(employee.getId()), any())).thenReturn(List.of(pending));
+        assertTrue(index.overlaps(employee.getId(), futureDate(12), futureDate(13)));
+
+        index.onVacationChanged(VacationChangedEvent.deleted(pending));
+
+        assertFalse(index.overlaps(employee.getId(), futureDate(10), futureDate(15)));
+        assertTrue(VacationIntervalIndex.BLOCKING_STATUSES.contains(VacationStatus.PENDING));
+        assertFalse(VacationIntervalIndex.BLOCKING_STATUSES.contains(null));
+    }
+
+    @Test
+    @DisplayName("Should ignore events for employees that were never loaded")
+    void shouldIgnoreEventsForUnloadedEmployees() {
+        index.onVacationChanged(VacationChangedEvent.created(vacation(futureDate(10), futureDate(15), VacationStatus.PENDING)));
+
+        verifyNoInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should clip booked days to the requested range")
+    void shouldClipOccupiedDaysToRange() {
+        when(vacationRepository.findByRequesterIdAndStatusIn(eq(employee.getId()), any())).thenReturn(List.of(
+                vacation(futureDate(1), futureDate(40), VacationStatus.APPROVED),
+                vacation(futureDate(5), futureDate(6), VacationStatus.PENDING),
+                vacation(futureDate(50), futureDate(55), VacationStatus.PENDING)
+        ));
+
+        BitSet days = index.occupiedDays(employee.getId(), futureDate(30), futureDate(55));
+
+        assertEquals(11 + 6, days.cardinality());
+        assertTrue(days.get(0));
+        assertTrue(days.get(10));
+        assertFalse(days.get(11));
+        assertTrue(days.get(20));
+        assertTrue(days.get(25));
+        assertTrue(index.overlaps(employee.getId(), futureDate(20), futureDate(21)));
+    }
+
+    @Test
+    @DisplayName("Interval tree should agree with a linear scan under random updates")
+    void intervalTreeShouldMatchLinearScan() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<IntervalTree.Interval> reference = new ArrayList<>();
+
+        for (int op = 0; op < 5_000; op++) {
+            int kind = random.nextInt(10);
+            if (kind < 5) {
+                int start = random.nextInt(1_000);
+                UUID id = UUID.randomUUID();
+                IntervalTree.Interval interval = new IntervalTree.Interval(id, start, start + random.nextInt(30));
+                tree.put(id, interval.start(), interval.end());
+                reference.add(interval);
+            } else if (kind < 7 && !reference.isEmpty()) {
+                IntervalTree.Interval removed = reference.remove(random.nextInt(reference.size()));
+                assertTrue(tree.remove(removed.id()));
+            } else {
+                int start = random.nextInt(1_050);
+                int end = start + random.nextInt(40);
+                long expected = reference.stream().filter(i -> i.start() <= end && i.end() >= start).count();
+                assertEquals(expected > 0, tree.overlaps(start, end));
+                assertEquals(expected, tree.findOverlapping(start, end).size());
+            }
+            assertEquals(reference.size(), tree.size());
+        }
+    }
+
+    private Vacation vacation(LocalDate start, LocalDate end, VacationStatus status) {
+        Vacation v = createExistingVacation(start, end, status);
+        v.setRequester(employee);
+        return v;
+    }
+}
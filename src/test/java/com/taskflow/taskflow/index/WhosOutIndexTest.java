@@ -0,0 +1,92 @@
+package com.taskflow.taskflow.index;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.repository.VacationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WhosOutIndex Tests")
+class WhosOutIndexTest {
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    private WhosOutIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WhosOutIndex(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should answer range queries from the rebuilt snapshot per status")
+    void shouldAnswerFromSnapshot() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        when(vacationRepository.findSpansByStatusIn(any())).thenReturn(List.of(
+                new VacationSpan(alice, futureDate(10), futureDate(15), VacationStatus.APPROVED),
+                new VacationSpan(bob, futureDate(14), futureDate(20), VacationStatus.PENDING)
+        ));
+
+        index.rebuild();
+
+        assertEquals(List.of(alice), index.findOut(futureDate(15), futureDate(15), VacationStatus.APPROVED));
+        assertEquals(List.of(bob), index.findOut(futureDate(15), futureDate(15), VacationStatus.PENDING));
+        assertTrue(index.findOut(futureDate(16), futureDate(30), VacationStatus.APPROVED).isEmpty());
+        assertTrue(index.findOut(futureDate(1), futureDate(9), VacationStatus.PENDING).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should move days between statuses on decide and clear them on delete")
+    void shouldFollowEvents() {
+        when(vacationRepository.findSpansByStatusIn(any())).thenReturn(List.of());
+        index.rebuild();
+
+        Employee employee = createDefaultEmployee();
+        Vacation v = createExistingVacation(futureDate(10), futureDate(12), VacationStatus.PENDING);
+        v.setRequester(employee);
+
+        index.onVacationChanged(VacationChangedEvent.created(v));
+        assertEquals(List.of(employee.getId()), index.findOut(futureDate(11), futureDate(11), VacationStatus.PENDING));
+
+        v.setStatus(VacationStatus.APPROVED);
+        index.onVacationChanged(VacationChangedEvent.decided(v, VacationStatus.PENDING));
+        assertTrue(index.findOut(futureDate(10), futureDate(12), VacationStatus.PENDING).isEmpty());
+        assertEquals(List.of(employee.getId()), index.findOut(futureDate(10), futureDate(12), VacationStatus.APPROVED));
+
+        index.onVacationChanged(VacationChangedEvent.deleted(v));
+        assertTrue(index.findOut(futureDate(10), futureDate(12), VacationStatus.APPROVED).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous snapshot when the rebuild query fails")
+    void shouldKeepSnapshotWhenRebuildFails() {
+        UUID alice = UUID.randomUUID();
+        when(vacationRepository.findSpansByStatusIn(any()))
+                .thenReturn(List.of(new VacationSpan(alice, futureDate(10), futureDate(15), VacationStatus.APPROVED)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        index.rebuild();
+        assertThrows(IllegalStateException.class, () -> index.rebuild());
+
+        assertEquals(List.of(alice), index.findOut(futureDate(10), futureDate(10), VacationStatus.APPROVED));
+    }
+}
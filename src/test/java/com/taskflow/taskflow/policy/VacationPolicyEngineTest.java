@@ -0,0 +1,225 @@
+package com.taskflow.taskflow.policy;
+
+import com.taskflow.taskflow.data.PolicyType;
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.event.VacationPoliciesChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.VacationPolicy;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationPolicyRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.service.EmployeeMutationLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.EmployeeTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationPolicyEngine Tests")
+class VacationPolicyEngineTest {
+
+    @Mock
+    private VacationPolicyRepository vacationPolicyRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private EmployeeMutationLock employeeMutationLock;
+
+    private VacationPolicyEngine engine;
+
+    private Employee requester;
+
+    @BeforeEach
+    void setUp() {
+        engine = new VacationPolicyEngine(vacationPolicyRepository, employeeRepository, vacationRepository, employeeMutationLock, 1);
+        requester = createEmployee("Ana", "Souza", "ana@example.com", Role.EMPLOYEE);
+        requester.setManager(createManager("Bia", "Lima", "bia@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should reject requests touching a blackout period and accept adjacent ones")
+    void shouldApplyBlackout() {
+        VacationPolicy freeze = policy("Year-end freeze", PolicyType.BLACKOUT);
+        freeze.setPeriodStart(LocalDate.of(2030, 12, 20));
+        freeze.setPeriodEnd(LocalDate.of(2031, 1, 5));
+        load(freeze);
+
+        assertRejected(LocalDate.of(2030, 12, 10), LocalDate.of(2030, 12, 20), "Year-end freeze");
+        assertRejected(LocalDate.of(2031, 1, 5), LocalDate.of(2031, 1, 9), "Year-end freeze");
+        engine.validate(requester, LocalDate.of(2030, 12, 10), LocalDate.of(2030, 12, 19));
+        engine.validate(requester, LocalDate.of(2031, 1, 6), LocalDate.of(2031, 1, 9));
+        verifyNoInteractions(employeeRepository, vacationRepository, employeeMutationLock);
+    }
+
+    @Test
+    @DisplayName("Should block the last days of every fiscal quarter")
+    void shouldApplyQuarterEndBlackout() {
+        VacationPolicy closing = policy("Quarter close", PolicyType.QUARTER_END_BLACKOUT);
+        closing.setDays(14);
+        load(closing);
+
+        assertRejected(LocalDate.of(2030, 12, 18), LocalDate.of(2030, 12, 22), "quarter ending 2030-12-31");
+        assertRejected(LocalDate.of(2030, 11, 20), LocalDate.of(2030, 12, 18), "quarter ending 2030-12-31");
+        assertRejected(LocalDate.of(2031, 3, 30), LocalDate.of(2031, 4, 3), "quarter ending 2031-03-31");
+        engine.validate(requester, LocalDate.of(2030, 12, 1), LocalDate.of(2030, 12, 17));
+        engine.validate(requester, LocalDate.of(2031, 1, 1), LocalDate.of(2031, 1, 10));
+    }
+
+    @Test
+    @DisplayName("Should count quarters from the configured fiscal year start")
+    void shouldFollowFiscalYearStart() {
+        engine = new VacationPolicyEngine(vacationPolicyRepository, employeeRepository, vacationRepository, employeeMutationLock, 4);
+        VacationPolicy closing = policy("Quarter close", PolicyType.QUARTER_END_BLACKOUT);
+        closing.setDays(7);
+        load(closing);
+
+        // quarters end in June, September, December and March
+        assertRejected(LocalDate.of(2030, 6, 25), LocalDate.of(2030, 6, 26), "quarter ending 2030-06-30");
+        engine.validate(requester, LocalDate.of(2030, 5, 25), LocalDate.of(2030, 5, 31));
+    }
+
+    @Test
+    @DisplayName("Should require notice only for vacations of the configured length")
+    void shouldApplyLeadTime() {
+        VacationPolicy notice = policy("Long vacation notice", PolicyType.LEAD_TIME);
+        notice.setDays(30);
+        notice.setMinVacationDays(5);
+        load(notice);
+
+        LocalDate soon = LocalDate.now().plusDays(10);
+        engine.validate(requester, soon, soon.plusDays(3));
+        assertRejected(soon, soon.plusDays(4), "at least 30 days ahead");
+        engine.validate(requester, LocalDate.now().plusDays(30), LocalDate.now().plusDays(40));
+    }
+
+    @Test
+    @DisplayName("Should cap the share of the team out on the same day")
+    void shouldApplyTeamLimit() {
+        VacationPolicy cap = policy("Half the team", PolicyType.MAX_CONCURRENT_PERCENT);
+        cap.setMaxPercent(50);
+        load(cap);
+        List<UUID> team = List.of(requester.getId(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(employeeRepository.findIdsByManagerId(requester.getManager().getId())).thenReturn(team);
+        LocalDate start = LocalDate.of(2030, 7, 1);
+        LocalDate end = LocalDate.of(2030, 7, 10);
+
+        when(vacationRepository.maxOutOnAnyDay(team, start, end)).thenReturn(1);
+        engine.validate(requester, start, end);
+
+        when(vacationRepository.maxOutOnAnyDay(team, start, end)).thenReturn(2);
+        assertRejected(start, end, "at most 2 of 4 team members");
+    }
+
+    @Test
+    @DisplayName("Should lock the team before reading its members and occupancy")
+    void shouldLockTeamBeforeCounting() {
+        VacationPolicy cap = policy("Half the team", PolicyType.MAX_CONCURRENT_PERCENT);
+        cap.setMaxPercent(50);
+        load(cap);
+        UUID managerId = requester.getManager().getId();
+        List<UUID> team = List.of(requester.getId(), UUID.randomUUID());
+        when(employeeRepository.findIdsByManagerId(managerId)).thenReturn(team);
+        LocalDate start = LocalDate.of(2030, 7, 1);
+        LocalDate end = LocalDate.of(2030, 7, 10);
+        when(vacationRepository.maxOutOnAnyDay(team, start, end)).thenReturn(0);
+
+        engine.validate(requester, start, end);
+
+        InOrder inOrder = inOrder(employeeMutationLock, employeeRepository, vacationRepository);
+        inOrder.verify(employeeMutationLock).lockTeamForTransaction(managerId);
+        inOrder.verify(employeeRepository).findIdsByManagerId(managerId);
+        inOrder.verify(vacationRepository).maxOutOnAnyDay(team, start, end);
+    }
+
+    @Test
+    @DisplayName("Should skip the team limit for employees without a manager")
+    void shouldSkipTeamLimitWithoutManager() {
+        VacationPolicy cap = policy("Half the team", PolicyType.MAX_CONCURRENT_PERCENT);
+        cap.setMaxPercent(50);
+        load(cap);
+        requester.setManager(null);
+
+        engine.validate(requester, LocalDate.of(2030, 7, 1), LocalDate.of(2030, 7, 10));
+
+        verifyNoInteractions(employeeRepository, vacationRepository, employeeMutationLock);
+    }
+
+    @Test
+    @DisplayName("Should swap in the recompiled rules after a policy change")
+    void shouldHotSwapOnChange() {
+        VacationPolicy freeze = policy("Year-end freeze", PolicyType.BLACKOUT);
+        freeze.setPeriodStart(LocalDate.of(2030, 12, 20));
+        freeze.setPeriodEnd(LocalDate.of(2031, 1, 5));
+        load(freeze);
+        assertRejected(LocalDate.of(2030, 12, 22), LocalDate.of(2030, 12, 23), "Year-end freeze");
+
+        when(vacationPolicyRepository.findByEnabledTrue()).thenReturn(List.of());
+        engine.onPoliciesChanged(new VacationPoliciesChangedEvent());
+
+        engine.validate(requester, LocalDate.of(2030, 12, 22), LocalDate.of(2030, 12, 23));
+    }
+
+    @Test
+    @DisplayName("Should leave out an invalid row and keep the other policies")
+    void shouldSkipInvalidRows() {
+        VacationPolicy broken = policy("Broken", PolicyType.BLACKOUT);
+        VacationPolicy freeze = policy("Year-end freeze", PolicyType.BLACKOUT);
+        freeze.setPeriodStart(LocalDate.of(2030, 12, 20));
+        freeze.setPeriodEnd(LocalDate.of(2031, 1, 5));
+        load(broken, freeze);
+
+        assertRejected(LocalDate.of(2030, 12, 22), LocalDate.of(2030, 12, 23), "Year-end freeze");
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when verifying a policy that cannot compile")
+    void shouldRejectInvalidPolicy() {
+        VacationPolicy cap = policy("Everyone", PolicyType.MAX_CONCURRENT_PERCENT);
+        cap.setMaxPercent(150);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> engine.verify(cap));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(vacationPolicyRepository, never()).findByEnabledTrue();
+    }
+
+    private void load(VacationPolicy... policies) {
+        when(vacationPolicyRepository.findByEnabledTrue()).thenReturn(List.of(policies));
+        engine.reload();
+    }
+
+    private void assertRejected(LocalDate start, LocalDate end, String expected) {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> engine.validate(requester, start, end)
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertTrue(exception.getReason().contains(expected), exception.getReason());
+    }
+
+    private static VacationPolicy policy(String name, PolicyType type) {
+        VacationPolicy policy = new VacationPolicy();
+        policy.setId(UUID.randomUUID());
+        policy.setName(name);
+        policy.setType(type);
+        return policy;
+    }
+}
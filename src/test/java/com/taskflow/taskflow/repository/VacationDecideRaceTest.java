@@ -0,0 +1,201 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.service.VacationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Races {@link VacationService#decide} from many threads against a real PostgreSQL row, round
+ * after round, through the application's own beans: the compare-and-set in
+ * {@link VacationRepository#decideIfPending}, its {@code RETURNING *} mapping onto a
+ * {@link Vacation}, and the 400/404 mapping of the losers. Exactly one decision must win each
+ * round, every other one must get 400, and the stored row must be the winner's. Starts the
+ * application against the given database; use a throwaway one, as deciding books balance and
+ * rollup rows (they are removed again afterwards):
+ *
+ * <pre>
+ * DECIDE_DB_URL=jdbc:postgresql://localhost:5432/taskflow DECIDE_DB_USER=taskflow \
+ * DECIDE_DB_PASSWORD=... ./gradlew test --tests '*VacationDecideRaceTest'
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "DECIDE_DB_URL", matches = ".+")
+@SpringBootTest
+@DisplayName("Vacation decide race")
+class VacationDecideRaceTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private VacationRepository vacationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Employee manager;
+    private Employee requester;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("DECIDE_DB_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv("DECIDE_DB_USER"));
+        registry.add("spring.datasource.password", () -> System.getenv("DECIDE_DB_PASSWORD"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        manager = employeeRepository.save(employee("Race", "Manager", Role.MANAGER, null));
+        requester = employeeRepository.save(employee("Race", "Requester", Role.EMPLOYEE, manager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM vacation_ledger WHERE employee_id = ?", requester.getId());
+        jdbcTemplate.update("DELETE FROM vacation_balances WHERE employee_id = ?", requester.getId());
+        jdbcTemplate.update("DELETE FROM vacation_monthly_rollups WHERE manager_id = ?", manager.getId());
+        jdbcTemplate.update("DELETE FROM vacations WHERE employee_id = ?", requester.getId());
+        jdbcTemplate.update("DELETE FROM employees WHERE id IN (?, ?)", requester.getId(), manager.getId());
+    }
+
+    @Test
+    void exactlyOneConcurrentDecisionWins() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                UUID vacationId = vacationRepository.save(pending(round)).getId();
+
+                List<Outcome> outcomes = race(pool, i -> vacationService.decide(vacationId, i % 2 == 0, "round " + i));
+
+                List<Vacation> winners = outcomes.stream().map(Outcome::decided).filter(v -> v != null).toList();
+                assertEquals(1, winners.size(), "round " + round);
+                Vacation winner = winners.get(0);
+                assertEquals(vacationId, winner.getId());
+                assertEquals(requester.getId(), winner.getRequester().getId());
+                assertEquals(manager.getId(), winner.getDecidedBy());
+                for (Outcome outcome : outcomes) {
+                    if (outcome.decided() == null) {
+                        assertEquals(HttpStatus.BAD_REQUEST, outcome.rejected().getStatusCode(), "round " + round);
+                    }
+                }
+
+                Vacation stored = vacationRepository.findById(vacationId).orElseThrow();
+                assertEquals(winner.getStatus(), stored.getStatus());
+                assertNotEquals(VacationStatus.PENDING, stored.getStatus());
+                assertEquals(winner.getApprovalComment(), stored.getApprovalComment());
+                assertEquals(winner.getRejectionReason(), stored.getRejectionReason());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentDecisionsOfAMissingVacationAllGetNotFound() throws Exception {
+        UUID missing = UUID.randomUUID();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Outcome> outcomes = race(pool, i -> vacationService.decide(missing, true, null));
+
+            for (Outcome outcome : outcomes) {
+                assertNull(outcome.decided());
+                assertEquals(HttpStatus.NOT_FOUND, outcome.rejected().getStatusCode());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // every thread is authenticated as the manager and released at once
+    private List<Outcome> race(ExecutorService pool, Decision decision) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int attempt = i;
+            Callable<Outcome> task = () -> {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        manager.getId().toString(), null, List.of(new SimpleGrantedAuthority("ROLE_MANAGER"))));
+                try {
+                    start.await();
+                    return new Outcome(decision.run(attempt), null);
+                } catch (ResponseStatusException ex) {
+                    return new Outcome(null, ex);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            };
+            futures.add(pool.submit(task));
+        }
+        start.countDown();
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> future : futures) {
+            outcomes.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return outcomes;
+    }
+
+    // rounds use consecutive weeks far in the future, so they never overlap each other or real data
+    private Vacation pending(int round) {
+        LocalDate start = LocalDate.of(2090, 1, 2).plusWeeks(round);
+        Vacation v = new Vacation();
+        v.setRequester(requester);
+        v.setStartDate(start);
+        v.setEndDate(start.plusDays(2));
+        v.setStatus(VacationStatus.PENDING);
+        return v;
+    }
+
+    private static Employee employee(String firstName, String lastName, Role role, Employee manager) {
+        Employee e = new Employee();
+        e.setFirstName(firstName);
+        e.setLastName(lastName);
+        e.setEmail("race-" + UUID.randomUUID() + "@example.com");
+        e.setRole(role);
+        e.setManager(manager);
+        return e;
+    }
+
+    @FunctionalInterface
+    private interface Decision {
+        Vacation run(int attempt);
+    }
+
+    private record Outcome(Vacation decided, ResponseStatusException rejected) {
+    }
+}
@@ -0,0 +1,291 @@
+package com.taskflow.taskflow.repository;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.VacationFilter;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.service.VacationService;
+import com.taskflow.taskflow.util.VacationCursor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs {@link VacationService#search} for every filter combination, with and without a cursor,
+ * captures the SQL Hibernate actually sends, and EXPLAINs it as a generic plan (any parameter
+ * values). Each combination must reach the vacations table through an index that serves one of
+ * its filters as an Index Cond: decidedBy, requester and status each have their own index, and a
+ * plan that walks the (start_date, id) index only for the ORDER BY and filters afterwards fails.
+ * Sequential scans are disabled so the answer does not depend on table size.
+ * <p>
+ * Starts the application against the given database, so Hibernate's indexes and schema.sql are
+ * applied first. Needs PostgreSQL 16 or later for {@code EXPLAIN (GENERIC_PLAN)}:
+ *
+ * <pre>
+ * EXPLAIN_DB_URL=jdbc:postgresql://localhost:5432/taskflow EXPLAIN_DB_USER=taskflow \
+ * EXPLAIN_DB_PASSWORD=... ./gradlew test --tests '*VacationSearchPlanTest'
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_DB_URL", matches = ".+")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.taskflow.taskflow.repository.VacationSearchPlanTest$CapturingInspector")
+@DisplayName("Vacation search query plans")
+class VacationSearchPlanTest {
+
+    private static final int STATUS = 1;
+    private static final int RANGE = 1 << 1;
+    private static final int REQUESTER = 1 << 2;
+    private static final int DECIDED_BY = 1 << 3;
+    private static final int PENDING_FOR_ME = 1 << 4;
+
+    @Autowired
+    private VacationService vacationService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private CurrentUserService currentUserService;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("EXPLAIN_DB_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv("EXPLAIN_DB_USER"));
+        registry.add("spring.datasource.password", () -> System.getenv("EXPLAIN_DB_PASSWORD"));
+    }
+
+    @Test
+    void everyFilterCombinationFiltersThroughAnIndex() throws SQLException {
+        // an admin sees every row, so the only predicates are the filters under test
+        Employee admin = new Employee();
+        admin.setId(UUID.randomUUID());
+        admin.setRole(Role.ADMIN);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(admin));
+
+        List<String> failures = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             Statement st = conn.createStatement()) {
+            st.execute("SET enable_seqscan = off");
+
+            for (int filters = 0; filters < 1 << 5; filters++) {
+                for (boolean withCursor : new boolean[]{false, true}) {
+                    String sql = capturedSearchSql(filters, withCursor);
+                    String plan = explain(st, sql);
+                    String problem = check(filters, withCursor, plan);
+                    if (problem != null) {
+                        failures.add(describe(filters, withCursor) + ": " + problem + "\n" + sql + "\n" + plan);
+                    }
+                }
+            }
+        }
+
+        assertTrue(failures.isEmpty(), "Searches not served by an index:\n\n" + String.join("\n\n", failures));
+    }
+
+    private String capturedSearchSql(int filters, boolean withCursor) {
+        boolean pendingForMe = (filters & PENDING_FOR_ME) != 0;
+        VacationFilter filter = new VacationFilter();
+        if ((filters & STATUS) != 0) {
+            // pending-for-me already pins PENDING; any other status would make the search empty
+            filter.setStatus(pendingForMe ? VacationStatus.PENDING : VacationStatus.APPROVED);
+        }
+        if ((filters & RANGE) != 0) {
+            filter.setFrom(LocalDate.of(2025, 1, 1));
+            filter.setTo(LocalDate.of(2025, 1, 31));
+        }
+        if ((filters & REQUESTER) != 0) {
+            filter.setRequesterId(UUID.randomUUID());
+        }
+        if ((filters & DECIDED_BY) != 0) {
+            filter.setDecidedBy(UUID.randomUUID());
+        }
+        filter.setPendingForMe(pendingForMe);
+        String cursor = null;
+        if (withCursor) {
+            Vacation last = new Vacation();
+            last.setId(UUID.randomUUID());
+            last.setStartDate(LocalDate.of(2025, 1, 10));
+            cursor = VacationCursor.after(last).encode();
+        }
+
+        CapturingInspector.start();
+        List<String> captured;
+        try {
+            vacationService.search(filter, cursor, 20);
+        } finally {
+            captured = CapturingInspector.stop();
+        }
+        List<String> searches = captured.stream()
+                .filter(sql -> sql.toLowerCase().contains("from vacations"))
+                .toList();
+        assertEquals(1, searches.size(), "expected one search statement, got " + searches);
+        return searches.get(0);
+    }
+
+    /**
+     * Null when the plan filters through the index of one of the filters present; the planner may
+     * pick any of them. Only without a selective filter does the (start_date, id) index qualify,
+     * and only without any filter may it be used for ordering alone.
+     */
+    private static String check(int filters, boolean withCursor, String plan) {
+        if (plan.contains("Seq Scan on vacations")) {
+            return "sequential scan";
+        }
+        List<IndexUse> uses = indexUses(plan);
+
+        List<Expected> expected = new ArrayList<>();
+        if ((filters & DECIDED_BY) != 0) {
+            expected.add(new Expected("idx_vacations_decided_by_start_id", "decided_by"));
+        }
+        if ((filters & REQUESTER) != 0) {
+            expected.add(new Expected("idx_vacations_employee_start", "employee_id"));
+            expected.add(new Expected("idx_vacations_employee_status", "employee_id"));
+        }
+        if ((filters & (STATUS | PENDING_FOR_ME)) != 0) {
+            expected.add(new Expected("idx_vacations_status_start_id", "status"));
+            // partial index: its WHERE clause already is the status condition
+            expected.add(new Expected("idx_vacations_pending_start_id", null));
+        }
+        if (expected.isEmpty() && ((filters & RANGE) != 0 || withCursor)) {
+            expected.add(new Expected("idx_vacations_start_id", "start_date"));
+        }
+        if (expected.isEmpty()) {
+            // no filter at all: walking the keyset index in order is the best plan there is
+            expected.add(new Expected("idx_vacations_start_id", null));
+        }
+
+        for (IndexUse use : uses) {
+            for (Expected e : expected) {
+                if (use.index().equals(e.index()) && (e.column() == null || use.condition().contains(e.column()))) {
+                    return null;
+                }
+            }
+        }
+        return "expected one of " + expected + " as an index condition, plan used " + uses;
+    }
+
+    // every index node of the plan with its Index Cond (empty when the index only provides order)
+    private static List<IndexUse> indexUses(String plan) {
+        List<IndexUse> uses = new ArrayList<>();
+        String[] lines = plan.split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            String index = indexName(lines[i]);
+            if (index == null) {
+                continue;
+            }
+            StringBuilder condition = new StringBuilder();
+            for (int j = i + 1; j < lines.length && !lines[j].contains("->"); j++) {
+                if (lines[j].contains("Index Cond:")) {
+                    condition.append(lines[j].trim());
+                }
+            }
+            uses.add(new IndexUse(index, condition.toString()));
+        }
+        return uses;
+    }
+
+    private static String indexName(String line) {
+        for (String marker : new String[]{"Index Scan using ", "Index Only Scan using ", "Bitmap Index Scan on "}) {
+            int at = line.indexOf(marker);
+            if (at >= 0) {
+                String rest = line.substring(at + marker.length());
+                int end = rest.indexOf(' ');
+                return end < 0 ? rest : rest.substring(0, end);
+            }
+        }
+        return null;
+    }
+
+    // generic plan: placeholders become $n, so the plan must hold for every parameter value
+    private static String explain(Statement st, String sql) throws SQLException {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet rs = st.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static String describe(int filters, boolean withCursor) {
+        String[] flags = {"status", "range", "requester", "decidedBy", "pendingForMe"};
+        List<String> names = new ArrayList<>();
+        for (int bit = 0; bit < flags.length; bit++) {
+            if ((filters & 1 << bit) != 0) {
+                names.add(flags[bit]);
+            }
+        }
+        if (withCursor) {
+            names.add("cursor");
+        }
+        return names.isEmpty() ? "no filters" : String.join(" + ", names);
+    }
+
+    private record Expected(String index, String column) {
+    }
+
+    private record IndexUse(String index, String condition) {
+    }
+
+    /**
+     * Records the SQL of the current thread while capturing; installed through
+     * {@code hibernate.session_factory.statement_inspector}, which instantiates it by class name.
+     */
+    public static final class CapturingInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        public CapturingInspector() {
+        }
+
+        static void start() {
+            CAPTURED.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> sql = CAPTURED.get();
+            CAPTURED.remove();
+            return sql == null ? List.of() : sql;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> sink = CAPTURED.get();
+            if (sink != null) {
+                sink.add(sql);
+            }
+            return sql;
+        }
+    }
+}
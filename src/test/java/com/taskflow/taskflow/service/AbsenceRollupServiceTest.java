@@ -0,0 +1,235 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.calendar.BusinessDayCalendar;
+import com.taskflow.taskflow.calendar.HolidayCalendars;
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.AbsenceReportResponse;
+import com.taskflow.taskflow.dto.RollupRebuildResponse;
+import com.taskflow.taskflow.dto.RollupSpan;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.VacationMonthlyRollup;
+import com.taskflow.taskflow.repository.ArchivedVacationRepository;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.repository.VacationRollupRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.createDefaultEmployee;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AbsenceRollupService Tests")
+class AbsenceRollupServiceTest {
+
+    // no holidays in 2031 for these tests; 28 February 2031 is a Friday
+    private static final BusinessDayCalendar CALENDAR = BusinessDayCalendar.build("TEST", List.of(), 2030, 2031);
+
+    @Mock
+    private VacationRollupRepository rollupRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private ArchivedVacationRepository archivedVacationRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private HolidayCalendars holidayCalendars;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private AbsenceRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new AbsenceRollupService(rollupRepository, vacationRepository, archivedVacationRepository, employeeRepository,
+                holidayCalendars, currentUserService);
+    }
+
+    @Test
+    @DisplayName("Should move business days from pending to approved in every month the vacation touches")
+    void shouldMoveDaysBetweenStatusesPerMonth() {
+        UUID employeeId = UUID.randomUUID();
+        UUID managerId = UUID.randomUUID();
+        when(employeeRepository.findManagerIdById(employeeId)).thenReturn(Optional.of(managerId));
+        when(holidayCalendars.forEmployee(employeeId)).thenReturn(CALENDAR);
+
+        rollupService.onVacationChanged(new VacationChangedEvent(UUID.randomUUID(), employeeId,
+                LocalDate.of(2031, 2, 27), LocalDate.of(2031, 3, 4), VacationStatus.PENDING, VacationStatus.APPROVED));
+
+        LocalDate february = LocalDate.of(2031, 2, 1);
+        LocalDate march = LocalDate.of(2031, 3, 1);
+        verify(rollupRepository).applyDelta(february, managerId, "PENDING", -2);
+        verify(rollupRepository).applyDelta(february, managerId, "APPROVED", 2);
+        verify(rollupRepository).applyDelta(march, managerId, "PENDING", -2);
+        verify(rollupRepository).applyDelta(march, managerId, "APPROVED", 2);
+        verifyNoMoreInteractions(rollupRepository);
+        verifyNoInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted vacation and file employees without a manager under the placeholder")
+    void shouldRemoveDeletedVacation() {
+        UUID employeeId = UUID.randomUUID();
+        when(employeeRepository.findManagerIdById(employeeId)).thenReturn(Optional.empty());
+        when(holidayCalendars.forEmployee(employeeId)).thenReturn(CALENDAR);
+
+        rollupService.onVacationChanged(new VacationChangedEvent(UUID.randomUUID(), employeeId,
+                LocalDate.of(2031, 3, 3), LocalDate.of(2031, 3, 9), VacationStatus.APPROVED, null));
+
+        verify(rollupRepository).applyDelta(LocalDate.of(2031, 3, 1), AbsenceRollupService.NO_MANAGER, "APPROVED", -5);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should move an employee's days to the new manager so a later decision reverses them there")
+    void shouldMoveDaysOnReassignment() {
+        UUID employeeId = UUID.randomUUID();
+        UUID oldManager = UUID.randomUUID();
+        UUID newManager = UUID.randomUUID();
+        when(holidayCalendars.forEmployee(employeeId)).thenReturn(CALENDAR);
+        when(vacationRepository.findRollupSpansByEmployee(employeeId)).thenReturn(List.of(
+                new RollupSpan(newManager, "TEST", LocalDate.of(2031, 2, 27), LocalDate.of(2031, 3, 4), VacationStatus.PENDING),
+                new RollupSpan(newManager, "TEST", LocalDate.of(2031, 3, 10), LocalDate.of(2031, 3, 11), VacationStatus.PENDING)
+        ));
+
+        rollupService.onManagerChanged(new EmployeeManagerChangedEvent(employeeId, oldManager, newManager));
+
+        LocalDate february = LocalDate.of(2031, 2, 1);
+        LocalDate march = LocalDate.of(2031, 3, 1);
+        verify(rollupRepository).applyDelta(february, oldManager, "PENDING", -2);
+        verify(rollupRepository).applyDelta(february, newManager, "PENDING", 2);
+        verify(rollupRepository).applyDelta(march, oldManager, "PENDING", -4);
+        verify(rollupRepository).applyDelta(march, newManager, "PENDING", 4);
+        verifyNoMoreInteractions(rollupRepository);
+
+        // the decision now finds the days under the manager it reverses against
+        when(employeeRepository.findManagerIdById(employeeId)).thenReturn(Optional.of(newManager));
+        rollupService.onVacationChanged(new VacationChangedEvent(UUID.randomUUID(), employeeId,
+                LocalDate.of(2031, 3, 10), LocalDate.of(2031, 3, 11), VacationStatus.PENDING, VacationStatus.APPROVED));
+        verify(rollupRepository).applyDelta(march, newManager, "PENDING", -2);
+        verify(rollupRepository, never()).applyDelta(any(), eq(oldManager), eq("APPROVED"), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should file the days of an employee who loses their manager under the placeholder")
+    void shouldMoveDaysToPlaceholderWhenManagerCleared() {
+        UUID employeeId = UUID.randomUUID();
+        UUID oldManager = UUID.randomUUID();
+        when(holidayCalendars.forEmployee(employeeId)).thenReturn(CALENDAR);
+        when(vacationRepository.findRollupSpansByEmployee(employeeId)).thenReturn(List.of(
+                new RollupSpan(null, "TEST", LocalDate.of(2031, 3, 3), LocalDate.of(2031, 3, 9), VacationStatus.APPROVED)
+        ));
+
+        rollupService.onManagerChanged(new EmployeeManagerChangedEvent(employeeId, oldManager, null));
+
+        verify(rollupRepository).applyDelta(LocalDate.of(2031, 3, 1), oldManager, "APPROVED", -5);
+        verify(rollupRepository).applyDelta(LocalDate.of(2031, 3, 1), AbsenceRollupService.NO_MANAGER, "APPROVED", 5);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should lock and clear the range before writing totals recomputed from the vacations")
+    void shouldRebuildRange() {
+        UUID managerId = UUID.randomUUID();
+        when(vacationRepository.findRollupSpans(LocalDate.of(2031, 2, 1), LocalDate.of(2031, 3, 31))).thenReturn(List.of(
+                // starts before the range: only February and March count
+                new RollupSpan(managerId, "TEST", LocalDate.of(2031, 1, 30), LocalDate.of(2031, 2, 4), VacationStatus.APPROVED),
+                new RollupSpan(managerId, "TEST", LocalDate.of(2031, 2, 5), LocalDate.of(2031, 2, 5), VacationStatus.APPROVED),
+                new RollupSpan(null, null, LocalDate.of(2031, 3, 3), LocalDate.of(2031, 3, 4), VacationStatus.PENDING)));
+        when(holidayCalendars.forLocation(any())).thenReturn(CALENDAR);
+
+        RollupRebuildResponse result = rollupService.rebuild(YearMonth.of(2031, 2), YearMonth.of(2031, 3));
+
+        InOrder inOrder = inOrder(rollupRepository, vacationRepository);
+        inOrder.verify(rollupRepository).lockForRebuild();
+        inOrder.verify(rollupRepository).deleteMonths(LocalDate.of(2031, 2, 1), LocalDate.of(2031, 3, 1));
+        inOrder.verify(vacationRepository).findRollupSpans(any(), any());
+        verify(rollupRepository).applyDelta(LocalDate.of(2031, 2, 1), managerId, "APPROVED", 3);
+        verify(rollupRepository).applyDelta(LocalDate.of(2031, 3, 1), AbsenceRollupService.NO_MANAGER, "PENDING", 2);
+        assertEquals(3, result.getVacations());
+        assertEquals(2, result.getRows());
+    }
+
+    @Test
+    @DisplayName("Should refuse to rebuild months that hold archived vacations")
+    void shouldRefuseToRebuildArchivedMonths() {
+        when(archivedVacationRepository.findArchivedThrough()).thenReturn(Optional.of(LocalDate.of(2030, 12, 20)));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> rollupService.rebuild(YearMonth.of(2030, 12), YearMonth.of(2031, 3))
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(rollupRepository, never()).lockForRebuild();
+        verify(rollupRepository, never()).deleteMonths(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep managers to their own team and hide the no-manager placeholder")
+    void shouldScopeReportToCallerTeam() {
+        Employee manager = createDefaultEmployee();
+        manager.setRole(Role.MANAGER);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        VacationMonthlyRollup row = new VacationMonthlyRollup();
+        row.setMonth(LocalDate.of(2031, 3, 1));
+        row.setManagerId(manager.getId());
+        row.setStatus(VacationStatus.APPROVED);
+        row.setDays(7);
+        when(rollupRepository.findInRangeForManager(manager.getId(), LocalDate.of(2028, 4, 1), LocalDate.of(2031, 3, 1)))
+                .thenReturn(List.of(row));
+
+        AbsenceReportResponse report = rollupService.findReport(null, null, YearMonth.of(2031, 3));
+
+        assertEquals(YearMonth.of(2028, 4), report.getFrom());
+        assertEquals(1, report.getMonths().size());
+        assertEquals(YearMonth.of(2031, 3), report.getMonths().get(0).getMonth());
+        assertEquals(7, report.getMonths().get(0).getDays());
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> rollupService.findReport(UUID.randomUUID(), null, YearMonth.of(2031, 3))
+        );
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verify(rollupRepository, never()).findInRange(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject report ranges longer than three years")
+    void shouldRejectLongRanges() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> rollupService.findReport(null, YearMonth.of(2028, 1), YearMonth.of(2031, 1))
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(rollupRepository, currentUserService);
+    }
+}
@@ -0,0 +1,199 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.CommonAvailabilityInput;
+import com.taskflow.taskflow.dto.CommonAvailabilityResponse;
+import com.taskflow.taskflow.dto.FreeWindow;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.EmployeeTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommonAvailabilityService Tests")
+class CommonAvailabilityServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private CommonAvailabilityService commonAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        commonAvailabilityService = new CommonAvailabilityService(employeeRepository, vacationRepository, currentUserService);
+    }
+
+    @Test
+    @DisplayName("Should return the windows outside everyone's vacations, dropping the short ones")
+    void shouldMergeBusyIntervalsAcrossEmployees() {
+        UUID ana = UUID.randomUUID();
+        UUID bia = UUID.randomUUID();
+        CommonAvailabilityInput input = input(day(1), day(20));
+        input.setEmployeeIds(List.of(ana, bia));
+        input.setMinLength(2);
+        Employee manager = createManager("Rita", "Alves", "rita@example.com");
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        when(employeeRepository.findTeamIdsTransitive(manager.getId())).thenReturn(List.of(ana, bia));
+        when(employeeRepository.countByIdIn(Set.of(ana, bia))).thenReturn(2L);
+        when(vacationRepository.findSpansOverlappingByEmployee(Set.of(ana, bia),
+                List.of(VacationStatus.PENDING, VacationStatus.APPROVED), day(1), day(20))).thenReturn(List.of(
+                new VacationSpan(ana, day(3), day(5), VacationStatus.APPROVED),
+                new VacationSpan(ana, day(10), day(12), VacationStatus.PENDING),
+                new VacationSpan(bia, day(4), day(8), VacationStatus.APPROVED)
+        ));
+
+        CommonAvailabilityResponse result = commonAvailabilityService.findCommonAvailability(input);
+
+        // Jan 9 is free for both but shorter than two days
+        assertEquals(List.of(
+                new FreeWindow(day(1), day(2), 2),
+                new FreeWindow(day(13), day(20), 8)
+        ), result.getWindows());
+        assertEquals(2, result.getEmployees());
+    }
+
+    @Test
+    @DisplayName("Should check the caller's whole reporting tree, the caller included")
+    void shouldUseManagerSubtree() {
+        Employee manager = createManager("Rita", "Alves", "rita@example.com");
+        UUID report = UUID.randomUUID();
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        when(employeeRepository.findTeamIdsTransitive(manager.getId())).thenReturn(List.of(report));
+        when(vacationRepository.findSpansOverlappingByEmployee(Set.of(manager.getId(), report),
+                List.of(VacationStatus.PENDING, VacationStatus.APPROVED), day(1), day(10))).thenReturn(List.of(
+                new VacationSpan(report, LocalDate.of(2029, 12, 20), day(4), VacationStatus.APPROVED)
+        ));
+        CommonAvailabilityInput input = input(day(1), day(10));
+        input.setManagerId(manager.getId());
+
+        CommonAvailabilityResponse result = commonAvailabilityService.findCommonAvailability(input);
+
+        assertEquals(List.of(new FreeWindow(day(5), day(10), 6)), result.getWindows());
+        assertEquals(2, result.getEmployees());
+    }
+
+    @Test
+    @DisplayName("Should throw FORBIDDEN when a manager checks another reporting tree")
+    void shouldForbidOtherSubtrees() {
+        Employee manager = createManager("Rita", "Alves", "rita@example.com");
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        CommonAvailabilityInput input = input(day(1), day(10));
+        input.setManagerId(UUID.randomUUID());
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> commonAvailabilityService.findCommonAvailability(input)
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw FORBIDDEN when a non-admin lists an employee outside their reporting tree")
+    void shouldForbidEmployeeIdsOutsideSubtree() {
+        Employee manager = createManager("Rita", "Alves", "rita@example.com");
+        UUID report = UUID.randomUUID();
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        when(employeeRepository.findTeamIdsTransitive(manager.getId())).thenReturn(List.of(report));
+        CommonAvailabilityInput input = input(day(1), day(10));
+        input.setEmployeeIds(List.of(manager.getId(), report, UUID.randomUUID()));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> commonAvailabilityService.findCommonAvailability(input)
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verify(employeeRepository, never()).countByIdIn(any());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should let an admin list any employees")
+    void shouldAllowAdminAnyEmployeeIds() {
+        UUID ana = UUID.randomUUID();
+        UUID bia = UUID.randomUUID();
+        when(currentUserService.getCurrentEmployee())
+                .thenReturn(Optional.of(createAdmin("Ada", "Lima", "ada@example.com")));
+        when(employeeRepository.countByIdIn(Set.of(ana, bia))).thenReturn(2L);
+        when(vacationRepository.findSpansOverlappingByEmployee(any(), any(), any(), any())).thenReturn(List.of());
+        CommonAvailabilityInput input = input(day(1), day(10));
+        input.setEmployeeIds(List.of(ana, bia));
+
+        CommonAvailabilityResponse result = commonAvailabilityService.findCommonAvailability(input);
+
+        assertEquals(2, result.getEmployees());
+        verify(employeeRepository, never()).findTeamIdsTransitive(any());
+    }
+
+    @Test
+    @DisplayName("Should throw NOT_FOUND when an employee id is unknown")
+    void shouldRejectUnknownEmployees() {
+        CommonAvailabilityInput input = input(day(1), day(10));
+        input.setEmployeeIds(List.of(UUID.randomUUID(), UUID.randomUUID()));
+        when(currentUserService.getCurrentEmployee())
+                .thenReturn(Optional.of(createAdmin("Ada", "Lima", "ada@example.com")));
+        when(employeeRepository.countByIdIn(any())).thenReturn(1L);
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> commonAvailabilityService.findCommonAvailability(input)
+        );
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when both employee ids and a manager are given")
+    void shouldRequireExactlyOneGroup() {
+        CommonAvailabilityInput input = input(day(1), day(10));
+        input.setEmployeeIds(List.of(UUID.randomUUID()));
+        input.setManagerId(UUID.randomUUID());
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> commonAvailabilityService.findCommonAvailability(input)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    private static LocalDate day(int dayOfMonth) {
+        return LocalDate.of(2030, 1, dayOfMonth);
+    }
+
+    private static CommonAvailabilityInput input(LocalDate from, LocalDate to) {
+        CommonAvailabilityInput input = new CommonAvailabilityInput();
+        input.setFrom(from);
+        input.setTo(to);
+        return input;
+    }
+}
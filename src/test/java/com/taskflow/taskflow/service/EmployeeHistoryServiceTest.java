@@ -0,0 +1,74 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.model.EmployeeHistory;
+import com.taskflow.taskflow.repository.EmployeeHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeHistoryService Tests")
+class EmployeeHistoryServiceTest {
+
+    @Mock
+    private EmployeeHistoryRepository employeeHistoryRepository;
+
+    private EmployeeHistoryService employeeHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        employeeHistoryService = new EmployeeHistoryService(employeeHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should query the org chart at the last instant of the requested day")
+    void shouldQueryOrgChartAtEndOfDay() {
+        when(employeeHistoryRepository.findAllValidAt(any())).thenReturn(List.of(new EmployeeHistory()));
+
+        List<EmployeeHistory> result = employeeHistoryService.findOrgChartAsOf(LocalDate.of(2025, 3, 1));
+
+        assertEquals(1, result.size());
+        verify(employeeHistoryRepository, times(1)).findAllValidAt(Instant.parse("2025-03-01T23:59:59.999999Z"));
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when date is null")
+    void shouldThrowBadRequestWhenDateIsNull() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> employeeHistoryService.findOrgChartAsOf(null)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(employeeHistoryRepository, never()).findAllValidAt(any());
+    }
+
+    @Test
+    @DisplayName("Should throw NOT_FOUND when employee has no recorded versions")
+    void shouldThrowNotFoundWhenEmployeeHasNoHistory() {
+        UUID employeeId = UUID.randomUUID();
+        when(employeeHistoryRepository.findAllByEmployee(employeeId)).thenReturn(List.of());
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> employeeHistoryService.findHistory(employeeId)
+        );
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        assertEquals("Employee history not found", exception.getReason());
+    }
+}
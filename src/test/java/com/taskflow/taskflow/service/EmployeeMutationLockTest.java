@@ -0,0 +1,151 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeMutationLock Tests")
+class EmployeeMutationLockTest {
+
+    private static final int CALLS = 400;
+    private static final int THREADS = 32;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeMutationLock lock;
+
+    @BeforeEach
+    void setUp() {
+        lock = new EmployeeMutationLock(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should never let two callers with the same key run together")
+    void shouldSerializePerKeyUnderLoad() throws Exception {
+        List<String> logins = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            logins.add(UUID.randomUUID().toString());
+        }
+        Map<String, AtomicInteger> inside = new ConcurrentHashMap<>();
+        AtomicInteger maxInsideSameKey = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> calls = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLS; i++) {
+                String login = logins.get(i % logins.size());
+                calls.add(pool.submit(() -> {
+                    start.await();
+                    return lock.withStripe(login, () -> {
+                        int same = inside.computeIfAbsent(login, k -> new AtomicInteger()).incrementAndGet();
+                        maxInsideSameKey.accumulateAndGet(same, Math::max);
+                        Thread.yield();
+                        return inside.get(login).decrementAndGet();
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, maxInsideSameKey.get());
+    }
+
+    @Test
+    @DisplayName("Should take advisory locks in ascending key order whatever the scope order")
+    void shouldTakeAdvisoryLocksInAscendingOrder() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        long low = Math.min(EmployeeMutationLock.advisoryKey(a), EmployeeMutationLock.advisoryKey(b));
+        long high = Math.max(EmployeeMutationLock.advisoryKey(a), EmployeeMutationLock.advisoryKey(b));
+
+        inTransaction(() -> lock.lockForTransaction(List.of(a, b)));
+        inTransaction(() -> lock.lockForTransaction(List.of(b, a)));
+
+        InOrder inOrder = inOrder(employeeRepository);
+        inOrder.verify(employeeRepository).lockForTransaction(low);
+        inOrder.verify(employeeRepository).lockForTransaction(high);
+        inOrder.verify(employeeRepository).lockForTransaction(low);
+        inOrder.verify(employeeRepository).lockForTransaction(high);
+    }
+
+    @Test
+    @DisplayName("Should refuse advisory locks outside a transaction")
+    void shouldRequireTransaction() {
+        assertThrows(IllegalStateException.class, () -> lock.lockForTransaction(List.of(UUID.randomUUID())));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should lock a team in the two-key space, and only inside a transaction")
+    void shouldLockTeamInsideTransaction() {
+        UUID managerId = UUID.randomUUID();
+        long key = EmployeeMutationLock.advisoryKey(managerId);
+
+        assertThrows(IllegalStateException.class, () -> lock.lockTeamForTransaction(managerId));
+        inTransaction(() -> lock.lockTeamForTransaction(managerId));
+
+        verify(employeeRepository).lockTeamForTransaction((int) (key >>> 32), (int) key);
+        verify(employeeRepository, never()).lockForTransaction(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should refuse a stripe once a transaction is open")
+    void shouldRefuseStripeInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(IllegalStateException.class, () -> lock.withStripe("login", () -> null));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread logins over the stripes")
+    void shouldSpreadKeysOverStripes() {
+        int[] perStripe = new int[EmployeeMutationLock.STRIPES];
+        for (int i = 0; i < 10_000; i++) {
+            perStripe[EmployeeMutationLock.stripe(UUID.randomUUID().toString())]++;
+        }
+        for (int count : perStripe) {
+            assertTrue(count > 0);
+        }
+    }
+
+    private static void inTransaction(Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
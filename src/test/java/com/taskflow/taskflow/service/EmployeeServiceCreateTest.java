@@ -5,6 +5,7 @@ import com.taskflow.taskflow.dto.EmployeeInput;
 import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.repository.EmployeeRepository;
 import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.util.SqlStateUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +13,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,11 +37,14 @@ class EmployeeServiceCreateTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private EmployeeService employeeService;
 
     @BeforeEach
     void setUp() {
-        employeeService = new EmployeeService(employeeRepository, currentUserService, 20);
+        employeeService = new EmployeeService(employeeRepository, currentUserService, eventPublisher, 20);
     }
 
     @Test
@@ -56,9 +63,9 @@ class EmployeeServiceCreateTest {
                 managerId
         );
 
-        when(employeeRepository.findByEmail(input.getEmail())).thenReturn(Optional.empty());
-        when(employeeRepository.findById(managerId)).thenReturn(Optional.of(manager));
-        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> {
+        when(employeeRepository.findRoleById(managerId)).thenReturn(Optional.of(Role.MANAGER));
+        when(employeeRepository.getReferenceById(managerId)).thenReturn(manager);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> {
             Employee saved = invocation.getArgument(0);
             saved.setId(UUID.randomUUID());
             return saved;
@@ -72,9 +79,9 @@ class EmployeeServiceCreateTest {
         assertEquals(input.getLastName(), result.getLastName());
         assertEquals(manager, result.getManager());
 
-        verify(employeeRepository, times(1)).findByEmail(input.getEmail());
-        verify(employeeRepository, times(1)).findById(managerId);
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeRepository, times(1)).findRoleById(managerId);
+        verify(employeeRepository, times(1)).getReferenceById(managerId);
+        verify(employeeRepository, times(1)).saveAndFlush(any(Employee.class));
     }
 
     @Test
@@ -93,15 +100,15 @@ class EmployeeServiceCreateTest {
                 adminId
         );
 
-        when(employeeRepository.findByEmail(input.getEmail())).thenReturn(Optional.empty());
-        when(employeeRepository.findById(adminId)).thenReturn(Optional.of(admin));
-        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(employeeRepository.findRoleById(adminId)).thenReturn(Optional.of(Role.ADMIN));
+        when(employeeRepository.getReferenceById(adminId)).thenReturn(admin);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Employee result = employeeService.create(input);
 
         assertNotNull(result);
         assertEquals(admin, result.getManager());
-        verify(employeeRepository).save(any(Employee.class));
+        verify(employeeRepository).saveAndFlush(any(Employee.class));
     }
 
     @Test
@@ -115,8 +122,8 @@ class EmployeeServiceCreateTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Employee payload is required", exception.getReason());
 
-        verify(employeeRepository, never()).save(any());
-        verify(employeeRepository, never()).findByEmail(any());
+        verify(employeeRepository, never()).saveAndFlush(any());
+        verify(employeeRepository, never()).findRoleById(any());
     }
 
     @Test
@@ -138,17 +145,15 @@ class EmployeeServiceCreateTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Manager is required", exception.getReason());
 
-        verify(employeeRepository, never()).save(any());
+        verify(employeeRepository, never()).saveAndFlush(any());
     }
 
     @Test
-    @DisplayName("Should throw CONFLICT when email already exists")
+    @DisplayName("Should throw CONFLICT when email unique constraint is violated")
     void shouldThrowConflictWhenEmailAlreadyExists() {
         UUID managerId = UUID.randomUUID();
         String duplicateEmail = "duplicate@example.com";
 
-        Employee existingEmployee = createEmployee("Existing", "User", duplicateEmail, Role.EMPLOYEE);
-
         EmployeeInput input = createEmployeeInput(
                 duplicateEmail,
                 "New",
@@ -158,7 +163,9 @@ class EmployeeServiceCreateTest {
                 managerId
         );
 
-        when(employeeRepository.findByEmail(duplicateEmail)).thenReturn(Optional.of(existingEmployee));
+        when(employeeRepository.findRoleById(managerId)).thenReturn(Optional.of(Role.MANAGER));
+        when(employeeRepository.getReferenceById(managerId)).thenReturn(new Employee());
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenThrow(uniqueViolation());
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -168,11 +175,34 @@ class EmployeeServiceCreateTest {
         assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
         assertEquals("Email already in use", exception.getReason());
 
-        verify(employeeRepository, times(1)).findByEmail(duplicateEmail);
-        verify(employeeRepository, never()).save(any());
+        verify(employeeRepository, never()).findByEmail(any());
         verify(employeeRepository, never()).findById(any());
     }
 
+    @Test
+    @DisplayName("Should rethrow integrity violations other than duplicate email")
+    void shouldRethrowOtherIntegrityViolations() {
+        UUID managerId = UUID.randomUUID();
+
+        EmployeeInput input = createEmployeeInput(
+                "employee@example.com",
+                "John",
+                "Doe",
+                "password123",
+                Role.EMPLOYEE,
+                managerId
+        );
+
+        DataIntegrityViolationException fkViolation = new DataIntegrityViolationException(
+                "fk", new SQLException("insert or update violates foreign key constraint", SqlStateUtils.FOREIGN_KEY_VIOLATION));
+
+        when(employeeRepository.findRoleById(managerId)).thenReturn(Optional.of(Role.MANAGER));
+        when(employeeRepository.getReferenceById(managerId)).thenReturn(new Employee());
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenThrow(fkViolation);
+
+        assertThrows(DataIntegrityViolationException.class, () -> employeeService.create(input));
+    }
+
     @Test
     @DisplayName("Should throw NOT_FOUND when manager does not exist")
     void shouldThrowNotFoundWhenManagerDoesNotExist() {
@@ -187,8 +217,7 @@ class EmployeeServiceCreateTest {
                 nonExistentManagerId
         );
 
-        when(employeeRepository.findByEmail(input.getEmail())).thenReturn(Optional.empty());
-        when(employeeRepository.findById(nonExistentManagerId)).thenReturn(Optional.empty());
+        when(employeeRepository.findRoleById(nonExistentManagerId)).thenReturn(Optional.empty());
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -198,17 +227,14 @@ class EmployeeServiceCreateTest {
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
         assertEquals("Manager not found", exception.getReason());
 
-        verify(employeeRepository, times(1)).findByEmail(input.getEmail());
-        verify(employeeRepository, times(1)).findById(nonExistentManagerId);
-        verify(employeeRepository, never()).save(any());
+        verify(employeeRepository, times(1)).findRoleById(nonExistentManagerId);
+        verify(employeeRepository, never()).saveAndFlush(any());
     }
 
     @Test
     @DisplayName("Should throw BAD_REQUEST when assigned manager is not MANAGER or ADMIN")
     void shouldThrowBadRequestWhenAssignedManagerIsNotManagerOrAdmin() {
         UUID employeeManagerId = UUID.randomUUID();
-        Employee employeeAsManager = createEmployee("John", "Doe", "john@example.com", Role.EMPLOYEE);
-        employeeAsManager.setId(employeeManagerId);
 
         EmployeeInput input = createEmployeeInput(
                 "newemployee@example.com",
@@ -219,8 +245,7 @@ class EmployeeServiceCreateTest {
                 employeeManagerId
         );
 
-        when(employeeRepository.findByEmail(input.getEmail())).thenReturn(Optional.empty());
-        when(employeeRepository.findById(employeeManagerId)).thenReturn(Optional.of(employeeAsManager));
+        when(employeeRepository.findRoleById(employeeManagerId)).thenReturn(Optional.of(Role.EMPLOYEE));
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -230,9 +255,9 @@ class EmployeeServiceCreateTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Assigned manager does not have a managerial role", exception.getReason());
 
-        verify(employeeRepository, times(1)).findByEmail(input.getEmail());
-        verify(employeeRepository, times(1)).findById(employeeManagerId);
-        verify(employeeRepository, never()).save(any());
+        verify(employeeRepository, times(1)).findRoleById(employeeManagerId);
+        verify(employeeRepository, never()).getReferenceById(any());
+        verify(employeeRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -251,17 +276,17 @@ class EmployeeServiceCreateTest {
                 managerId
         );
 
-        when(employeeRepository.findByEmail(input.getEmail())).thenReturn(Optional.empty());
-        when(employeeRepository.findById(managerId)).thenReturn(Optional.of(manager));
+        when(employeeRepository.findRoleById(managerId)).thenReturn(Optional.of(Role.MANAGER));
+        when(employeeRepository.getReferenceById(managerId)).thenReturn(manager);
 
         ArgumentCaptor<Employee> employeeCaptor = ArgumentCaptor.forClass(Employee.class);
-        when(employeeRepository.save(employeeCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(employeeRepository.saveAndFlush(employeeCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
 
         employeeService.create(input);
 
         Employee savedEmployee = employeeCaptor.getValue();
         assertNull(savedEmployee.getId());
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeRepository, times(1)).saveAndFlush(any(Employee.class));
     }
 
     @Test
@@ -280,15 +305,20 @@ class EmployeeServiceCreateTest {
                 managerId
         );
 
-        when(employeeRepository.findByEmail(input.getEmail())).thenReturn(Optional.empty());
-        when(employeeRepository.findById(managerId)).thenReturn(Optional.of(manager));
-        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(employeeRepository.findRoleById(managerId)).thenReturn(Optional.of(Role.ADMIN));
+        when(employeeRepository.getReferenceById(managerId)).thenReturn(manager);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         employeeService.create(input);
 
         var inOrder = inOrder(employeeRepository);
-        inOrder.verify(employeeRepository).findByEmail(input.getEmail());
-        inOrder.verify(employeeRepository).findById(managerId);
-        inOrder.verify(employeeRepository).save(any(Employee.class));
+        inOrder.verify(employeeRepository).findRoleById(managerId);
+        inOrder.verify(employeeRepository).getReferenceById(managerId);
+        inOrder.verify(employeeRepository).saveAndFlush(any(Employee.class));
+    }
+
+    private static DataIntegrityViolationException uniqueViolation() {
+        return new DataIntegrityViolationException(
+                "duplicate key", new SQLException("duplicate key value violates unique constraint", SqlStateUtils.UNIQUE_VIOLATION));
     }
 }
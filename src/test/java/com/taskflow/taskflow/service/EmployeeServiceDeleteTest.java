@@ -2,15 +2,19 @@ package com.taskflow.taskflow.service;
 
 import com.taskflow.taskflow.repository.EmployeeRepository;
 import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.util.SqlStateUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.SQLException;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,11 +30,14 @@ class EmployeeServiceDeleteTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private EmployeeService employeeService;
 
     @BeforeEach
     void setUp() {
-        employeeService = new EmployeeService(employeeRepository, currentUserService, 20);
+        employeeService = new EmployeeService(employeeRepository, currentUserService, eventPublisher, 20);
     }
 
     @Test
@@ -38,13 +45,11 @@ class EmployeeServiceDeleteTest {
     void shouldDeleteEmployeeSuccessfully() {
         UUID employeeId = UUID.randomUUID();
 
-        when(employeeRepository.existsById(employeeId)).thenReturn(true);
-        doNothing().when(employeeRepository).deleteById(employeeId);
+        when(employeeRepository.deleteEmployeeById(employeeId)).thenReturn(1);
 
         assertDoesNotThrow(() -> employeeService.delete(employeeId));
 
-        verify(employeeRepository, times(1)).existsById(employeeId);
-        verify(employeeRepository, times(1)).deleteById(employeeId);
+        verify(employeeRepository, times(1)).deleteEmployeeById(employeeId);
     }
 
     @Test
@@ -58,16 +63,15 @@ class EmployeeServiceDeleteTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Id is required", exception.getReason());
 
-        verify(employeeRepository, never()).existsById(any());
-        verify(employeeRepository, never()).deleteById(any());
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
-    @DisplayName("Should throw NOT_FOUND when employee does not exist")
+    @DisplayName("Should throw NOT_FOUND when no row was deleted")
     void shouldThrowNotFoundWhenEmployeeDoesNotExist() {
         UUID nonExistentId = UUID.randomUUID();
 
-        when(employeeRepository.existsById(nonExistentId)).thenReturn(false);
+        when(employeeRepository.deleteEmployeeById(nonExistentId)).thenReturn(0);
 
         ResponseStatusException exception = assertThrows(
             ResponseStatusException.class,
@@ -77,36 +81,36 @@ class EmployeeServiceDeleteTest {
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
         assertEquals("Employee not found", exception.getReason());
 
-        verify(employeeRepository, times(1)).existsById(nonExistentId);
-        verify(employeeRepository, never()).deleteById(any());
+        verify(employeeRepository, times(1)).deleteEmployeeById(nonExistentId);
     }
 
     @Test
-    @DisplayName("Should verify repository call order")
-    void shouldVerifyRepositoryCallOrder() {
+    @DisplayName("Should throw CONFLICT when employee is still referenced")
+    void shouldThrowConflictWhenEmployeeIsStillReferenced() {
         UUID employeeId = UUID.randomUUID();
 
-        when(employeeRepository.existsById(employeeId)).thenReturn(true);
-        doNothing().when(employeeRepository).deleteById(employeeId);
+        when(employeeRepository.deleteEmployeeById(employeeId)).thenThrow(new DataIntegrityViolationException(
+                "fk", new SQLException("update or delete violates foreign key constraint", SqlStateUtils.FOREIGN_KEY_VIOLATION)));
 
-        employeeService.delete(employeeId);
+        ResponseStatusException exception = assertThrows(
+            ResponseStatusException.class,
+            () -> employeeService.delete(employeeId)
+        );
 
-        var inOrder = inOrder(employeeRepository);
-        inOrder.verify(employeeRepository).existsById(employeeId);
-        inOrder.verify(employeeRepository).deleteById(employeeId);
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        assertEquals("Employee still has team members or vacations", exception.getReason());
     }
 
     @Test
-    @DisplayName("Should ensure deleteById is called only once")
-    void shouldEnsureDeleteByIdIsCalledOnlyOnce() {
+    @DisplayName("Should ensure delete is a single statement")
+    void shouldEnsureDeleteIsASingleStatement() {
         UUID employeeId = UUID.randomUUID();
 
-        when(employeeRepository.existsById(employeeId)).thenReturn(true);
-        doNothing().when(employeeRepository).deleteById(employeeId);
+        when(employeeRepository.deleteEmployeeById(employeeId)).thenReturn(1);
 
         employeeService.delete(employeeId);
 
-        verify(employeeRepository, times(1)).deleteById(employeeId);
+        verify(employeeRepository, times(1)).deleteEmployeeById(employeeId);
         verifyNoMoreInteractions(employeeRepository);
     }
 }
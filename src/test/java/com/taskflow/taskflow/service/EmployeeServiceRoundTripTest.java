@@ -0,0 +1,128 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.dto.EmployeeInput;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.EmployeeTestHelper.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pins the number of statements each write path sends to the database. Every repository call
+ * below is one round trip, except {@code getReferenceById}, which only creates a proxy.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeService - Round Trip Tests")
+class EmployeeServiceRoundTripTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = new EmployeeService(employeeRepository, currentUserService, eventPublisher, 20);
+    }
+
+    @Test
+    @DisplayName("create: role projection + insert = 2 round trips")
+    void createUsesTwoRoundTrips() {
+        UUID managerId = UUID.randomUUID();
+        EmployeeInput input = createEmployeeInput("new@example.com", "New", "Hire", "password123", Role.EMPLOYEE, managerId);
+
+        when(employeeRepository.findRoleById(managerId)).thenReturn(Optional.of(Role.MANAGER));
+        when(employeeRepository.getReferenceById(managerId)).thenReturn(new Employee());
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        employeeService.create(input);
+
+        verify(employeeRepository, times(1)).findRoleById(managerId);
+        verify(employeeRepository, times(1)).getReferenceById(managerId);
+        verify(employeeRepository, times(1)).saveAndFlush(any(Employee.class));
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("update with unchanged manager: load + update = 2 round trips")
+    void updateWithUnchangedManagerUsesTwoRoundTrips() {
+        UUID employeeId = UUID.randomUUID();
+        Employee manager = createManager("Manager", "Test", "manager@example.com");
+        Employee existing = createDefaultEmployee();
+        existing.setId(employeeId);
+        existing.setManager(manager);
+
+        Employee payload = new Employee();
+        payload.setFirstName("Renamed");
+        Employee managerReference = new Employee();
+        managerReference.setId(manager.getId());
+        payload.setManager(managerReference);
+
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existing));
+        when(employeeRepository.save(existing)).thenReturn(existing);
+
+        employeeService.update(employeeId, payload);
+
+        verify(employeeRepository, times(1)).findById(employeeId);
+        verify(employeeRepository, times(1)).save(existing);
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("update with new manager: load + role projection + update = 3 round trips")
+    void updateWithNewManagerUsesThreeRoundTrips() {
+        UUID employeeId = UUID.randomUUID();
+        UUID newManagerId = UUID.randomUUID();
+        Employee existing = createDefaultEmployee();
+        existing.setId(employeeId);
+
+        Employee payload = new Employee();
+        Employee managerReference = new Employee();
+        managerReference.setId(newManagerId);
+        payload.setManager(managerReference);
+
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existing));
+        when(employeeRepository.findRoleById(newManagerId)).thenReturn(Optional.of(Role.ADMIN));
+        when(employeeRepository.getReferenceById(newManagerId)).thenReturn(new Employee());
+        when(employeeRepository.save(existing)).thenReturn(existing);
+
+        employeeService.update(employeeId, payload);
+
+        verify(employeeRepository, times(1)).findById(employeeId);
+        verify(employeeRepository, times(1)).findRoleById(newManagerId);
+        verify(employeeRepository, times(1)).getReferenceById(newManagerId);
+        verify(employeeRepository, times(1)).save(existing);
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("delete: single statement = 1 round trip")
+    void deleteUsesOneRoundTrip() {
+        UUID employeeId = UUID.randomUUID();
+        when(employeeRepository.deleteEmployeeById(employeeId)).thenReturn(1);
+
+        employeeService.delete(employeeId);
+
+        verify(employeeRepository, times(1)).deleteEmployeeById(employeeId);
+        verifyNoMoreInteractions(employeeRepository);
+    }
+}
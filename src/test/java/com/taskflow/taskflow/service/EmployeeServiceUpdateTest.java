@@ -1,6 +1,7 @@
 package com.taskflow.taskflow.service;
 
 import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
 import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.repository.EmployeeRepository;
 import com.taskflow.taskflow.security.CurrentUserService;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -31,11 +33,14 @@ class EmployeeServiceUpdateTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private EmployeeService employeeService;
 
     @BeforeEach
     void setUp() {
-        employeeService = new EmployeeService(employeeRepository, currentUserService, 20);
+        employeeService = new EmployeeService(employeeRepository, currentUserService, eventPublisher, 20);
     }
 
     @Test
@@ -67,7 +72,8 @@ class EmployeeServiceUpdateTest {
         payload.setManager(managerReference);
 
         when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existing));
-        when(employeeRepository.findById(newManagerId)).thenReturn(Optional.of(newManager));
+        when(employeeRepository.findRoleById(newManagerId)).thenReturn(Optional.of(Role.MANAGER));
+        when(employeeRepository.getReferenceById(newManagerId)).thenReturn(newManager);
         when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Employee result = employeeService.update(employeeId, payload);
@@ -80,7 +86,8 @@ class EmployeeServiceUpdateTest {
         assertEquals(newManager, result.getManager());
 
         verify(employeeRepository, times(1)).findById(employeeId);
-        verify(employeeRepository, times(1)).findById(newManagerId);
+        verify(employeeRepository, times(1)).findRoleById(newManagerId);
+        verify(employeeRepository, never()).findById(newManagerId);
         verify(employeeRepository, times(1)).save(existing);
     }
 
@@ -166,7 +173,8 @@ class EmployeeServiceUpdateTest {
         payload.setManager(managerReference);
 
         when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existing));
-        when(employeeRepository.findById(newManagerId)).thenReturn(Optional.of(newManager));
+        when(employeeRepository.findRoleById(newManagerId)).thenReturn(Optional.of(Role.MANAGER));
+        when(employeeRepository.getReferenceById(newManagerId)).thenReturn(newManager);
         when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Employee result = employeeService.update(employeeId, payload);
@@ -174,8 +182,66 @@ class EmployeeServiceUpdateTest {
         assertEquals(newManager, result.getManager());
 
         verify(employeeRepository, times(1)).findById(employeeId);
-        verify(employeeRepository, times(1)).findById(newManagerId);
+        verify(employeeRepository, times(1)).findRoleById(newManagerId);
+        verify(employeeRepository, never()).findById(newManagerId);
         verify(employeeRepository, times(1)).save(existing);
+        verify(eventPublisher, times(1)).publishEvent(new EmployeeManagerChangedEvent(employeeId, null, newManagerId));
+    }
+
+    @Test
+    @DisplayName("Should skip manager lookup when manager is unchanged")
+    void shouldSkipManagerLookupWhenManagerIsUnchanged() {
+        UUID employeeId = UUID.randomUUID();
+        UUID managerId = UUID.randomUUID();
+
+        Employee manager = createManager("Manager", "Test", "manager@example.com");
+        manager.setId(managerId);
+
+        Employee existing = createEmployee("FirstName", "LastName", "test@example.com", Role.EMPLOYEE);
+        existing.setId(employeeId);
+        existing.setManager(manager);
+
+        Employee payload = new Employee();
+        Employee managerReference = new Employee();
+        managerReference.setId(managerId);
+        payload.setManager(managerReference);
+
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existing));
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Employee result = employeeService.update(employeeId, payload);
+
+        assertEquals(manager, result.getManager());
+        verify(employeeRepository, never()).findRoleById(any());
+        verify(employeeRepository, never()).getReferenceById(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when new manager is not MANAGER or ADMIN")
+    void shouldThrowBadRequestWhenNewManagerIsNotManagerOrAdmin() {
+        UUID employeeId = UUID.randomUUID();
+        UUID newManagerId = UUID.randomUUID();
+
+        Employee existing = createEmployee("FirstName", "LastName", "test@example.com", Role.EMPLOYEE);
+        existing.setId(employeeId);
+
+        Employee payload = new Employee();
+        Employee managerReference = new Employee();
+        managerReference.setId(newManagerId);
+        payload.setManager(managerReference);
+
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existing));
+        when(employeeRepository.findRoleById(newManagerId)).thenReturn(Optional.of(Role.EMPLOYEE));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> employeeService.update(employeeId, payload)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals("Assigned manager does not have a managerial role", exception.getReason());
+        verify(employeeRepository, never()).save(any());
     }
 
     @Test
@@ -297,7 +363,7 @@ class EmployeeServiceUpdateTest {
         payload.setManager(managerReference);
 
         when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existing));
-        when(employeeRepository.findById(nonExistentManagerId)).thenReturn(Optional.empty());
+        when(employeeRepository.findRoleById(nonExistentManagerId)).thenReturn(Optional.empty());
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -308,7 +374,7 @@ class EmployeeServiceUpdateTest {
         assertEquals("Manager not found", exception.getReason());
 
         verify(employeeRepository, times(1)).findById(employeeId);
-        verify(employeeRepository, times(1)).findById(nonExistentManagerId);
+        verify(employeeRepository, times(1)).findRoleById(nonExistentManagerId);
         verify(employeeRepository, never()).save(any());
     }
 
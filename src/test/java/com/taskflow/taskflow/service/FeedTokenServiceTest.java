@@ -0,0 +1,175 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.FeedScope;
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.dto.FeedTokenResponse;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.FeedToken;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.FeedTokenRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.service.VacationFeedService.FeedKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.EmployeeTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedTokenService Tests")
+class FeedTokenServiceTest {
+
+    @Mock
+    private FeedTokenRepository feedTokenRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private FeedTokenService feedTokenService;
+
+    @BeforeEach
+    void setUp() {
+        feedTokenService = new FeedTokenService(feedTokenRepository, employeeRepository, currentUserService, 60);
+    }
+
+    @Test
+    @DisplayName("Should store only the hash of the issued token")
+    void shouldStoreOnlyTokenHash() {
+        Employee employee = createEmployee("Ana", "Souza", "ana@example.com", Role.EMPLOYEE);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(employee));
+        when(feedTokenRepository.save(any(FeedToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FeedTokenResponse response = feedTokenService.create(FeedScope.PERSONAL);
+
+        ArgumentCaptor<FeedToken> saved = ArgumentCaptor.forClass(FeedToken.class);
+        verify(feedTokenRepository).save(saved.capture());
+        assertEquals(FeedTokenService.hash(response.getToken()), saved.getValue().getTokenHash());
+        assertNotEquals(response.getToken(), saved.getValue().getTokenHash());
+        assertEquals(employee.getId(), saved.getValue().getEmployeeId());
+        assertEquals("/feeds/" + response.getToken() + ".ics", response.getFeedPath());
+    }
+
+    @Test
+    @DisplayName("Should throw FORBIDDEN when an employee asks for a team feed")
+    void shouldForbidTeamFeedForEmployees() {
+        Employee employee = createEmployee("Ana", "Souza", "ana@example.com", Role.EMPLOYEE);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(employee));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> feedTokenService.create(FeedScope.TEAM)
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verify(feedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should resolve a token once and answer later polls from memory until revoked")
+    void shouldRememberResolvedTokensUntilRevoked() {
+        Employee manager = createManager("Bia", "Lima", "bia@example.com");
+        FeedToken feedToken = new FeedToken();
+        feedToken.setId(UUID.randomUUID());
+        feedToken.setTokenHash(FeedTokenService.hash("secret"));
+        feedToken.setEmployeeId(manager.getId());
+        feedToken.setScope(FeedScope.TEAM);
+        when(feedTokenRepository.findByTokenHashAndRevokedAtIsNull(feedToken.getTokenHash()))
+                .thenReturn(Optional.of(feedToken))
+                .thenReturn(Optional.empty());
+        when(employeeRepository.findRoleById(manager.getId())).thenReturn(Optional.of(Role.MANAGER));
+
+        assertEquals(Optional.of(new FeedKey(FeedScope.TEAM, manager.getId())), feedTokenService.resolve("secret"));
+        assertTrue(feedTokenService.resolve("secret").isPresent());
+        verify(feedTokenRepository, times(1)).findByTokenHashAndRevokedAtIsNull(any());
+
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        when(feedTokenRepository.findById(feedToken.getId())).thenReturn(Optional.of(feedToken));
+        feedTokenService.revoke(feedToken.getId());
+
+        assertNotNull(feedToken.getRevokedAt());
+        assertTrue(feedTokenService.resolve("secret").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stop serving a token revoked on another node once the cached entry expires")
+    void shouldRecheckRevocationAfterCacheExpires() {
+        FeedTokenService expiring = new FeedTokenService(feedTokenRepository, employeeRepository, currentUserService, 0);
+        FeedToken feedToken = feedToken(FeedScope.PERSONAL, UUID.randomUUID());
+        when(feedTokenRepository.findByTokenHashAndRevokedAtIsNull(feedToken.getTokenHash()))
+                .thenReturn(Optional.of(feedToken))
+                .thenReturn(Optional.empty());
+        when(employeeRepository.findRoleById(feedToken.getEmployeeId())).thenReturn(Optional.of(Role.EMPLOYEE));
+
+        assertTrue(expiring.resolve("secret").isPresent());
+        assertTrue(expiring.resolve("secret").isEmpty());
+        verify(feedTokenRepository, times(2)).findByTokenHashAndRevokedAtIsNull(feedToken.getTokenHash());
+    }
+
+    @Test
+    @DisplayName("Should stop serving a team feed once its owner is no longer a manager")
+    void shouldRejectTeamFeedOfDemotedOwner() {
+        FeedTokenService expiring = new FeedTokenService(feedTokenRepository, employeeRepository, currentUserService, 0);
+        FeedToken feedToken = feedToken(FeedScope.TEAM, UUID.randomUUID());
+        when(feedTokenRepository.findByTokenHashAndRevokedAtIsNull(feedToken.getTokenHash())).thenReturn(Optional.of(feedToken));
+        when(employeeRepository.findRoleById(feedToken.getEmployeeId()))
+                .thenReturn(Optional.of(Role.MANAGER))
+                .thenReturn(Optional.of(Role.EMPLOYEE));
+
+        assertTrue(expiring.resolve("secret").isPresent());
+        assertTrue(expiring.resolve("secret").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not serve a feed whose owner no longer exists")
+    void shouldRejectTokenOfDeletedOwner() {
+        FeedToken feedToken = feedToken(FeedScope.PERSONAL, UUID.randomUUID());
+        when(feedTokenRepository.findByTokenHashAndRevokedAtIsNull(feedToken.getTokenHash())).thenReturn(Optional.of(feedToken));
+        when(employeeRepository.findRoleById(feedToken.getEmployeeId())).thenReturn(Optional.empty());
+
+        assertTrue(feedTokenService.resolve("secret").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw FORBIDDEN when revoking another employee's token")
+    void shouldForbidRevokingOthersTokens() {
+        Employee caller = createEmployee("Ana", "Souza", "ana@example.com", Role.EMPLOYEE);
+        FeedToken feedToken = new FeedToken();
+        feedToken.setId(UUID.randomUUID());
+        feedToken.setEmployeeId(UUID.randomUUID());
+        when(feedTokenRepository.findById(feedToken.getId())).thenReturn(Optional.of(feedToken));
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(caller));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> feedTokenService.revoke(feedToken.getId())
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        assertNull(feedToken.getRevokedAt());
+        verify(feedTokenRepository, never()).save(any());
+    }
+
+    private static FeedToken feedToken(FeedScope scope, UUID owner) {
+        FeedToken feedToken = new FeedToken();
+        feedToken.setId(UUID.randomUUID());
+        feedToken.setTokenHash(FeedTokenService.hash("secret"));
+        feedToken.setEmployeeId(owner);
+        feedToken.setScope(scope);
+        return feedToken;
+    }
+}
@@ -0,0 +1,188 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.ScheduleObjective;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.ScheduleOptimizationInput;
+import com.taskflow.taskflow.dto.ScheduleOptimizationResponse;
+import com.taskflow.taskflow.dto.VacationDecisionTarget;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.VacationBalance;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationBalanceRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.EmployeeTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleOptimizerService Tests")
+class ScheduleOptimizerServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2030, 12, 1);
+    private static final LocalDate TO = LocalDate.of(2030, 12, 31);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private VacationBalanceRepository vacationBalanceRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private ScheduleOptimizerService scheduleOptimizerService;
+
+    private Employee manager;
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bia = UUID.randomUUID();
+    private final UUID caio = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        scheduleOptimizerService = new ScheduleOptimizerService(employeeRepository, vacationRepository,
+                vacationBalanceRepository, currentUserService, 1, 1, 4, 200, 1000);
+        manager = createManager("Rita", "Alves", "rita@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduleOptimizerService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should approve only what leaves the minimum staffing, counting approved vacations")
+    void shouldKeepMinimumStaffing() {
+        // three people, one must stay: Caio is already away Dec 20-24, so those days take one more absence
+        VacationDecisionTarget first = pending(ana, 20, 24);
+        VacationDecisionTarget overlapping = pending(bia, 22, 26);
+        VacationDecisionTarget later = pending(caio, 27, 31);
+        stubTeam(List.of(first, overlapping, later));
+        when(vacationRepository.findSpansOverlapping(anyCollection(), any(), any(), any())).thenReturn(List.of(
+                new VacationSpan(caio, LocalDate.of(2030, 12, 20), LocalDate.of(2030, 12, 24), VacationStatus.APPROVED)));
+
+        ScheduleOptimizationResponse result = scheduleOptimizerService.optimize(input(ScheduleObjective.GRANTED_DAYS)).join();
+
+        assertEquals(List.of(first.vacationId(), later.vacationId()), result.getApprove());
+        assertEquals(List.of(overlapping.vacationId()), result.getReject());
+        assertEquals(10, result.getGrantedDays());
+        assertEquals(3, result.getTeamSize());
+    }
+
+    @Test
+    @DisplayName("Should prefer the requester who has used less of the allowance under the fairness objective")
+    void shouldFavourLessUsedAllowance() {
+        VacationDecisionTarget first = pending(ana, 20, 24);
+        VacationDecisionTarget overlapping = pending(bia, 22, 26);
+        stubTeam(List.of(first, overlapping));
+        when(vacationRepository.findSpansOverlapping(anyCollection(), any(), any(), any())).thenReturn(List.of(
+                new VacationSpan(caio, LocalDate.of(2030, 12, 20), LocalDate.of(2030, 12, 26), VacationStatus.APPROVED)));
+        when(vacationBalanceRepository.findByEmployeeIdInAndYear(anyCollection(), eq(2030))).thenReturn(List.of(
+                balance(ana, 30, 25),
+                balance(bia, 30, 0)));
+
+        ScheduleOptimizationResponse result = scheduleOptimizerService.optimize(input(ScheduleObjective.FAIRNESS)).join();
+
+        assertEquals(List.of(overlapping.vacationId()), result.getApprove());
+        assertEquals(List.of(first.vacationId()), result.getReject());
+    }
+
+    @Test
+    @DisplayName("Should trade one long request for two shorter ones that grant more days")
+    void shouldImproveOnGreedyChoice() {
+        int[] capacity = new int[10];
+        Arrays.fill(capacity, 1);
+        ScheduleSolver.Request[] requests = {
+                new ScheduleSolver.Request(0, 9, 10),
+                new ScheduleSolver.Request(0, 4, 6),
+                new ScheduleSolver.Request(5, 9, 6)
+        };
+
+        ScheduleSolver.Solution solution = ScheduleSolver.solve(capacity, requests, System.nanoTime() + 1_000_000_000L, 1);
+
+        assertArrayEquals(new boolean[]{false, true, true}, solution.selected());
+        assertEquals(12, solution.score(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when a listed vacation is not a pending request of the team")
+    void shouldRejectUnknownVacations() {
+        stubTeam(List.of(pending(ana, 20, 24)));
+        ScheduleOptimizationInput input = input(ScheduleObjective.GRANTED_DAYS);
+        input.setVacationIds(List.of(UUID.randomUUID()));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> scheduleOptimizerService.optimize(input)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should throw FORBIDDEN when a manager optimizes another team")
+    void shouldForbidOtherTeams() {
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        ScheduleOptimizationInput input = input(ScheduleObjective.GRANTED_DAYS);
+        input.setManagerId(UUID.randomUUID());
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> scheduleOptimizerService.optimize(input)
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    private void stubTeam(List<VacationDecisionTarget> pending) {
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        when(employeeRepository.findIdsByManagerId(manager.getId())).thenReturn(List.of(ana, bia, caio));
+        when(vacationRepository.findTeamTargetsOverlapping(manager.getId(), VacationStatus.PENDING, FROM, TO)).thenReturn(pending);
+    }
+
+    private VacationDecisionTarget pending(UUID employeeId, int startDay, int endDay) {
+        return new VacationDecisionTarget(UUID.randomUUID(), employeeId, manager.getId(),
+                LocalDate.of(2030, 12, startDay), LocalDate.of(2030, 12, endDay), VacationStatus.PENDING);
+    }
+
+    private static ScheduleOptimizationInput input(ScheduleObjective objective) {
+        ScheduleOptimizationInput input = new ScheduleOptimizationInput();
+        input.setFrom(FROM);
+        input.setTo(TO);
+        input.setObjective(objective);
+        return input;
+    }
+
+    private static VacationBalance balance(UUID employeeId, int accrued, int used) {
+        VacationBalance balance = new VacationBalance();
+        balance.setEmployeeId(employeeId);
+        balance.setYear(2030);
+        balance.setAccruedDays(accrued);
+        balance.setUsedDays(used);
+        return balance;
+    }
+}
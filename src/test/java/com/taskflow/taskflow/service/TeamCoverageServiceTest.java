@@ -0,0 +1,149 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.DayCoverageResponse;
+import com.taskflow.taskflow.dto.TeamCoverageResponse;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.createDefaultEmployee;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeamCoverageService Tests")
+class TeamCoverageServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 4, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 4, 10);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private TeamCoverageService teamCoverageService;
+    private Employee manager;
+
+    @BeforeEach
+    void setUp() {
+        teamCoverageService = new TeamCoverageService(employeeRepository, vacationRepository, currentUserService, 2);
+        manager = createDefaultEmployee();
+        manager.setRole(Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("Should count approved and pending absences per day from one range query")
+    void shouldCountAbsencesPerDay() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        when(employeeRepository.findIdsByManagerId(manager.getId())).thenReturn(List.of(a, b, c));
+        when(vacationRepository.findSpansOverlapping(eq(List.of(a, b, c)), any(), eq(FROM), eq(TO))).thenReturn(List.of(
+                new VacationSpan(a, LocalDate.of(2025, 3, 28), LocalDate.of(2025, 4, 3), VacationStatus.APPROVED),
+                new VacationSpan(b, LocalDate.of(2025, 4, 3), LocalDate.of(2025, 4, 5), VacationStatus.APPROVED),
+                new VacationSpan(c, LocalDate.of(2025, 4, 9), LocalDate.of(2025, 4, 20), VacationStatus.PENDING)
+        ));
+
+        TeamCoverageResponse result = teamCoverageService.findCoverage(null, FROM, TO, false, null);
+
+        assertEquals(manager.getId(), result.getManagerId());
+        assertEquals(3, result.getTeamSize());
+        assertEquals(2, result.getMinStaffing());
+        assertEquals(10, result.getDays().size());
+
+        int[] expectedOnLeave = {1, 1, 2, 1, 1, 0, 0, 0, 0, 0};
+        int[] expectedPending = {0, 0, 0, 0, 0, 0, 0, 0, 1, 1};
+        for (int d = 0; d < 10; d++) {
+            DayCoverageResponse day = result.getDays().get(d);
+            assertEquals(FROM.plusDays(d), day.getDate());
+            assertEquals(expectedOnLeave[d], day.getOnLeave(), "on leave on " + day.getDate());
+            assertEquals(expectedPending[d], day.getPending(), "pending on " + day.getDate());
+            assertEquals(3 - expectedOnLeave[d], day.getAvailable());
+        }
+
+        DayCoverageResponse thirdOfApril = result.getDays().get(2);
+        assertTrue(thirdOfApril.isBelowMinimum());
+        DayCoverageResponse ninthOfApril = result.getDays().get(8);
+        assertFalse(ninthOfApril.isBelowMinimum());
+        assertFalse(ninthOfApril.isBelowMinimumIfPendingApproved());
+
+        verify(vacationRepository, times(1)).findSpansOverlapping(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should resolve the whole reporting tree when transitive")
+    void shouldUseTransitiveTeam() {
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        when(employeeRepository.findTeamIdsTransitive(manager.getId())).thenReturn(List.of());
+
+        TeamCoverageResponse result = teamCoverageService.findCoverage(null, FROM, TO, true, 0);
+
+        assertTrue(result.isTransitive());
+        assertEquals(0, result.getTeamSize());
+        assertTrue(result.getDays().stream().noneMatch(DayCoverageResponse::isBelowMinimum));
+        verify(employeeRepository, never()).findIdsByManagerId(any());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should forbid managers from viewing another manager's team")
+    void shouldForbidOtherManagersTeam() {
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> teamCoverageService.findCoverage(UUID.randomUUID(), FROM, TO, false, null)
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verifyNoInteractions(employeeRepository, vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should let admins view any manager's team")
+    void shouldLetAdminsViewAnyTeam() {
+        Employee admin = createDefaultEmployee();
+        admin.setRole(Role.ADMIN);
+        UUID otherManager = UUID.randomUUID();
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(admin));
+        when(employeeRepository.findIdsByManagerId(otherManager)).thenReturn(List.of());
+
+        assertEquals(otherManager, teamCoverageService.findCoverage(otherManager, FROM, TO, false, null).getManagerId());
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when the range is inverted or too long")
+    void shouldRejectInvalidRanges() {
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> teamCoverageService.findCoverage(null, TO, FROM, false, null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> teamCoverageService.findCoverage(null, FROM, FROM.plusDays(TeamCoverageService.MAX_RANGE_DAYS), false, null)).getStatusCode());
+
+        verifyNoInteractions(currentUserService, employeeRepository, vacationRepository);
+    }
+}
@@ -0,0 +1,121 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.ArchiveRunResponse;
+import com.taskflow.taskflow.dto.VacationResponse;
+import com.taskflow.taskflow.event.VacationsArchivedEvent;
+import com.taskflow.taskflow.model.ArchivedVacation;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.ArchivedVacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.EmployeeTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationArchiveService Tests")
+class VacationArchiveServiceTest {
+
+    @Mock
+    private ArchivedVacationRepository archivedVacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private VacationArchiveService vacationArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        vacationArchiveService = new VacationArchiveService(archivedVacationRepository, currentUserService, eventPublisher, 2);
+    }
+
+    @Test
+    @DisplayName("Should create each year's partition before moving vacations that ended before the kept years")
+    void shouldArchiveClosedYears() {
+        LocalDate cutoff = LocalDate.of(LocalDate.now().getYear() - 1, 1, 1);
+        when(archivedVacationRepository.findArchivableYears(cutoff)).thenReturn(List.of(2019, 2020));
+        when(archivedVacationRepository.moveYear(LocalDate.of(2019, 1, 1), LocalDate.of(2020, 1, 1), cutoff)).thenReturn(3);
+        when(archivedVacationRepository.moveYear(LocalDate.of(2020, 1, 1), LocalDate.of(2021, 1, 1), cutoff)).thenReturn(4);
+
+        ArchiveRunResponse result = vacationArchiveService.archive();
+
+        InOrder inOrder = inOrder(archivedVacationRepository);
+        inOrder.verify(archivedVacationRepository).createPartition(2019);
+        inOrder.verify(archivedVacationRepository).moveYear(LocalDate.of(2019, 1, 1), LocalDate.of(2020, 1, 1), cutoff);
+        inOrder.verify(archivedVacationRepository).createPartition(2020);
+        inOrder.verify(archivedVacationRepository).moveYear(LocalDate.of(2020, 1, 1), LocalDate.of(2021, 1, 1), cutoff);
+        assertEquals(cutoff, result.getCutoff());
+        assertEquals(7, result.getVacations());
+        verify(eventPublisher).publishEvent(new VacationsArchivedEvent(cutoff, 7));
+    }
+
+    @Test
+    @DisplayName("Should not publish an event when nothing was archived")
+    void shouldNotPublishWhenNothingMoved() {
+        when(archivedVacationRepository.findArchivableYears(any())).thenReturn(List.of());
+
+        ArchiveRunResponse result = vacationArchiveService.archive();
+
+        assertEquals(0, result.getVacations());
+        verify(archivedVacationRepository, never()).createPartition(anyInt());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should read the caller's archived vacations of one start year")
+    void shouldReadOwnHistory() {
+        Employee caller = createEmployee("Ana", "Souza", "ana@example.com", Role.EMPLOYEE);
+        ArchivedVacation archived = new ArchivedVacation();
+        archived.setId(UUID.randomUUID());
+        archived.setEmployeeId(caller.getId());
+        archived.setStartDate(LocalDate.of(2020, 7, 1));
+        archived.setEndDate(LocalDate.of(2020, 7, 10));
+        archived.setStatus(VacationStatus.APPROVED);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(caller));
+        when(archivedVacationRepository.findByEmployeeIdAndStartDateBetweenOrderByStartDateAscIdAsc(
+                caller.getId(), LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31))).thenReturn(List.of(archived));
+
+        List<VacationResponse> result = vacationArchiveService.findHistory(null, 2020);
+
+        assertEquals(1, result.size());
+        assertEquals(archived.getId(), result.get(0).getId());
+        assertEquals(VacationStatus.APPROVED, result.get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should throw FORBIDDEN when a non-admin reads another employee's history")
+    void shouldForbidOthersHistory() {
+        Employee caller = createEmployee("Ana", "Souza", "ana@example.com", Role.MANAGER);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(caller));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> vacationArchiveService.findHistory(UUID.randomUUID(), 2020)
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verifyNoInteractions(archivedVacationRepository);
+    }
+}
@@ -0,0 +1,219 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.calendar.BusinessDayCalendar;
+import com.taskflow.taskflow.calendar.HolidayCalendars;
+import com.taskflow.taskflow.exception.OverlappingVacationException;
+import com.taskflow.taskflow.index.VacationIntervalIndex;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationAvailabilityService Tests")
+class VacationAvailabilityServiceTest {
+
+    @Mock
+    private VacationIntervalIndex vacationIntervalIndex;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private HolidayCalendars holidayCalendars;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(holidayCalendars.forEmployee(any())).thenReturn(calendar());
+    }
+
+    private VacationAvailabilityService service(boolean includeTeam, boolean weekdayStartsOnly, String... blackoutDates) {
+        return new VacationAvailabilityService(
+                vacationIntervalIndex, employeeRepository, holidayCalendars, includeTeam, weekdayStartsOnly, blackoutDates);
+    }
+
+    private static BusinessDayCalendar calendar(LocalDate... holidays) {
+        int year = LocalDate.now().getYear();
+        return BusinessDayCalendar.build("TEST", List.of(holidays), year - 1, year + 2);
+    }
+
+    @Test
+    @DisplayName("Should scope overlap checks to the requester by default")
+    void shouldScopeToRequesterByDefault() {
+        Employee requester = createDefaultEmployee();
+        requester.setManager(createDefaultEmployee());
+
+        assertEquals(List.of(requester.getId()), service(false, false).overlapScope(requester));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should include everyone reporting to the same manager, requester first, when the team scope is on")
+    void shouldIncludeTeammatesWhenEnabled() {
+        Employee manager = createDefaultEmployee();
+        Employee requester = createDefaultEmployee();
+        requester.setManager(manager);
+        UUID teammate = UUID.randomUUID();
+        when(employeeRepository.findIdsByManagerId(manager.getId())).thenReturn(List.of(teammate, requester.getId()));
+
+        assertEquals(List.of(requester.getId(), teammate), service(true, false).overlapScope(requester));
+    }
+
+    @Test
+    @DisplayName("Should reject a request that overlaps a teammate and suggest around their booking")
+    void shouldRejectTeamOverlap() {
+        UUID teammate = UUID.randomUUID();
+        UUID requester = UUID.randomUUID();
+        LocalDate start = futureDate(40).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        LocalDate end = start.plusDays(6);
+        when(vacationIntervalIndex.overlaps(teammate, start, end)).thenReturn(true);
+        when(vacationIntervalIndex.occupiedDays(any(), any(), any())).thenReturn(new BitSet());
+
+        OverlappingVacationException exception = assertThrows(
+                OverlappingVacationException.class,
+                () -> service(true, false).validateNoOverlap(List.of(requester, teammate), calendar(), start, end)
+        );
+
+        assertEquals(5, exception.getRequestedDays());
+        verify(holidayCalendars, never()).forEmployee(any());
+        verify(vacationIntervalIndex).occupiedDays(eq(teammate), any(), any());
+        verify(vacationIntervalIndex).occupiedDays(eq(requester), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should suggest the nearest free windows on both sides of a booking")
+    void shouldSuggestNearestWindowsInBothDirections() {
+        UUID employee = UUID.randomUUID();
+        LocalDate start = futureDate(60);
+        LocalDate end = futureDate(64);
+        // booked from 3 days before the request to 3 days after it
+        book(employee, futureDate(57), futureDate(67));
+
+        List<OverlappingVacationException.Suggestion> suggestions =
+                service(false, false).suggest(List.of(employee), start, end, 2);
+
+        assertEquals(2, suggestions.size());
+        assertEquals(futureDate(52), suggestions.get(0).getStartDate());
+        assertEquals(futureDate(56), suggestions.get(0).getEndDate());
+        assertEquals(futureDate(68), suggestions.get(1).getStartDate());
+        assertEquals(futureDate(72), suggestions.get(1).getEndDate());
+    }
+
+    @Test
+    @DisplayName("Should return the requested dates first when they are free")
+    void shouldReturnRequestedDatesWhenFree() {
+        UUID employee = UUID.randomUUID();
+        LocalDate start = futureDate(60);
+        LocalDate end = futureDate(64);
+        when(vacationIntervalIndex.occupiedDays(eq(employee), any(), any())).thenReturn(new BitSet());
+
+        List<OverlappingVacationException.Suggestion> suggestions =
+                service(false, false).suggest(List.of(employee), start, end, 3);
+
+        assertEquals(1, suggestions.size());
+        assertEquals(start, suggestions.get(0).getStartDate());
+        assertEquals(end, suggestions.get(0).getEndDate());
+    }
+
+    @Test
+    @DisplayName("Should never include blackout days in a suggestion")
+    void shouldAvoidBlackoutDays() {
+        UUID employee = UUID.randomUUID();
+        LocalDate start = futureDate(60);
+        LocalDate end = futureDate(64);
+        when(vacationIntervalIndex.occupiedDays(eq(employee), any(), any())).thenReturn(new BitSet());
+
+        List<OverlappingVacationException.Suggestion> suggestions =
+                service(false, false, futureDate(62).toString()).suggest(List.of(employee), start, end, 3);
+
+        assertFalse(suggestions.isEmpty());
+        for (OverlappingVacationException.Suggestion s : suggestions) {
+            assertTrue(s.getEndDate().isBefore(futureDate(62)) || s.getStartDate().isAfter(futureDate(62)));
+        }
+        assertEquals(futureDate(57), suggestions.get(0).getStartDate());
+    }
+
+    @Test
+    @DisplayName("Should only start suggestions on weekdays when configured")
+    void shouldStartOnWeekdays() {
+        UUID employee = UUID.randomUUID();
+        LocalDate saturday = futureDate(60).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        when(vacationIntervalIndex.occupiedDays(eq(employee), any(), any())).thenReturn(new BitSet());
+
+        List<OverlappingVacationException.Suggestion> suggestions =
+                service(false, true).suggest(List.of(employee), saturday, saturday.plusDays(4), 1);
+
+        assertEquals(saturday.minusDays(1), suggestions.get(0).getStartDate());
+        assertEquals(DayOfWeek.FRIDAY, suggestions.get(0).getStartDate().getDayOfWeek());
+    }
+
+    @Test
+    @DisplayName("Should count requested days on the requester's holiday calendar")
+    void shouldCountRequestedDaysOnHolidayCalendar() {
+        UUID employee = UUID.randomUUID();
+        LocalDate monday = futureDate(40).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        when(vacationIntervalIndex.occupiedDays(any(), any(), any())).thenReturn(new BitSet());
+
+        OverlappingVacationException exception = service(false, false)
+                .overlappingVacation(List.of(employee), calendar(monday.plusDays(2)), monday, monday.plusDays(6));
+
+        assertEquals(4, exception.getRequestedDays());
+    }
+
+    @Test
+    @DisplayName("Should not start suggestions on a holiday")
+    void shouldNotStartOnHoliday() {
+        UUID employee = UUID.randomUUID();
+        LocalDate saturday = futureDate(60).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        when(holidayCalendars.forEmployee(employee)).thenReturn(calendar(saturday.minusDays(1)));
+        when(vacationIntervalIndex.occupiedDays(eq(employee), any(), any())).thenReturn(new BitSet());
+
+        List<OverlappingVacationException.Suggestion> suggestions =
+                service(false, true).suggest(List.of(employee), saturday, saturday.plusDays(4), 1);
+
+        assertEquals(saturday.minusDays(2), suggestions.get(0).getStartDate());
+        assertEquals(DayOfWeek.THURSDAY, suggestions.get(0).getStartDate().getDayOfWeek());
+    }
+
+    @Test
+    @DisplayName("Should not suggest windows starting today or earlier")
+    void shouldNotSuggestPastWindows() {
+        UUID employee = UUID.randomUUID();
+        LocalDate start = futureDate(2);
+        LocalDate end = futureDate(6);
+        book(employee, futureDate(2), futureDate(10));
+
+        List<OverlappingVacationException.Suggestion> suggestions =
+                service(false, false).suggest(List.of(employee), start, end, 3);
+
+        assertEquals(futureDate(11), suggestions.get(0).getStartDate());
+        assertTrue(suggestions.stream().allMatch(s -> s.getStartDate().isAfter(LocalDate.now())));
+    }
+
+    private void book(UUID employee, LocalDate bookedFrom, LocalDate bookedTo) {
+        when(vacationIntervalIndex.occupiedDays(eq(employee), any(), any())).thenAnswer(invocation -> {
+            LocalDate windowStart = invocation.getArgument(1);
+            BitSet days = new BitSet();
+            days.set((int) ChronoUnit.DAYS.between(windowStart, bookedFrom), (int) ChronoUnit.DAYS.between(windowStart, bookedTo) + 1);
+            return days;
+        });
+    }
+}
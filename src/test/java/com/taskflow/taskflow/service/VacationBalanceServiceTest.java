@@ -0,0 +1,177 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.calendar.BusinessDayCalendar;
+import com.taskflow.taskflow.calendar.HolidayCalendars;
+import com.taskflow.taskflow.data.LedgerReason;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.BookedDays;
+import com.taskflow.taskflow.dto.LedgerSpan;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.VacationLedgerEntry;
+import com.taskflow.taskflow.repository.VacationBalanceRepository;
+import com.taskflow.taskflow.repository.VacationLedgerRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationBalanceService Tests")
+class VacationBalanceServiceTest {
+
+    @Mock
+    private VacationBalanceRepository balanceRepository;
+
+    @Mock
+    private VacationLedgerRepository ledgerRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private HolidayCalendars holidayCalendars;
+
+    private VacationBalanceService balanceService;
+    private UUID employeeId;
+
+    @BeforeEach
+    void setUp() {
+        balanceService = new VacationBalanceService(balanceRepository, ledgerRepository, vacationRepository,
+                currentUserService, holidayCalendars, 30);
+        employeeId = UUID.randomUUID();
+        // 1 January 2031 is a holiday; 2 March 2031 is a Sunday
+        when(holidayCalendars.forEmployee(employeeId))
+                .thenReturn(BusinessDayCalendar.build("TEST", List.of(LocalDate.of(2031, 1, 1)), 2030, 2031));
+    }
+
+    @Test
+    @DisplayName("Should reject a request needing more business days than the balance row has available")
+    void shouldRejectWhenBalanceIsInsufficient() {
+        when(balanceRepository.openYear(employeeId, 2031)).thenReturn(0);
+        when(balanceRepository.findAvailableDays(employeeId, 2031)).thenReturn(Optional.of(3));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> balanceService.requireAvailable(employeeId, LocalDate.of(2031, 3, 2), LocalDate.of(2031, 3, 6))
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals("Insufficient vacation balance for 2031: 3 days available, 4 requested", exception.getReason());
+        verifyNoInteractions(vacationRepository, ledgerRepository);
+    }
+
+    @Test
+    @DisplayName("Should move days from pending to used when a vacation is approved")
+    void shouldMovePendingToUsedOnApproval() {
+        VacationChangedEvent approval = event(LocalDate.of(2031, 3, 2), LocalDate.of(2031, 3, 6),
+                VacationStatus.PENDING, VacationStatus.APPROVED);
+        when(balanceRepository.openYear(employeeId, 2031)).thenReturn(0);
+        when(ledgerRepository.sumBookedByVacation(approval.vacationId())).thenReturn(List.of(new BookedDays(2031, 4, 0)));
+
+        balanceService.onVacationChanged(approval);
+
+        verify(balanceRepository).applyDelta(employeeId, 2031, 0, -4, 4);
+        ArgumentCaptor<VacationLedgerEntry> entry = ArgumentCaptor.forClass(VacationLedgerEntry.class);
+        verify(ledgerRepository).save(entry.capture());
+        assertEquals(LedgerReason.DECIDED, entry.getValue().getReason());
+    }
+
+    @Test
+    @DisplayName("Should split a vacation that crosses New Year between both balances, skipping the holiday")
+    void shouldSplitAcrossYears() {
+        when(balanceRepository.openYear(eq(employeeId), anyInt())).thenReturn(0);
+
+        balanceService.onVacationChanged(event(LocalDate.of(2030, 12, 30), LocalDate.of(2031, 1, 2),
+                null, VacationStatus.PENDING));
+
+        verify(balanceRepository).applyDelta(employeeId, 2030, 0, 2, 0);
+        verify(balanceRepository).applyDelta(employeeId, 2031, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Should release the days of a deleted approved vacation")
+    void shouldReleaseDaysOnDeletion() {
+        VacationChangedEvent deletion = event(LocalDate.of(2031, 3, 2), LocalDate.of(2031, 3, 6),
+                VacationStatus.APPROVED, null);
+        when(balanceRepository.openYear(employeeId, 2031)).thenReturn(0);
+        when(ledgerRepository.sumBookedByVacation(deletion.vacationId())).thenReturn(List.of(new BookedDays(2031, 0, 4)));
+
+        balanceService.onVacationChanged(deletion);
+
+        verify(balanceRepository).applyDelta(employeeId, 2031, 0, 0, -4);
+    }
+
+    @Test
+    @DisplayName("Should move and release the days originally booked even after the calendar has changed")
+    void shouldReverseBookedDaysAfterCalendarChange() {
+        // booked as 5 days under the employee's previous calendar; the current one counts 4
+        VacationChangedEvent approval = event(LocalDate.of(2031, 3, 2), LocalDate.of(2031, 3, 6),
+                VacationStatus.PENDING, VacationStatus.APPROVED);
+        when(balanceRepository.openYear(employeeId, 2031)).thenReturn(0);
+        when(ledgerRepository.sumBookedByVacation(approval.vacationId())).thenReturn(List.of(new BookedDays(2031, 5, 0)));
+
+        balanceService.onVacationChanged(approval);
+        verify(balanceRepository).applyDelta(employeeId, 2031, 0, -5, 5);
+
+        VacationChangedEvent deletion = new VacationChangedEvent(approval.vacationId(), employeeId,
+                approval.startDate(), approval.endDate(), VacationStatus.APPROVED, null);
+        when(ledgerRepository.sumBookedByVacation(approval.vacationId())).thenReturn(List.of(new BookedDays(2031, 0, 5)));
+
+        balanceService.onVacationChanged(deletion);
+        verify(balanceRepository).applyDelta(employeeId, 2031, 0, 0, -5);
+    }
+
+    @Test
+    @DisplayName("Should seed a newly opened year from history without the changed vacation and then apply its new status")
+    void shouldSeedNewYearOnce() {
+        VacationChangedEvent approval = event(LocalDate.of(2031, 3, 2), LocalDate.of(2031, 3, 6),
+                VacationStatus.PENDING, VacationStatus.APPROVED);
+        when(balanceRepository.openYear(employeeId, 2031)).thenReturn(1);
+        when(vacationRepository.findSpansInYear(eq(employeeId), any(), eq(LocalDate.of(2031, 1, 1)),
+                eq(LocalDate.of(2031, 12, 31)), eq(approval.vacationId()))).thenReturn(List.of(
+                new LedgerSpan(UUID.randomUUID(), LocalDate.of(2031, 2, 3), LocalDate.of(2031, 2, 6), VacationStatus.PENDING),
+                // only 2-14 January fall in 2031, and 1 January is a holiday
+                new LedgerSpan(UUID.randomUUID(), LocalDate.of(2030, 12, 22), LocalDate.of(2031, 1, 14), VacationStatus.APPROVED)));
+
+        balanceService.onVacationChanged(approval);
+
+        ArgumentCaptor<VacationLedgerEntry> entries = ArgumentCaptor.forClass(VacationLedgerEntry.class);
+        verify(ledgerRepository, times(2)).save(entries.capture());
+        assertEquals(List.of(LedgerReason.ACCRUAL, LedgerReason.DECIDED),
+                entries.getAllValues().stream().map(VacationLedgerEntry::getReason).toList());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VacationLedgerEntry>> opening = ArgumentCaptor.forClass(List.class);
+        verify(ledgerRepository).saveAll(opening.capture());
+        assertEquals(List.of(4, 0), opening.getValue().stream().map(VacationLedgerEntry::getPendingDelta).toList());
+        assertEquals(List.of(0, 9), opening.getValue().stream().map(VacationLedgerEntry::getUsedDelta).toList());
+        assertTrue(opening.getValue().stream().allMatch(e -> e.getVacationId() != null && e.getReason() == LedgerReason.OPENING));
+        verify(balanceRepository).applyDelta(employeeId, 2031, 30, 0, 0);
+        verify(balanceRepository).applyDelta(employeeId, 2031, 0, 4, 9);
+        verify(balanceRepository).applyDelta(employeeId, 2031, 0, 0, 4);
+    }
+
+    private VacationChangedEvent event(LocalDate start, LocalDate end, VacationStatus previous, VacationStatus status) {
+        return new VacationChangedEvent(UUID.randomUUID(), employeeId, start, end, previous, status);
+    }
+}
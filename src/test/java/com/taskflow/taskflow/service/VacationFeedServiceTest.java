@@ -0,0 +1,137 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.FeedScope;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.FeedEntry;
+import com.taskflow.taskflow.event.EmployeeManagerChangedEvent;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.service.VacationFeedService.FeedKey;
+import com.taskflow.taskflow.service.VacationFeedService.RenderedFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationFeedService Tests")
+class VacationFeedServiceTest {
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private VacationFeedService vacationFeedService;
+
+    private final UUID employeeId = UUID.randomUUID();
+    private final UUID managerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        vacationFeedService = new VacationFeedService(vacationRepository, employeeRepository, 90);
+    }
+
+    @Test
+    @DisplayName("Should render all-day events with an exclusive end date")
+    void shouldRenderAllDayEvents() {
+        UUID vacationId = UUID.randomUUID();
+        when(vacationRepository.findPersonalFeed(eq(employeeId), any())).thenReturn(List.of(
+                new FeedEntry(vacationId, "Ana", "Souza, Jr", LocalDate.of(2030, 1, 10), LocalDate.of(2030, 1, 14), LocalDate.of(2029, 12, 1))
+        ));
+
+        RenderedFeed feed = vacationFeedService.render(new FeedKey(FeedScope.PERSONAL, employeeId));
+        String ics = new String(feed.body(), StandardCharsets.UTF_8);
+
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(ics.contains("UID:" + vacationId + "@taskflow\r\n"));
+        assertTrue(ics.contains("DTSTART;VALUE=DATE:20300110\r\n"));
+        assertTrue(ics.contains("DTEND;VALUE=DATE:20300115\r\n"));
+        assertTrue(ics.contains("SUMMARY:Vacation: Ana Souza\\, Jr\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+    }
+
+    @Test
+    @DisplayName("Should answer repeated polls from memory with the same ETag")
+    void shouldServeRepeatedPollsFromMemory() {
+        FeedKey key = new FeedKey(FeedScope.TEAM, managerId);
+        when(vacationRepository.findTeamFeed(eq(managerId), any())).thenReturn(List.of());
+
+        RenderedFeed first = vacationFeedService.render(key);
+        RenderedFeed second = vacationFeedService.render(key);
+
+        assertSame(first, second);
+        verify(vacationRepository, times(1)).findTeamFeed(eq(managerId), any());
+    }
+
+    @Test
+    @DisplayName("Should re-render the personal and team feed when an approved vacation changes")
+    void shouldEvictFeedsInScope() {
+        FeedKey personal = new FeedKey(FeedScope.PERSONAL, employeeId);
+        FeedKey team = new FeedKey(FeedScope.TEAM, managerId);
+        when(vacationRepository.findPersonalFeed(eq(employeeId), any())).thenReturn(List.of());
+        when(vacationRepository.findTeamFeed(eq(managerId), any())).thenReturn(List.of());
+        when(employeeRepository.findManagerIdById(employeeId)).thenReturn(Optional.of(managerId));
+        RenderedFeed before = vacationFeedService.render(personal);
+        vacationFeedService.render(team);
+
+        vacationFeedService.onVacationChanged(new VacationChangedEvent(UUID.randomUUID(), employeeId,
+                LocalDate.of(2030, 1, 10), LocalDate.of(2030, 1, 14), VacationStatus.PENDING, VacationStatus.APPROVED));
+        RenderedFeed after = vacationFeedService.render(personal);
+        vacationFeedService.render(team);
+
+        assertNotSame(before, after);
+        // unchanged data renders to the same bytes, so clients still get 304
+        assertEquals(before.etag(), after.etag());
+        verify(vacationRepository, times(2)).findPersonalFeed(eq(employeeId), any());
+        verify(vacationRepository, times(2)).findTeamFeed(eq(managerId), any());
+    }
+
+    @Test
+    @DisplayName("Should keep feeds when a change never touches an approved vacation")
+    void shouldIgnorePendingOnlyChanges() {
+        FeedKey personal = new FeedKey(FeedScope.PERSONAL, employeeId);
+        when(vacationRepository.findPersonalFeed(eq(employeeId), any())).thenReturn(List.of());
+        vacationFeedService.render(personal);
+
+        vacationFeedService.onVacationChanged(new VacationChangedEvent(UUID.randomUUID(), employeeId,
+                LocalDate.of(2030, 1, 10), LocalDate.of(2030, 1, 14), VacationStatus.PENDING, VacationStatus.REJECTED));
+        vacationFeedService.render(personal);
+
+        verify(vacationRepository, times(1)).findPersonalFeed(eq(employeeId), any());
+        verify(employeeRepository, never()).findManagerIdById(any());
+    }
+
+    @Test
+    @DisplayName("Should re-render team feeds but keep personal ones on manager reassignment")
+    void shouldEvictTeamFeedsOnReassignment() {
+        FeedKey personal = new FeedKey(FeedScope.PERSONAL, employeeId);
+        FeedKey team = new FeedKey(FeedScope.TEAM, managerId);
+        when(vacationRepository.findPersonalFeed(eq(employeeId), any())).thenReturn(List.of());
+        when(vacationRepository.findTeamFeed(eq(managerId), any())).thenReturn(List.of());
+        vacationFeedService.render(personal);
+        vacationFeedService.render(team);
+
+        vacationFeedService.onManagerChanged(new EmployeeManagerChangedEvent(employeeId, managerId, UUID.randomUUID()));
+        vacationFeedService.render(personal);
+        vacationFeedService.render(team);
+
+        verify(vacationRepository, times(1)).findPersonalFeed(eq(employeeId), any());
+        verify(vacationRepository, times(2)).findTeamFeed(eq(managerId), any());
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.BatchLookupResponse;
+import com.taskflow.taskflow.dto.VacationResponse;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.AuthorizationService;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationService - Batch Lookup Tests")
+class VacationServiceBatchTest {
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private VacationAvailabilityService vacationAvailabilityService;
+
+    @Mock
+    private EmployeeMutationLock employeeMutationLock;
+
+    @Mock
+    private VacationBalanceService vacationBalanceService;
+
+    @Mock
+    private VacationPolicyEngine vacationPolicyEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private VacationService vacationService;
+
+    @BeforeEach
+    void setUp() {
+        vacationService = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                vacationAvailabilityService, employeeMutationLock, vacationBalanceService,
+                vacationPolicyEngine, eventPublisher, 20
+        );
+    }
+
+    @Test
+    @DisplayName("Should split results into items, notFound and forbidden in request order")
+    void shouldSplitResultsInRequestOrder() {
+        Employee owner = createDefaultEmployee();
+        Employee other = createDefaultEmployee();
+
+        Vacation own = createExistingVacation(futureDate(10), futureDate(15), VacationStatus.PENDING);
+        own.setRequester(owner);
+        Vacation foreign = createExistingVacation(futureDate(20), futureDate(25), VacationStatus.APPROVED);
+        foreign.setRequester(other);
+        UUID missing = UUID.randomUUID();
+
+        when(authorizationService.readableVacations())
+                .thenReturn(v -> v.getRequester().getId().equals(owner.getId()));
+        when(vacationRepository.findAllById(any())).thenReturn(List.of(foreign, own));
+
+        BatchLookupResponse<VacationResponse> result = vacationService.findAllByIds(
+                List.of(missing, own.getId(), foreign.getId(), own.getId())
+        );
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(own.getId(), result.getItems().get(0).getId());
+        assertEquals(List.of(missing), result.getNotFound());
+        assertEquals(List.of(foreign.getId()), result.getForbidden());
+
+        verify(vacationRepository, times(1)).findAllById(any());
+        verifyNoMoreInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when ids are empty")
+    void shouldThrowBadRequestWhenIdsAreEmpty() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> vacationService.findAllByIds(List.of())
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals("Ids are required", exception.getReason());
+
+        verify(vacationRepository, never()).findAllById(any());
+    }
+}
@@ -0,0 +1,167 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.DecisionOutcome;
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.BulkDecisionItem;
+import com.taskflow.taskflow.dto.BulkDecisionResult;
+import com.taskflow.taskflow.dto.VacationDecisionTarget;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.AuthorizationService;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationService - Bulk Decision Tests")
+class VacationServiceBulkDecisionTest {
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private VacationAvailabilityService vacationAvailabilityService;
+
+    @Mock
+    private EmployeeMutationLock employeeMutationLock;
+
+    @Mock
+    private VacationBalanceService vacationBalanceService;
+
+    @Mock
+    private VacationPolicyEngine vacationPolicyEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private VacationService vacationService;
+    private Employee manager;
+
+    @BeforeEach
+    void setUp() {
+        vacationService = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                vacationAvailabilityService, employeeMutationLock, vacationBalanceService,
+                vacationPolicyEngine, eventPublisher, 20
+        );
+        manager = createDefaultEmployee();
+        manager.setRole(Role.MANAGER);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+    }
+
+    @Test
+    @DisplayName("Should report an outcome per item in request order and update once per decision group")
+    void shouldReportOutcomesAndGroupUpdates() {
+        VacationDecisionTarget approve1 = pending(manager.getId());
+        VacationDecisionTarget approve2 = pending(manager.getId());
+        VacationDecisionTarget reject = pending(manager.getId());
+        VacationDecisionTarget foreign = pending(UUID.randomUUID());
+        VacationDecisionTarget decided = new VacationDecisionTarget(UUID.randomUUID(), UUID.randomUUID(), manager.getId(),
+                futureDate(10), futureDate(12), VacationStatus.APPROVED);
+        UUID missing = UUID.randomUUID();
+
+        when(vacationRepository.findDecisionTargets(any())).thenReturn(List.of(approve1, approve2, reject, foreign, decided));
+        when(vacationRepository.decidePending(anyList(), eq("APPROVED"), eq("ok"), isNull(), any(), eq(manager.getId())))
+                .thenReturn(List.of(approve1.vacationId(), approve2.vacationId()));
+        when(vacationRepository.decidePending(anyList(), eq("REJECTED"), isNull(), eq("busy"), any(), eq(manager.getId())))
+                .thenReturn(List.of(reject.vacationId()));
+
+        List<BulkDecisionResult> results = vacationService.decideAll(List.of(
+                new BulkDecisionItem(approve1.vacationId(), true, "ok"),
+                new BulkDecisionItem(reject.vacationId(), false, "busy"),
+                new BulkDecisionItem(foreign.vacationId(), true, "ok"),
+                new BulkDecisionItem(decided.vacationId(), true, "ok"),
+                new BulkDecisionItem(missing, true, "ok"),
+                new BulkDecisionItem(approve2.vacationId(), true, "ok"),
+                new BulkDecisionItem(approve1.vacationId(), false, null)
+        ));
+
+        assertEquals(List.of(
+                DecisionOutcome.APPROVED, DecisionOutcome.REJECTED, DecisionOutcome.FORBIDDEN,
+                DecisionOutcome.NOT_PENDING, DecisionOutcome.NOT_FOUND, DecisionOutcome.APPROVED,
+                DecisionOutcome.DUPLICATE
+        ), results.stream().map(BulkDecisionResult::getOutcome).toList());
+
+        verify(vacationRepository, times(1)).findDecisionTargets(any());
+        verify(vacationRepository, times(2)).decidePending(anyList(), any(), any(), any(), any(), any());
+        verify(eventPublisher, times(3)).publishEvent(any(VacationChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should report NOT_PENDING for items another decider changed before the update")
+    void shouldReportConcurrentDecisions() {
+        VacationDecisionTarget won = pending(manager.getId());
+        VacationDecisionTarget lost = pending(manager.getId());
+
+        when(vacationRepository.findDecisionTargets(any())).thenReturn(List.of(won, lost));
+        when(vacationRepository.decidePending(anyList(), any(), any(), any(), any(), any())).thenReturn(List.of(won.vacationId()));
+
+        List<BulkDecisionResult> results = vacationService.decideAll(List.of(
+                new BulkDecisionItem(won.vacationId(), true, null),
+                new BulkDecisionItem(lost.vacationId(), true, null)
+        ));
+
+        assertEquals(DecisionOutcome.APPROVED, results.get(0).getOutcome());
+        assertEquals(DecisionOutcome.NOT_PENDING, results.get(1).getOutcome());
+        verify(vacationRepository, times(1)).findDecisionTargets(any());
+        verify(eventPublisher, times(1)).publishEvent(any(VacationChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should not claim or announce a decision another decider made the same way")
+    void shouldNotPublishWhenConcurrentDecisionHasSameStatus() {
+        VacationDecisionTarget mine = pending(manager.getId());
+        VacationDecisionTarget approvedElsewhere = pending(manager.getId());
+        VacationDecisionTarget deletedElsewhere = pending(manager.getId());
+
+        when(vacationRepository.findDecisionTargets(any())).thenReturn(List.of(mine, approvedElsewhere, deletedElsewhere));
+        // the other decider approved one row and another request deleted one, so only one row changes here
+        when(vacationRepository.decidePending(anyList(), eq("APPROVED"), any(), any(), any(), any()))
+                .thenReturn(List.of(mine.vacationId()));
+
+        List<BulkDecisionResult> results = vacationService.decideAll(List.of(
+                new BulkDecisionItem(mine.vacationId(), true, null),
+                new BulkDecisionItem(approvedElsewhere.vacationId(), true, null),
+                new BulkDecisionItem(deletedElsewhere.vacationId(), true, null)
+        ));
+
+        assertEquals(List.of(DecisionOutcome.APPROVED, DecisionOutcome.NOT_PENDING, DecisionOutcome.NOT_PENDING),
+                results.stream().map(BulkDecisionResult::getOutcome).toList());
+        ArgumentCaptor<VacationChangedEvent> events = ArgumentCaptor.forClass(VacationChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(events.capture());
+        assertEquals(mine.vacationId(), events.getValue().vacationId());
+        assertEquals(VacationStatus.APPROVED, events.getValue().status());
+    }
+
+    private static VacationDecisionTarget pending(UUID managerId) {
+        return new VacationDecisionTarget(UUID.randomUUID(), UUID.randomUUID(), managerId,
+                futureDate(10), futureDate(12), VacationStatus.PENDING);
+    }
+}
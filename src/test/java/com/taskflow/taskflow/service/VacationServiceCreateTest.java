@@ -1,32 +1,44 @@
 package com.taskflow.taskflow.service;
 
+import com.taskflow.taskflow.calendar.BusinessDayCalendar;
+import com.taskflow.taskflow.calendar.HolidayCalendars;
 import com.taskflow.taskflow.data.VacationStatus;
 import com.taskflow.taskflow.dto.VacationInput;
+import com.taskflow.taskflow.event.VacationChangedEvent;
 import com.taskflow.taskflow.exception.OverlappingVacationException;
+import com.taskflow.taskflow.index.VacationIntervalIndex;
 import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
 import com.taskflow.taskflow.repository.EmployeeRepository;
 import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.AuthorizationService;
 import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.util.SqlStateUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static com.taskflow.taskflow.util.VacationTestHelper.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,11 +51,33 @@ class VacationServiceCreateTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private VacationAvailabilityService vacationAvailabilityService;
+
+    @Mock
+    private EmployeeMutationLock employeeMutationLock;
+
+    @Mock
+    private VacationBalanceService vacationBalanceService;
+
+    @Mock
+    private VacationPolicyEngine vacationPolicyEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private VacationService vacationService;
 
     @BeforeEach
     void setUp() {
-        vacationService = new VacationService(vacationRepository, currentUserService, 20);
+        vacationService = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                vacationAvailabilityService, employeeMutationLock, vacationBalanceService,
+                vacationPolicyEngine, eventPublisher, 20
+        );
     }
 
     @Test
@@ -65,12 +99,71 @@ class VacationServiceCreateTest {
         assertEquals(VacationStatus.PENDING, result.getStatus());
 
         verify(currentUserService, times(1)).getCurrentEmployee();
-        verify(vacationRepository, times(1)).findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(
-                any(LocalDate.class),
-                any(LocalDate.class),
-                eq(Arrays.asList(VacationStatus.PENDING, VacationStatus.APPROVED))
+        verify(vacationRepository, times(1)).saveAndFlush(any(Vacation.class));
+        verify(vacationAvailabilityService, never()).validateNoOverlap(any(), any(), any(), any());
+
+        ArgumentCaptor<VacationChangedEvent> eventCaptor = ArgumentCaptor.forClass(VacationChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(result.getId(), eventCaptor.getValue().vacationId());
+        assertNull(eventCaptor.getValue().previousStatus());
+        assertEquals(VacationStatus.PENDING, eventCaptor.getValue().status());
+    }
+
+    @Test
+    @DisplayName("Should lock the overlap scope before writing")
+    void shouldLockScopeBeforeWriting() {
+        Employee currentEmployee = createDefaultEmployee();
+        List<UUID> scope = List.of(currentEmployee.getId());
+        setupSuccessfulCreationMocks(currentUserService, vacationRepository, currentEmployee);
+        when(vacationAvailabilityService.overlapScope(currentEmployee)).thenReturn(scope);
+
+        vacationService.create(createVacationInput(futureDate(10), futureDate(15)));
+
+        InOrder inOrder = inOrder(employeeMutationLock, vacationRepository);
+        inOrder.verify(employeeMutationLock).lockForTransaction(scope);
+        inOrder.verify(vacationRepository).saveAndFlush(any(Vacation.class));
+    }
+
+    @Test
+    @DisplayName("Should not write the vacation when the balance check fails")
+    void shouldNotWriteWhenBalanceIsInsufficient() {
+        LocalDate startDate = futureDate(10);
+        LocalDate endDate = futureDate(15);
+        Employee currentEmployee = createDefaultEmployee();
+
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(currentEmployee));
+        doThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Insufficient vacation balance"))
+                .when(vacationBalanceService).requireAvailable(currentEmployee.getId(), startDate, endDate);
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> vacationService.create(createVacationInput(startDate, endDate))
         );
-        verify(vacationRepository, times(1)).save(any(Vacation.class));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(vacationRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should not write the vacation when a policy rejects it")
+    void shouldNotWriteWhenPolicyRejects() {
+        LocalDate startDate = futureDate(10);
+        LocalDate endDate = futureDate(15);
+        Employee currentEmployee = createDefaultEmployee();
+
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(currentEmployee));
+        doThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Policy Year-end freeze: vacations cannot include the period"))
+                .when(vacationPolicyEngine).validate(currentEmployee, startDate, endDate);
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> vacationService.create(createVacationInput(startDate, endDate))
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(vacationBalanceService);
+        verify(vacationRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -83,12 +176,8 @@ class VacationServiceCreateTest {
         VacationInput input = createVacationInput(startDate, endDate);
 
         when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(currentEmployee));
-        when(vacationRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(
-                any(LocalDate.class), any(LocalDate.class), eq(Arrays.asList(VacationStatus.PENDING, VacationStatus.APPROVED))
-        )).thenReturn(Collections.emptyList());
-
         ArgumentCaptor<Vacation> vacationCaptor = ArgumentCaptor.forClass(Vacation.class);
-        when(vacationRepository.save(vacationCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(vacationRepository.saveAndFlush(vacationCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
 
         vacationService.create(input);
 
@@ -108,7 +197,7 @@ class VacationServiceCreateTest {
         assertEquals("Request body required", exception.getReason());
 
         verify(currentUserService, never()).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
+        verify(vacationRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -124,7 +213,7 @@ class VacationServiceCreateTest {
         );
 
         verify(currentUserService, never()).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
+        verify(vacationRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -140,7 +229,7 @@ class VacationServiceCreateTest {
         );
 
         verify(currentUserService, never()).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
+        verify(vacationRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -159,7 +248,7 @@ class VacationServiceCreateTest {
         assertEquals("Start date cannot be in the past", exception.getReason());
 
         verify(currentUserService, never()).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
+        verify(vacationRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -178,7 +267,7 @@ class VacationServiceCreateTest {
         assertEquals("End date cannot be before start date", exception.getReason());
 
         verify(currentUserService, never()).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
+        verify(vacationRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -199,7 +288,7 @@ class VacationServiceCreateTest {
         assertEquals("Vacation must be at least one day long", exception.getReason());
 
         verify(currentUserService, never()).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
+        verify(vacationRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -216,7 +305,7 @@ class VacationServiceCreateTest {
                 VacationStatus.PENDING
         );
 
-        setupConflictMocks(currentUserService, vacationRepository, currentEmployee, existingVacation);
+        setupConflictMocks(currentUserService, vacationRepository, vacationAvailabilityService, currentEmployee, existingVacation);
 
         OverlappingVacationException exception = assertThrows(
                 OverlappingVacationException.class,
@@ -228,12 +317,9 @@ class VacationServiceCreateTest {
         assertTrue(exception.getRequestedDays() > 0);
 
         verify(currentUserService, times(1)).getCurrentEmployee();
-        verify(vacationRepository, times(1)).findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(
-                any(LocalDate.class),
-                any(LocalDate.class),
-                eq(Arrays.asList(VacationStatus.PENDING, VacationStatus.APPROVED))
-        );
-        verify(vacationRepository, never()).save(any());
+        verify(vacationRepository, times(1)).saveAndFlush(any(Vacation.class));
+        verify(vacationAvailabilityService, times(1)).overlappingVacation(eq(List.of(currentEmployee.getId())), any(), eq(dates[0]), eq(dates[1]));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -250,7 +336,7 @@ class VacationServiceCreateTest {
                 VacationStatus.APPROVED
         );
 
-        setupConflictMocks(currentUserService, vacationRepository, currentEmployee, existingVacation);
+        setupConflictMocks(currentUserService, vacationRepository, vacationAvailabilityService, currentEmployee, existingVacation);
 
         OverlappingVacationException exception = assertThrows(
                 OverlappingVacationException.class,
@@ -262,30 +348,131 @@ class VacationServiceCreateTest {
         assertTrue(exception.getRequestedDays() > 0);
 
         verify(currentUserService, times(1)).getCurrentEmployee();
-        verify(vacationRepository, times(1)).findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(
-                any(LocalDate.class),
-                any(LocalDate.class),
-                eq(Arrays.asList(VacationStatus.PENDING, VacationStatus.APPROVED))
+        verify(vacationRepository, times(1)).saveAndFlush(any(Vacation.class));
+        verify(vacationAvailabilityService, times(1)).overlappingVacation(eq(List.of(currentEmployee.getId())), any(), eq(dates[0]), eq(dates[1]));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should answer an overlap without querying the transaction the failed insert aborted")
+    void shouldBuildOverlapErrorWithoutQueryingAbortedTransaction() {
+        LocalDate[] dates = futureDateRange(10, 5);
+        Employee currentEmployee = createDefaultEmployee();
+        currentEmployee.setLocation("BR");
+        int year = LocalDate.now().getYear();
+        BusinessDayCalendar calendar = BusinessDayCalendar.build("BR", List.of(), year - 1, year + 2);
+
+        // after 23P01 PostgreSQL rejects every statement until rollback (25P02)
+        RuntimeException aborted = new InvalidDataAccessResourceUsageException(
+                "current transaction is aborted, commands ignored until end of transaction block");
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class, invocation -> {
+            throw aborted;
+        });
+        HolidayCalendars holidayCalendars = mock(HolidayCalendars.class);
+        when(holidayCalendars.forLocation("BR")).thenReturn(calendar);
+        lenient().when(holidayCalendars.forEmployee(any())).thenThrow(aborted);
+        VacationIntervalIndex vacationIntervalIndex = mock(VacationIntervalIndex.class);
+        when(vacationIntervalIndex.occupiedDays(any(), any(), any())).thenReturn(new BitSet());
+
+        VacationService service = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                new VacationAvailabilityService(vacationIntervalIndex, employeeRepository, holidayCalendars, false, false, new String[0]),
+                employeeMutationLock, vacationBalanceService, vacationPolicyEngine, eventPublisher, 20
         );
-        verify(vacationRepository, never()).save(any());
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(currentEmployee));
+        when(vacationRepository.saveAndFlush(any(Vacation.class))).thenThrow(exclusionViolation());
+
+        OverlappingVacationException exception = assertThrows(
+                OverlappingVacationException.class,
+                () -> service.create(createVacationInput(dates[0], dates[1]))
+        );
+
+        assertEquals(calendar.businessDays(dates[0], dates[1]), exception.getRequestedDays());
+        verify(vacationRepository).saveAndFlush(any(Vacation.class));
+        verifyNoMoreInteractions(vacationRepository);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
-    @DisplayName("Should check conflicts only for PENDING and APPROVED statuses")
-    void shouldCheckConflictsOnlyForPendingAndApprovedStatuses() {
+    @DisplayName("Should rely on the exclusion constraint alone when the scope is the requester")
+    void shouldRelyOnExclusionConstraintForRequesterScope() {
         LocalDate[] dates = futureDateRange(5, 5);
 
         Employee currentEmployee = createDefaultEmployee();
         VacationInput input = createVacationInput(dates[0], dates[1]);
         setupSuccessfulCreationMocks(currentUserService, vacationRepository, currentEmployee);
+        when(vacationAvailabilityService.overlapScope(currentEmployee)).thenReturn(List.of(currentEmployee.getId()));
 
         vacationService.create(input);
 
-        verify(vacationRepository, times(1)).findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(
-                any(LocalDate.class),
-                any(LocalDate.class),
-                eq(Arrays.asList(VacationStatus.PENDING, VacationStatus.APPROVED))
+        verify(vacationRepository, times(1)).saveAndFlush(any(Vacation.class));
+        verify(vacationAvailabilityService, never()).validateNoOverlap(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations that are not overlaps")
+    void shouldRethrowOtherIntegrityViolations() {
+        LocalDate[] dates = futureDateRange(5, 5);
+
+        Employee currentEmployee = createDefaultEmployee();
+        VacationInput input = createVacationInput(dates[0], dates[1]);
+        DataIntegrityViolationException other = new DataIntegrityViolationException(
+                "fk", new SQLException("violates foreign key constraint", SqlStateUtils.FOREIGN_KEY_VIOLATION));
+
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(currentEmployee));
+        when(vacationRepository.saveAndFlush(any(Vacation.class))).thenThrow(other);
+
+        assertSame(other, assertThrows(DataIntegrityViolationException.class, () -> vacationService.create(input)));
+        verify(vacationAvailabilityService, never()).overlappingVacation(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should check the team in memory before inserting when the scope includes teammates")
+    void shouldCheckTeamScopeBeforeInsert() {
+        LocalDate[] dates = futureDateRange(10, 5);
+
+        Employee teammate = createDefaultEmployee();
+        Employee currentEmployee = createDefaultEmployee();
+        VacationInput input = createVacationInput(dates[0], dates[1]);
+        List<UUID> scope = List.of(teammate.getId(), currentEmployee.getId());
+
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(currentEmployee));
+        when(vacationAvailabilityService.overlapScope(currentEmployee)).thenReturn(scope);
+        doThrow(new OverlappingVacationException("Requested vacation overlaps with an existing vacation", List.of(), 6))
+                .when(vacationAvailabilityService).validateNoOverlap(eq(scope), any(), eq(dates[0]), eq(dates[1]));
+
+        assertThrows(OverlappingVacationException.class, () -> vacationService.create(input));
+
+        verify(vacationRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should suggest windows for the current user's scope")
+    void shouldSuggestWindowsForCurrentUser() {
+        LocalDate[] dates = futureDateRange(10, 5);
+        Employee currentEmployee = createDefaultEmployee();
+        List<OverlappingVacationException.Suggestion> suggestions =
+                List.of(new OverlappingVacationException.Suggestion(futureDate(20), futureDate(25)));
+
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(currentEmployee));
+        when(vacationAvailabilityService.overlapScope(currentEmployee)).thenReturn(List.of(currentEmployee.getId()));
+        when(vacationAvailabilityService.suggest(List.of(currentEmployee.getId()), dates[0], dates[1], 3)).thenReturn(suggestions);
+
+        assertEquals(suggestions, vacationService.suggest(dates[0], dates[1], null));
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when the suggestion limit is out of range")
+    void shouldThrowBadRequestWhenSuggestionLimitIsOutOfRange() {
+        LocalDate[] dates = futureDateRange(10, 5);
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> vacationService.suggest(dates[0], dates[1], VacationService.MAX_SUGGESTIONS + 1)
         );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(vacationAvailabilityService);
     }
 }
-
@@ -1,9 +1,12 @@
 package com.taskflow.taskflow.service;
 
 import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.event.VacationChangedEvent;
 import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
 import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.AuthorizationService;
 import com.taskflow.taskflow.security.CurrentUserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,16 +15,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.taskflow.taskflow.util.VacationTestHelper.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,11 +50,33 @@ class VacationServiceDecideTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private VacationAvailabilityService vacationAvailabilityService;
+
+    @Mock
+    private EmployeeMutationLock employeeMutationLock;
+
+    @Mock
+    private VacationBalanceService vacationBalanceService;
+
+    @Mock
+    private VacationPolicyEngine vacationPolicyEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private VacationService vacationService;
 
     @BeforeEach
     void setUp() {
-        vacationService = new VacationService(vacationRepository, currentUserService, 20);
+        vacationService = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                vacationAvailabilityService, employeeMutationLock, vacationBalanceService,
+                vacationPolicyEngine, eventPublisher, 20
+        );
     }
 
     @Test
@@ -51,16 +89,11 @@ class VacationServiceDecideTest {
         Employee manager = createDefaultEmployee();
         manager.setId(managerId);
 
-        Vacation pendingVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.PENDING
-        );
-        pendingVacation.setId(vacationId);
+        Vacation pendingVacation = pendingVacation(vacationId);
 
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(pendingVacation));
         when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
-        when(vacationRepository.save(any(Vacation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(vacationRepository.decideIfPending(eq(vacationId), eq("APPROVED"), eq(approvalComment), isNull(), any(), eq(managerId)))
+                .thenAnswer(applyTo(pendingVacation));
 
         Vacation result = vacationService.decide(vacationId, true, approvalComment);
 
@@ -71,9 +104,9 @@ class VacationServiceDecideTest {
         assertEquals(managerId, result.getDecidedBy());
         assertNull(result.getRejectionReason());
 
-        verify(vacationRepository, times(1)).findById(vacationId);
         verify(currentUserService, times(1)).getCurrentEmployee();
-        verify(vacationRepository, times(1)).save(pendingVacation);
+        verify(vacationRepository, never()).findById(any());
+        verify(vacationRepository, never()).save(any());
     }
 
     @Test
@@ -86,16 +119,11 @@ class VacationServiceDecideTest {
         Employee manager = createDefaultEmployee();
         manager.setId(managerId);
 
-        Vacation pendingVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.PENDING
-        );
-        pendingVacation.setId(vacationId);
+        Vacation pendingVacation = pendingVacation(vacationId);
 
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(pendingVacation));
         when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
-        when(vacationRepository.save(any(Vacation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(vacationRepository.decideIfPending(eq(vacationId), eq("REJECTED"), isNull(), eq(rejectionReason), any(), eq(managerId)))
+                .thenAnswer(applyTo(pendingVacation));
 
         Vacation result = vacationService.decide(vacationId, false, rejectionReason);
 
@@ -106,9 +134,8 @@ class VacationServiceDecideTest {
         assertEquals(managerId, result.getDecidedBy());
         assertNull(result.getApprovalComment());
 
-        verify(vacationRepository, times(1)).findById(vacationId);
         verify(currentUserService, times(1)).getCurrentEmployee();
-        verify(vacationRepository, times(1)).save(pendingVacation);
+        verify(vacationRepository, never()).save(any());
     }
 
     @Test
@@ -122,8 +149,7 @@ class VacationServiceDecideTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Vacation id is required", exception.getReason());
 
-        verify(vacationRepository, never()).findById(any());
-        verify(vacationRepository, never()).save(any());
+        verifyNoInteractions(vacationRepository);
     }
 
     @Test
@@ -131,7 +157,9 @@ class VacationServiceDecideTest {
     void shouldThrowNotFoundWhenVacationDoesNotExist() {
         UUID nonExistentId = UUID.randomUUID();
 
-        when(vacationRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        when(vacationRepository.decideIfPending(eq(nonExistentId), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(vacationRepository.existsById(nonExistentId)).thenReturn(false);
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -141,8 +169,8 @@ class VacationServiceDecideTest {
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
         assertEquals("Vacation not found", exception.getReason());
 
-        verify(vacationRepository, times(1)).findById(nonExistentId);
-        verify(vacationRepository, never()).save(any());
+        verify(vacationRepository, times(1)).existsById(nonExistentId);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -150,14 +178,9 @@ class VacationServiceDecideTest {
     void shouldThrowBadRequestWhenVacationIsAlreadyApproved() {
         UUID vacationId = UUID.randomUUID();
 
-        Vacation approvedVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.APPROVED
-        );
-        approvedVacation.setId(vacationId);
-
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(approvedVacation));
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        when(vacationRepository.decideIfPending(eq(vacationId), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(vacationRepository.existsById(vacationId)).thenReturn(true);
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -167,9 +190,7 @@ class VacationServiceDecideTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Only pending vacations can be decided", exception.getReason());
 
-        verify(vacationRepository, times(1)).findById(vacationId);
-        verify(currentUserService, never()).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -177,14 +198,9 @@ class VacationServiceDecideTest {
     void shouldThrowBadRequestWhenVacationIsAlreadyRejected() {
         UUID vacationId = UUID.randomUUID();
 
-        Vacation rejectedVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.REJECTED
-        );
-        rejectedVacation.setId(vacationId);
-
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(rejectedVacation));
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        when(vacationRepository.decideIfPending(eq(vacationId), eq("REJECTED"), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(vacationRepository.existsById(vacationId)).thenReturn(true);
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -193,10 +209,6 @@ class VacationServiceDecideTest {
 
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Only pending vacations can be decided", exception.getReason());
-
-        verify(vacationRepository, times(1)).findById(vacationId);
-        verify(currentUserService, never()).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
     }
 
     @Test
@@ -204,14 +216,6 @@ class VacationServiceDecideTest {
     void shouldThrowForbiddenWhenCurrentUserCannotBeResolved() {
         UUID vacationId = UUID.randomUUID();
 
-        Vacation pendingVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.PENDING
-        );
-        pendingVacation.setId(vacationId);
-
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(pendingVacation));
         when(currentUserService.getCurrentEmployee()).thenReturn(Optional.empty());
 
         ResponseStatusException exception = assertThrows(
@@ -222,79 +226,68 @@ class VacationServiceDecideTest {
         assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
         assertEquals("Unable to resolve current user", exception.getReason());
 
-        verify(vacationRepository, times(1)).findById(vacationId);
         verify(currentUserService, times(1)).getCurrentEmployee();
-        verify(vacationRepository, never()).save(any());
+        verifyNoInteractions(vacationRepository);
     }
 
     @Test
     @DisplayName("Should set decidedAt to current date when approving")
     void shouldSetDecidedAtToCurrentDateWhenApproving() {
         UUID vacationId = UUID.randomUUID();
-        Employee manager = createDefaultEmployee();
 
-        Vacation pendingVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.PENDING
-        );
-        pendingVacation.setId(vacationId);
-
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(pendingVacation));
-        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
-
-        ArgumentCaptor<Vacation> vacationCaptor = ArgumentCaptor.forClass(Vacation.class);
-        when(vacationRepository.save(vacationCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        ArgumentCaptor<LocalDate> decidedAt = ArgumentCaptor.forClass(LocalDate.class);
+        when(vacationRepository.decideIfPending(eq(vacationId), eq("APPROVED"), any(), any(), decidedAt.capture(), any()))
+                .thenAnswer(applyTo(pendingVacation(vacationId)));
 
         vacationService.decide(vacationId, true, "Approved");
 
-        Vacation savedVacation = vacationCaptor.getValue();
-        assertNotNull(savedVacation.getDecidedAt());
-        assertEquals(LocalDate.now(), savedVacation.getDecidedAt());
+        assertEquals(LocalDate.now(), decidedAt.getValue());
     }
 
     @Test
     @DisplayName("Should set decidedAt to current date when rejecting")
     void shouldSetDecidedAtToCurrentDateWhenRejecting() {
         UUID vacationId = UUID.randomUUID();
-        Employee manager = createDefaultEmployee();
 
-        Vacation pendingVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.PENDING
-        );
-        pendingVacation.setId(vacationId);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        ArgumentCaptor<LocalDate> decidedAt = ArgumentCaptor.forClass(LocalDate.class);
+        when(vacationRepository.decideIfPending(eq(vacationId), eq("REJECTED"), any(), any(), decidedAt.capture(), any()))
+                .thenAnswer(applyTo(pendingVacation(vacationId)));
 
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(pendingVacation));
-        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        vacationService.decide(vacationId, false, "Rejected");
 
-        ArgumentCaptor<Vacation> vacationCaptor = ArgumentCaptor.forClass(Vacation.class);
-        when(vacationRepository.save(vacationCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        assertEquals(LocalDate.now(), decidedAt.getValue());
+    }
+
+    @Test
+    @DisplayName("Should publish a decision event carrying the previous status")
+    void shouldPublishDecisionEvent() {
+        UUID vacationId = UUID.randomUUID();
+        Vacation pendingVacation = pendingVacation(vacationId);
+
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        when(vacationRepository.decideIfPending(eq(vacationId), any(), any(), any(), any(), any()))
+                .thenAnswer(applyTo(pendingVacation));
 
         vacationService.decide(vacationId, false, "Rejected");
 
-        Vacation savedVacation = vacationCaptor.getValue();
-        assertNotNull(savedVacation.getDecidedAt());
-        assertEquals(LocalDate.now(), savedVacation.getDecidedAt());
+        ArgumentCaptor<VacationChangedEvent> eventCaptor = ArgumentCaptor.forClass(VacationChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(vacationId, eventCaptor.getValue().vacationId());
+        assertEquals(pendingVacation.getRequester().getId(), eventCaptor.getValue().employeeId());
+        assertEquals(VacationStatus.PENDING, eventCaptor.getValue().previousStatus());
+        assertEquals(VacationStatus.REJECTED, eventCaptor.getValue().status());
     }
 
     @Test
     @DisplayName("Should handle approval with null comment")
     void shouldHandleApprovalWithNullComment() {
         UUID vacationId = UUID.randomUUID();
-        Employee manager = createDefaultEmployee();
-
-        Vacation pendingVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.PENDING
-        );
-        pendingVacation.setId(vacationId);
 
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(pendingVacation));
-        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
-        when(vacationRepository.save(any(Vacation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        when(vacationRepository.decideIfPending(eq(vacationId), eq("APPROVED"), isNull(), isNull(), any(), any()))
+                .thenAnswer(applyTo(pendingVacation(vacationId)));
 
         Vacation result = vacationService.decide(vacationId, true, null);
 
@@ -307,18 +300,10 @@ class VacationServiceDecideTest {
     @DisplayName("Should handle rejection with null comment")
     void shouldHandleRejectionWithNullComment() {
         UUID vacationId = UUID.randomUUID();
-        Employee manager = createDefaultEmployee();
-
-        Vacation pendingVacation = createExistingVacation(
-                futureDate(10),
-                futureDate(15),
-                VacationStatus.PENDING
-        );
-        pendingVacation.setId(vacationId);
 
-        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(pendingVacation));
-        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
-        when(vacationRepository.save(any(Vacation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        when(vacationRepository.decideIfPending(eq(vacationId), eq("REJECTED"), isNull(), isNull(), any(), any()))
+                .thenAnswer(applyTo(pendingVacation(vacationId)));
 
         Vacation result = vacationService.decide(vacationId, false, null);
 
@@ -326,5 +311,84 @@ class VacationServiceDecideTest {
         assertEquals(VacationStatus.REJECTED, result.getStatus());
         assertNull(result.getRejectionReason());
     }
-}
 
+    @Test
+    @DisplayName("Should let exactly one of many concurrent deciders win")
+    void shouldLetExactlyOneConcurrentDeciderWin() throws Exception {
+        int deciders = 16;
+        UUID vacationId = UUID.randomUUID();
+        Vacation row = pendingVacation(vacationId);
+        // stands in for the row: the conditional UPDATE only matches while it is still PENDING
+        AtomicReference<VacationStatus> stored = new AtomicReference<>(VacationStatus.PENDING);
+
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(createDefaultEmployee()));
+        when(vacationRepository.existsById(vacationId)).thenReturn(true);
+        when(vacationRepository.decideIfPending(eq(vacationId), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            VacationStatus status = VacationStatus.valueOf(invocation.getArgument(1));
+            if (!stored.compareAndSet(VacationStatus.PENDING, status)) {
+                return Optional.empty();
+            }
+            Vacation decided = copyOf(row);
+            decided.setStatus(status);
+            return Optional.of(decided);
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(deciders);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Vacation>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < deciders; i++) {
+                boolean approve = i % 2 == 0;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return vacationService.decide(vacationId, approve, null);
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            int losers = 0;
+            for (Future<Vacation> result : results) {
+                try {
+                    assertEquals(stored.get(), result.get(10, TimeUnit.SECONDS).getStatus());
+                    winners++;
+                } catch (ExecutionException ex) {
+                    ResponseStatusException rse = assertInstanceOf(ResponseStatusException.class, ex.getCause());
+                    assertEquals("Only pending vacations can be decided", rse.getReason());
+                    losers++;
+                }
+            }
+
+            assertEquals(1, winners);
+            assertEquals(deciders - 1, losers);
+            verify(eventPublisher, times(1)).publishEvent(any(VacationChangedEvent.class));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Vacation pendingVacation(UUID vacationId) {
+        Vacation vacation = createExistingVacation(futureDate(10), futureDate(15), VacationStatus.PENDING);
+        vacation.setId(vacationId);
+        return vacation;
+    }
+
+    private static Vacation copyOf(Vacation source) {
+        Vacation copy = createExistingVacation(source.getStartDate(), source.getEndDate(), source.getStatus());
+        copy.setId(source.getId());
+        copy.setRequester(source.getRequester());
+        return copy;
+    }
+
+    // plays the UPDATE ... RETURNING: the row comes back with the decision columns written
+    private static Answer<Optional<Vacation>> applyTo(Vacation pending) {
+        return invocation -> {
+            pending.setStatus(VacationStatus.valueOf(invocation.getArgument(1)));
+            pending.setApprovalComment(invocation.getArgument(2));
+            pending.setRejectionReason(invocation.getArgument(3));
+            pending.setDecidedAt(invocation.getArgument(4));
+            pending.setDecidedBy(invocation.getArgument(5));
+            return Optional.of(pending);
+        };
+    }
+}
@@ -1,19 +1,29 @@
 package com.taskflow.taskflow.service;
 
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
 import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.AuthorizationService;
 import com.taskflow.taskflow.security.CurrentUserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Optional;
 import java.util.UUID;
 
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,25 +36,65 @@ class VacationServiceDeleteTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private VacationAvailabilityService vacationAvailabilityService;
+
+    @Mock
+    private EmployeeMutationLock employeeMutationLock;
+
+    @Mock
+    private VacationBalanceService vacationBalanceService;
+
+    @Mock
+    private VacationPolicyEngine vacationPolicyEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private VacationService vacationService;
 
     @BeforeEach
     void setUp() {
-        vacationService = new VacationService(vacationRepository, currentUserService, 20);
+        vacationService = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                vacationAvailabilityService, employeeMutationLock, vacationBalanceService,
+                vacationPolicyEngine, eventPublisher, 20
+        );
     }
 
     @Test
     @DisplayName("Should delete vacation successfully when ID exists")
     void shouldDeleteVacationSuccessfully() {
-        UUID vacationId = UUID.randomUUID();
+        Vacation vacation = createExistingVacation(futureDate(10), futureDate(15), VacationStatus.PENDING);
+        vacation.setRequester(createDefaultEmployee());
+        UUID vacationId = vacation.getId();
 
-        when(vacationRepository.existsById(vacationId)).thenReturn(true);
-        doNothing().when(vacationRepository).deleteById(vacationId);
+        when(vacationRepository.findById(vacationId)).thenReturn(Optional.of(vacation));
 
         assertDoesNotThrow(() -> vacationService.delete(vacationId));
 
-        verify(vacationRepository, times(1)).existsById(vacationId);
-        verify(vacationRepository, times(1)).deleteById(vacationId);
+        verify(vacationRepository, times(1)).findById(vacationId);
+        verify(vacationRepository, times(1)).delete(vacation);
+    }
+
+    @Test
+    @DisplayName("Should publish a deletion event so in-memory indexes drop the vacation")
+    void shouldPublishDeletionEvent() {
+        Vacation vacation = createExistingVacation(futureDate(10), futureDate(15), VacationStatus.APPROVED);
+        vacation.setRequester(createDefaultEmployee());
+
+        when(vacationRepository.findById(vacation.getId())).thenReturn(Optional.of(vacation));
+
+        vacationService.delete(vacation.getId());
+
+        ArgumentCaptor<VacationChangedEvent> eventCaptor = ArgumentCaptor.forClass(VacationChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(vacation.getId(), eventCaptor.getValue().vacationId());
+        assertEquals(VacationStatus.APPROVED, eventCaptor.getValue().previousStatus());
+        assertTrue(eventCaptor.getValue().isDeletion());
     }
 
     @Test
@@ -58,8 +108,8 @@ class VacationServiceDeleteTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Id is required", exception.getReason());
 
-        verify(vacationRepository, never()).existsById(any());
-        verify(vacationRepository, never()).deleteById(any());
+        verify(vacationRepository, never()).findById(any());
+        verify(vacationRepository, never()).delete(any());
     }
 
     @Test
@@ -67,7 +117,7 @@ class VacationServiceDeleteTest {
     void shouldThrowNotFoundWhenVacationDoesNotExist() {
         UUID nonExistentId = UUID.randomUUID();
 
-        when(vacationRepository.existsById(nonExistentId)).thenReturn(false);
+        when(vacationRepository.findById(nonExistentId)).thenReturn(Optional.empty());
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -77,8 +127,9 @@ class VacationServiceDeleteTest {
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
         assertEquals("Vacation not found", exception.getReason());
 
-        verify(vacationRepository, times(1)).existsById(nonExistentId);
-        verify(vacationRepository, never()).deleteById(any());
+        verify(vacationRepository, times(1)).findById(nonExistentId);
+        verify(vacationRepository, never()).delete(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
 
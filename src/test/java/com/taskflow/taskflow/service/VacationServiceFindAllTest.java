@@ -0,0 +1,89 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.Role;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.AuthorizationService;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Optional;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationService - List Tests")
+class VacationServiceFindAllTest {
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private VacationAvailabilityService vacationAvailabilityService;
+
+    @Mock
+    private EmployeeMutationLock employeeMutationLock;
+
+    @Mock
+    private VacationBalanceService vacationBalanceService;
+
+    @Mock
+    private VacationPolicyEngine vacationPolicyEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private VacationService vacationService;
+    private Employee manager;
+
+    @BeforeEach
+    void setUp() {
+        vacationService = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                vacationAvailabilityService, employeeMutationLock, vacationBalanceService,
+                vacationPolicyEngine, eventPublisher, 20
+        );
+        manager = createDefaultEmployee();
+        manager.setRole(Role.MANAGER);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+    }
+
+    @Test
+    @DisplayName("Should list a manager's team with one join query keyed by the manager id")
+    void shouldListDirectTeamByManagerId() {
+        when(vacationRepository.findForManager(manager.getId(), PageRequest.of(0, 20))).thenReturn(Page.empty());
+
+        vacationService.findAll(0, false);
+
+        verify(vacationRepository, times(1)).findForManager(manager.getId(), PageRequest.of(0, 20));
+        verify(vacationRepository, never()).findForManagerTransitive(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should list the whole reporting subtree when transitive is requested")
+    void shouldListSubtreeWhenTransitive() {
+        when(vacationRepository.findForManagerTransitive(manager.getId(), PageRequest.of(1, 20))).thenReturn(Page.empty());
+
+        vacationService.findAll(1, true);
+
+        verify(vacationRepository, times(1)).findForManagerTransitive(manager.getId(), PageRequest.of(1, 20));
+        verify(vacationRepository, never()).findForManager(any(), any());
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.CursorPage;
+import com.taskflow.taskflow.dto.VacationFilter;
+import com.taskflow.taskflow.dto.VacationResponse;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.AuthorizationService;
+import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.util.VacationCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationService - Search Tests")
+class VacationServiceSearchTest {
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private VacationAvailabilityService vacationAvailabilityService;
+
+    @Mock
+    private EmployeeMutationLock employeeMutationLock;
+
+    @Mock
+    private VacationBalanceService vacationBalanceService;
+
+    @Mock
+    private VacationPolicyEngine vacationPolicyEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private VacationService vacationService;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        vacationService = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                vacationAvailabilityService, employeeMutationLock, vacationBalanceService,
+                vacationPolicyEngine, eventPublisher, 20
+        );
+        employee = createDefaultEmployee();
+    }
+
+    @Test
+    @DisplayName("Should return a cursor pointing at the last row when another page exists")
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        Vacation first = createExistingVacation(futureDate(10), futureDate(12), VacationStatus.PENDING);
+        Vacation second = createExistingVacation(futureDate(20), futureDate(22), VacationStatus.PENDING);
+        Vacation extra = createExistingVacation(futureDate(30), futureDate(32), VacationStatus.PENDING);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(employee));
+        when(vacationRepository.findBy(any(Specification.class), any())).thenReturn(List.of(first, second, extra));
+
+        CursorPage<VacationResponse> result = vacationService.search(new VacationFilter(), null, 2);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(second.getId(), result.getItems().get(1).getId());
+        assertEquals(VacationCursor.after(second), VacationCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should return no cursor on the last page")
+    void shouldReturnNoCursorOnLastPage() {
+        Vacation only = createExistingVacation(futureDate(10), futureDate(12), VacationStatus.APPROVED);
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(employee));
+        when(vacationRepository.findBy(any(Specification.class), any())).thenReturn(List.of(only));
+
+        CursorPage<VacationResponse> result = vacationService.search(
+                new VacationFilter(VacationStatus.APPROVED, null, null, null, null, false),
+                VacationCursor.after(createExistingVacation(futureDate(1), futureDate(2), VacationStatus.APPROVED)).encode(),
+                null
+        );
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST for a cursor it did not issue")
+    void shouldRejectInvalidCursor() {
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(employee));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> vacationService.search(new VacationFilter(), "not-a-cursor", null)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals("Invalid cursor", exception.getReason());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when size is out of range")
+    void shouldRejectOutOfRangeSize() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> vacationService.search(new VacationFilter(), null, VacationService.MAX_SEARCH_SIZE + 1)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(vacationRepository);
+    }
+}
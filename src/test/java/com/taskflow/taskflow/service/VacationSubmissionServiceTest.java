@@ -0,0 +1,256 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.dto.VacationInput;
+import com.taskflow.taskflow.exception.OverlappingVacationException;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.model.Vacation;
+import com.taskflow.taskflow.policy.VacationPolicyEngine;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.AuthorizationService;
+import com.taskflow.taskflow.security.CurrentUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacationSubmissionService Tests")
+class VacationSubmissionServiceTest {
+
+    private static final int CREATES = 400;
+    private static final int THREADS = 32;
+    private static final int EMPLOYEES = 8;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private VacationAvailabilityService vacationAvailabilityService;
+
+    @Mock
+    private VacationBalanceService vacationBalanceService;
+
+    @Mock
+    private VacationPolicyEngine vacationPolicyEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+    private final ThreadLocal<Employee> caller = new ThreadLocal<>();
+    private VacationSubmissionService submissionService;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeMutationLock employeeMutationLock = new EmployeeMutationLock(employeeRepository);
+        VacationService vacationService = new VacationService(
+                vacationRepository, currentUserService, authorizationService,
+                vacationAvailabilityService, employeeMutationLock, vacationBalanceService,
+                vacationPolicyEngine, eventPublisher, 20
+        );
+        submissionService = new VacationSubmissionService(
+                vacationService, currentUserService, vacationAvailabilityService, employeeMutationLock, transactionManager);
+
+        lenient().when(currentUserService.getCurrentPrincipalName())
+                .thenAnswer(invocation -> Optional.ofNullable(caller.get()).map(e -> e.getId().toString()));
+        lenient().when(currentUserService.getCurrentEmployee()).thenAnswer(invocation -> Optional.ofNullable(caller.get()));
+        lenient().when(vacationAvailabilityService.overlapScope(any()))
+                .thenAnswer(invocation -> List.of(invocation.<Employee>getArgument(0).getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep exactly one of hundreds of concurrent identical creates per employee")
+    void shouldKeepOneOfConcurrentDuplicateCreates() throws Exception {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(createDefaultEmployee());
+        }
+        LocalDate[] dates = futureDateRange(10, 5);
+
+        // the write is a plain read-then-insert, so only the lock keeps a second row out
+        Map<UUID, List<Vacation>> table = new ConcurrentHashMap<>();
+        Map<UUID, AtomicInteger> inside = new ConcurrentHashMap<>();
+        AtomicInteger maxInsideSameEmployee = new AtomicInteger();
+        when(vacationRepository.saveAndFlush(any(Vacation.class))).thenAnswer(invocation -> {
+            Vacation v = invocation.getArgument(0);
+            UUID employeeId = v.getRequester().getId();
+            int same = inside.computeIfAbsent(employeeId, e -> new AtomicInteger()).incrementAndGet();
+            maxInsideSameEmployee.accumulateAndGet(same, Math::max);
+            try {
+                List<Vacation> rows = table.computeIfAbsent(employeeId, e -> Collections.synchronizedList(new ArrayList<>()));
+                boolean overlaps = rows.stream().anyMatch(r ->
+                        !r.getStartDate().isAfter(v.getEndDate()) && !v.getStartDate().isAfter(r.getEndDate()));
+                Thread.yield();
+                if (overlaps) {
+                    throw exclusionViolation();
+                }
+                v.setId(UUID.randomUUID());
+                rows.add(v);
+                return v;
+            } finally {
+                inside.get(employeeId).decrementAndGet();
+            }
+        });
+        when(vacationAvailabilityService.overlappingVacation(any(), any(), any(), any()))
+                .thenAnswer(invocation -> new OverlappingVacationException(
+                        "Requested vacation overlaps with an existing vacation", List.of(), 6));
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> creates = new ArrayList<>();
+        try {
+            for (int i = 0; i < CREATES; i++) {
+                Employee employee = employees.get(i % EMPLOYEES);
+                creates.add(pool.submit(() -> {
+                    caller.set(employee);
+                    try {
+                        start.await();
+                        submissionService.create(createVacationInput(dates[0], dates[1]));
+                        return true;
+                    } catch (OverlappingVacationException ex) {
+                        return false;
+                    } finally {
+                        caller.remove();
+                    }
+                }));
+            }
+            start.countDown();
+            int created = 0;
+            for (Future<Boolean> create : creates) {
+                if (create.get(30, TimeUnit.SECONDS)) {
+                    created++;
+                }
+            }
+            assertEquals(EMPLOYEES, created);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, maxInsideSameEmployee.get());
+        table.values().forEach(rows -> assertEquals(1, rows.size()));
+        // queued requests wait on the stripe without a transaction, so at most one per login is open
+        assertTrue(transactionManager.maxOpen.get() <= EMPLOYEES,
+                "open transactions peaked at " + transactionManager.maxOpen.get());
+        verify(employeeRepository, times(CREATES)).lockForTransaction(anyLong());
+        verify(eventPublisher, times(EMPLOYEES)).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should load the overlap scope before the write transaction opens")
+    void shouldPreloadScopeBeforeTransaction() {
+        Employee employee = createDefaultEmployee();
+        caller.set(employee);
+        List<Boolean> transactionActive = new ArrayList<>();
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(vacationAvailabilityService).preload(List.of(employee.getId()));
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(vacationPolicyEngine).validate(any(), any(), any());
+        when(vacationRepository.saveAndFlush(any(Vacation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        try {
+            submissionService.create(createVacationInput(futureDate(10), futureDate(15)));
+        } finally {
+            caller.remove();
+        }
+
+        assertEquals(List.of(false, true), transactionActive);
+        assertEquals(1, transactionManager.committed.get());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input before taking a lock or a transaction")
+    void shouldValidateBeforeLocking() {
+        VacationInput input = createVacationInput(futureDate(10), futureDate(5));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> submissionService.create(input));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(currentUserService, vacationRepository);
+        assertEquals(0, transactionManager.maxOpen.get());
+    }
+
+    @Test
+    @DisplayName("Should throw FORBIDDEN without an authenticated login")
+    void shouldRequireLogin() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> submissionService.create(createVacationInput(futureDate(10), futureDate(15))));
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    // begins, commits and rolls back nothing, but runs synchronizations like a real one and counts open transactions
+    private static final class CountingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicInteger maxOpen = new AtomicInteger();
+        private final AtomicInteger committed = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            open.decrementAndGet();
+        }
+    }
+}
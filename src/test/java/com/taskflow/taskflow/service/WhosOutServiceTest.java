@@ -0,0 +1,93 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.WhosOutResponse;
+import com.taskflow.taskflow.index.WhosOutIndex;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.taskflow.taskflow.util.VacationTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WhosOutService Tests")
+class WhosOutServiceTest {
+
+    @Mock
+    private WhosOutIndex whosOutIndex;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private WhosOutService whosOutService;
+
+    @BeforeEach
+    void setUp() {
+        whosOutService = new WhosOutService(whosOutIndex, employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should report approved over pending when an employee has both in the range")
+    void shouldPreferApprovedOverPending() {
+        Employee approved = createDefaultEmployee();
+        Employee both = createDefaultEmployee();
+        Employee pending = createDefaultEmployee();
+        approved.setFirstName("Ana");
+        both.setFirstName("Bruno");
+        pending.setFirstName("Carla");
+        LocalDate from = futureDate(10);
+        LocalDate to = futureDate(12);
+
+        when(whosOutIndex.findOut(from, to, VacationStatus.APPROVED)).thenReturn(List.of(both.getId(), approved.getId()));
+        when(whosOutIndex.findOut(from, to, VacationStatus.PENDING)).thenReturn(List.of(pending.getId(), both.getId()));
+        when(employeeRepository.findAllById(any())).thenReturn(List.of(pending, both, approved));
+
+        WhosOutResponse result = whosOutService.findWhosOut(from, to, true);
+
+        assertEquals(3, result.getEmployees().size());
+        assertEquals(approved.getId(), result.getEmployees().get(0).getEmployeeId());
+        assertEquals(VacationStatus.APPROVED, result.getEmployees().get(1).getStatus());
+        assertEquals(VacationStatus.PENDING, result.getEmployees().get(2).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should default to today and skip pending and the name lookup when nobody is out")
+    void shouldDefaultToToday() {
+        LocalDate today = LocalDate.now();
+        when(whosOutIndex.findOut(today, today, VacationStatus.APPROVED)).thenReturn(List.of());
+
+        WhosOutResponse result = whosOutService.findWhosOut(null, null, false);
+
+        assertEquals(today, result.getFrom());
+        assertEquals(today, result.getTo());
+        assertTrue(result.getEmployees().isEmpty());
+        verify(whosOutIndex, never()).findOut(any(), any(), eq(VacationStatus.PENDING));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST when the range is longer than the maximum")
+    void shouldRejectLongRanges() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> whosOutService.findWhosOut(futureDate(1), futureDate(1 + WhosOutService.MAX_RANGE_DAYS), false)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(whosOutIndex);
+    }
+}
@@ -0,0 +1,162 @@
+package com.taskflow.taskflow.service;
+
+import com.taskflow.taskflow.data.VacationStatus;
+import com.taskflow.taskflow.dto.EmployeeRuns;
+import com.taskflow.taskflow.dto.VacationSpan;
+import com.taskflow.taskflow.event.VacationChangedEvent;
+import com.taskflow.taskflow.model.Employee;
+import com.taskflow.taskflow.repository.ArchivedVacationRepository;
+import com.taskflow.taskflow.repository.EmployeeRepository;
+import com.taskflow.taskflow.repository.VacationRepository;
+import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.service.YearViewService.RenderedYearView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.taskflow.taskflow.util.EmployeeTestHelper.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("YearViewService Tests")
+class YearViewServiceTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2030, 1, 1);
+    private static final LocalDate DEC_31 = LocalDate.of(2030, 12, 31);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private ArchivedVacationRepository archivedVacationRepository;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private YearViewService yearViewService;
+
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bia = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        yearViewService = new YearViewService(employeeRepository, vacationRepository, archivedVacationRepository, currentUserService);
+    }
+
+    @Test
+    @DisplayName("Should clip runs to the year and merge adjacent vacations with the same status")
+    void shouldEncodeRuns() {
+        loginAsAdmin();
+        when(vacationRepository.findAllSpansOverlappingByEmployee(YearViewService.STATUSES, JAN_1, DEC_31)).thenReturn(List.of(
+                new VacationSpan(ana, LocalDate.of(2029, 12, 28), LocalDate.of(2030, 1, 3), VacationStatus.APPROVED),
+                new VacationSpan(ana, LocalDate.of(2030, 1, 4), LocalDate.of(2030, 1, 8), VacationStatus.APPROVED),
+                new VacationSpan(ana, LocalDate.of(2030, 1, 9), LocalDate.of(2030, 1, 9), VacationStatus.PENDING),
+                new VacationSpan(bia, LocalDate.of(2030, 12, 30), LocalDate.of(2031, 1, 5), VacationStatus.PENDING)
+        ));
+
+        RenderedYearView rendered = yearViewService.find(null, 2030);
+
+        List<EmployeeRuns> employees = rendered.view().getEmployees();
+        assertEquals(2, employees.size());
+        int jan1 = (int) JAN_1.toEpochDay();
+        assertEquals(ana, employees.get(0).getEmployeeId());
+        assertArrayEquals(new int[]{jan1, 8, 1, jan1 + 8, 1, 0}, employees.get(0).getRuns());
+        assertArrayEquals(new int[]{(int) LocalDate.of(2030, 12, 30).toEpochDay(), 2, 0}, employees.get(1).getRuns());
+        assertEquals(List.of(VacationStatus.PENDING, VacationStatus.APPROVED), rendered.view().getStatuses());
+        assertNull(rendered.view().getManagerId());
+    }
+
+    @Test
+    @DisplayName("Should serve a view from memory until a vacation in its year changes")
+    void shouldCacheUntilYearChanges() {
+        loginAsAdmin();
+        when(vacationRepository.findAllSpansOverlappingByEmployee(any(), any(), any())).thenReturn(List.of(
+                new VacationSpan(ana, LocalDate.of(2030, 3, 1), LocalDate.of(2030, 3, 5), VacationStatus.PENDING)
+        ));
+
+        RenderedYearView first = yearViewService.find(null, 2030);
+        assertSame(first, yearViewService.find(null, 2030));
+
+        yearViewService.onVacationChanged(new VacationChangedEvent(UUID.randomUUID(), bia,
+                LocalDate.of(2031, 2, 1), LocalDate.of(2031, 2, 3), null, VacationStatus.PENDING));
+        assertSame(first, yearViewService.find(null, 2030));
+        verify(vacationRepository, times(1)).findAllSpansOverlappingByEmployee(any(), any(), any());
+
+        yearViewService.onVacationChanged(new VacationChangedEvent(UUID.randomUUID(), ana,
+                LocalDate.of(2030, 3, 1), LocalDate.of(2030, 3, 5), VacationStatus.PENDING, VacationStatus.APPROVED));
+        RenderedYearView second = yearViewService.find(null, 2030);
+
+        assertNotSame(first, second);
+        // same rows from the mock, so the content tag is unchanged
+        assertEquals(first.etag(), second.etag());
+        verify(vacationRepository, times(2)).findAllSpansOverlappingByEmployee(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should show a manager's reporting tree, the manager included")
+    void shouldScopeToManagerTree() {
+        Employee manager = createManager("Rita", "Alves", "rita@example.com");
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+        when(employeeRepository.existsById(manager.getId())).thenReturn(true);
+        when(employeeRepository.findTeamIdsTransitive(manager.getId())).thenReturn(List.of(ana));
+        when(vacationRepository.findSpansOverlappingByEmployee(any(), any(), any(), any())).thenReturn(List.of());
+
+        RenderedYearView rendered = yearViewService.find(null, 2030);
+
+        assertEquals(manager.getId(), rendered.view().getManagerId());
+        verify(vacationRepository).findSpansOverlappingByEmployee(
+                Set.of(manager.getId(), ana), YearViewService.STATUSES, JAN_1, DEC_31);
+        verify(vacationRepository, never()).findAllSpansOverlappingByEmployee(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw FORBIDDEN when a manager asks for another reporting tree")
+    void shouldForbidOtherTrees() {
+        Employee manager = createManager("Rita", "Alves", "rita@example.com");
+        when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(manager));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> yearViewService.find(UUID.randomUUID(), 2030)
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw BAD_REQUEST for a year that was moved to the archive")
+    void shouldRejectArchivedYears() {
+        loginAsAdmin();
+        when(archivedVacationRepository.findArchivedThrough()).thenReturn(Optional.of(LocalDate.of(2030, 11, 30)));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> yearViewService.find(null, 2030)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(vacationRepository);
+    }
+
+    private void loginAsAdmin() {
+        when(currentUserService.getCurrentEmployee())
+                .thenReturn(Optional.of(createAdmin("Ada", "Lopes", "ada@example.com")));
+    }
+}
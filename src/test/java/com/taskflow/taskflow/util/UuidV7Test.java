@@ -0,0 +1,68 @@
+package com.taskflow.taskflow.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should set RFC 9562 version and variant bits")
+    void shouldSetVersionAndVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("Should embed the creation timestamp")
+    void shouldEmbedCreationTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        long embedded = UuidV7.extractEpochMillis(uuid);
+        assertTrue(embedded >= before, "timestamp should not be before generation");
+        assertTrue(embedded <= after + 1, "timestamp should not run ahead of the clock");
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing in byte order within the same millisecond")
+    void shouldBeStrictlyIncreasing() {
+        // a private sequence, so the fixed timestamp cannot leak into the shared generator
+        UuidV7 generator = new UuidV7();
+        long now = System.currentTimeMillis();
+        UUID previous = generator.next(now);
+
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.next(now);
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0,
+                    "expected " + previous + " < " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should not move backwards when the clock does")
+    void shouldNotMoveBackwardsWithClock() {
+        UuidV7 generator = new UuidV7();
+        long now = System.currentTimeMillis();
+
+        UUID ahead = generator.next(now + 1_000);
+        UUID behind = generator.next(now);
+
+        assertTrue(Long.compareUnsigned(ahead.getMostSignificantBits(), behind.getMostSignificantBits()) < 0);
+        assertEquals(now + 1_000, UuidV7.extractEpochMillis(behind));
+    }
+
+    @Test
+    @DisplayName("Should reject extracting a timestamp from a random UUID")
+    void shouldRejectRandomUuid() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.extractEpochMillis(UUID.randomUUID()));
+    }
+}
@@ -2,14 +2,17 @@ package com.taskflow.taskflow.util;
 
 import com.taskflow.taskflow.data.VacationStatus;
 import com.taskflow.taskflow.dto.VacationInput;
+import com.taskflow.taskflow.exception.OverlappingVacationException;
 import com.taskflow.taskflow.model.Employee;
 import com.taskflow.taskflow.model.Vacation;
 import com.taskflow.taskflow.repository.VacationRepository;
 import com.taskflow.taskflow.security.CurrentUserService;
+import com.taskflow.taskflow.service.VacationAvailabilityService;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,6 +44,7 @@ public class VacationTestHelper {
         vacation.setStartDate(startDate);
         vacation.setEndDate(endDate);
         vacation.setStatus(status);
+        vacation.setRequester(createDefaultEmployee());
         return vacation;
     }
 
@@ -50,13 +54,7 @@ public class VacationTestHelper {
             Employee employee) {
 
         when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(employee));
-        when(vacationRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(
-                any(LocalDate.class),
-                any(LocalDate.class),
-                eq(Arrays.asList(VacationStatus.PENDING, VacationStatus.APPROVED))
-        )).thenReturn(Collections.emptyList());
-
-        when(vacationRepository.save(any(Vacation.class))).thenAnswer(invocation -> {
+        when(vacationRepository.saveAndFlush(any(Vacation.class))).thenAnswer(invocation -> {
             Vacation saved = invocation.getArgument(0);
             saved.setId(UUID.randomUUID());
             return saved;
@@ -66,15 +64,27 @@ public class VacationTestHelper {
     public static void setupConflictMocks(
             CurrentUserService currentUserService,
             VacationRepository vacationRepository,
+            VacationAvailabilityService vacationAvailabilityService,
             Employee employee,
             Vacation conflictingVacation) {
 
+        List<UUID> scope = List.of(employee.getId());
+        LocalDate freeFrom = conflictingVacation.getEndDate().plusDays(1);
+
         when(currentUserService.getCurrentEmployee()).thenReturn(Optional.of(employee));
-        when(vacationRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqualAndStatusIn(
-                any(LocalDate.class),
-                any(LocalDate.class),
-                eq(Arrays.asList(VacationStatus.PENDING, VacationStatus.APPROVED))
-        )).thenReturn(Collections.singletonList(conflictingVacation));
+        when(vacationAvailabilityService.overlapScope(employee)).thenReturn(scope);
+        when(vacationRepository.saveAndFlush(any(Vacation.class))).thenThrow(exclusionViolation());
+        when(vacationAvailabilityService.overlappingVacation(eq(scope), any(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(invocation -> new OverlappingVacationException(
+                        "Requested vacation overlaps with an existing vacation",
+                        List.of(new OverlappingVacationException.Suggestion(freeFrom, freeFrom.plusDays(5))),
+                        (int) VacationHelper.calendarSpanDays(invocation.getArgument(2), invocation.getArgument(3))
+                ));
+    }
+
+    public static DataIntegrityViolationException exclusionViolation() {
+        return new DataIntegrityViolationException(
+                "conflicting key value", new SQLException("conflicting key value violates exclusion constraint", SqlStateUtils.EXCLUSION_VIOLATION));
     }
 
     public static LocalDate futureDate(int daysFromNow) {